@@ -0,0 +1,297 @@
+package com.setycz.chickens.gametest;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.SpawnType;
+import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.blockentity.BreederBlockEntity;
+import com.setycz.chickens.blockentity.CollectorBlockEntity;
+import com.setycz.chickens.blockentity.HenhouseBlockEntity;
+import com.setycz.chickens.blockentity.RoostBlockEntity;
+import com.setycz.chickens.entity.ChickensChicken;
+import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.item.ChickenStats;
+import com.setycz.chickens.item.ChickensSpawnEggItem;
+import com.setycz.chickens.registry.ModEntityTypes;
+import com.setycz.chickens.registry.ModRegistry;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.Container;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.material.Fluids;
+import net.neoforged.neoforge.energy.IEnergyStorage;
+import net.neoforged.neoforge.fluids.FluidStack;
+import net.neoforged.neoforge.fluids.capability.IFluidHandler;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+
+/**
+ * Farm-scale stress scenarios. Each test builds a large, fully deterministic
+ * layout inside an empty structure, runs it for a fixed number of ticks,
+ * asserts the farm produced at least what the slowest possible lay schedule
+ * allows, and reports mean and p99 mod tick time through
+ * {@link FarmTickRecorder}. Every scenario has its own batch so they run one
+ * after another and never share a measured tick.
+ *
+ * <p>Run with {@code ./gradlew runGameTestServer}; pass
+ * {@code -Dchickens.stress.maxP99Ms=<ms>} to turn the timings into a gate.</p>
+ */
+@GameTestHolder(ChickensMod.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class FarmStressTests {
+    // Parentless tier-one chicken with a short lay time so entity and breeder
+    // scenarios produce within a few hundred ticks. Registered on first use.
+    private static final int STRESS_CHICKEN_ID = 990_001;
+    private static final String STRESS_CHICKEN_NAME = "GameTestStressChicken";
+    private static final float STRESS_LAY_COEFFICIENT = 0.01F;
+
+    private static final int ROOST_TICKS = 600;
+    private static final int ROOST_COLUMNS = 40;
+    private static final int ROOST_ROWS = 25;
+    private static final int ROOST_CHICKENS = 16;
+    private static final int[] COLLECTOR_COLUMNS = {4, 13, 22, 31, 36};
+    private static final int[] COLLECTOR_ROWS = {4, 13, 21};
+
+    private static final int PEN_TICKS = 400;
+    private static final int PEN_SIZE = 32;
+    private static final int PEN_CHICKENS = 500;
+    private static final int HENHOUSE_SPACING = 4;
+
+    private static final int BREEDER_TICKS = 400;
+    private static final int BREEDER_GRID = 8;
+    private static final int BREEDER_SEEDS = 64;
+
+    private static final int DOUSING_TICKS = 600;
+    private static final int DOUSING_COLUMNS = 16;
+    private static final int DOUSING_LAYERS = 4;
+
+    private FarmStressTests() {
+    }
+
+    /**
+     * 1,000 roosts of sixteen growth-10 white chickens in a single layer, with
+     * collectors on top draining every roost in reach.
+     */
+    @GameTest(template = "farm_stress_roosts", batch = "farm_stress_roosts", timeoutTicks = ROOST_TICKS + 100)
+    public static void roostsWithCollectors(GameTestHelper helper) {
+        ChickensRegistryItem white = ChickensRegistry.getByEntityName("WhiteChicken");
+        helper.assertTrue(white != null, "WhiteChicken is not registered");
+        ItemStack chickens = chickenStack(white, ROOST_CHICKENS, new ChickenStats(10, 1, 1, true));
+        for (int x = 0; x < ROOST_COLUMNS; x++) {
+            for (int z = 0; z < ROOST_ROWS; z++) {
+                BlockPos pos = new BlockPos(x, 1, z);
+                helper.setBlock(pos, ModRegistry.ROOST.get());
+                RoostBlockEntity roost = helper.getBlockEntity(pos);
+                roost.setItem(RoostBlockEntity.CHICKEN_SLOT, chickens.copy());
+            }
+        }
+        for (int x : COLLECTOR_COLUMNS) {
+            for (int z : COLLECTOR_ROWS) {
+                helper.setBlock(new BlockPos(x, 2, z), ModRegistry.COLLECTOR.get());
+            }
+        }
+
+        // A roost adds chickens * growth progress per tick towards a lay time of at most 2 * 6000 ticks.
+        int interval = Math.ceilDiv(white.getMaxLayTime(), ROOST_CHICKENS * 10) + 1;
+        long expected = (long) ROOST_COLUMNS * ROOST_ROWS * Math.max(ROOST_TICKS / interval - 1, 0);
+        FarmTickRecorder recorder = FarmTickRecorder.start("roosts", helper, ROOST_TICKS);
+        helper.runAtTickTime(ROOST_TICKS, () -> {
+            long produced = 0L;
+            for (int x = 0; x < ROOST_COLUMNS; x++) {
+                for (int z = 0; z < ROOST_ROWS; z++) {
+                    produced += countOutputs(helper.<RoostBlockEntity>getBlockEntity(new BlockPos(x, 1, z)),
+                            RoostBlockEntity.CHICKEN_SLOT + 1);
+                }
+            }
+            long collected = 0L;
+            for (int x : COLLECTOR_COLUMNS) {
+                for (int z : COLLECTOR_ROWS) {
+                    collected += countOutputs(helper.<CollectorBlockEntity>getBlockEntity(new BlockPos(x, 2, z)), 0);
+                }
+            }
+            recorder.finish(helper, produced + collected, expected);
+            helper.assertTrue(collected > 0, "collectors did not drain any roost");
+            helper.assertTrue(produced + collected >= expected,
+                    "roosts produced " + (produced + collected) + ", expected at least " + expected);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * 500 free-range chickens in a fenced pen whose floor is a grid of
+     * fuelled henhouses, so every egg goes through the henhouse lookup.
+     */
+    @GameTest(template = "farm_stress_pen", batch = "farm_stress_pen", timeoutTicks = PEN_TICKS + 100)
+    public static void freeRangePenWithHenhouses(GameTestHelper helper) {
+        ChickensRegistryItem stress = stressChicken();
+        for (int x = 0; x <= PEN_SIZE + 1; x++) {
+            for (int z = 0; z <= PEN_SIZE + 1; z++) {
+                boolean edge = x == 0 || z == 0 || x == PEN_SIZE + 1 || z == PEN_SIZE + 1;
+                boolean henhouse = !edge && x % HENHOUSE_SPACING == 2 && z % HENHOUSE_SPACING == 2;
+                BlockPos floor = new BlockPos(x, 0, z);
+                if (henhouse) {
+                    helper.setBlock(floor, ModRegistry.HENHOUSE.get());
+                    HenhouseBlockEntity house = helper.getBlockEntity(floor);
+                    house.setItem(HenhouseBlockEntity.HAY_SLOT, new ItemStack(Blocks.HAY_BLOCK, 16));
+                } else {
+                    helper.setBlock(floor, Blocks.STONE);
+                }
+                if (edge) {
+                    helper.setBlock(new BlockPos(x, 1, z), Blocks.OAK_FENCE);
+                    helper.setBlock(new BlockPos(x, 2, z), Blocks.OAK_FENCE);
+                }
+            }
+        }
+        ItemStack template = chickenStack(stress, 1, new ChickenStats(10, 1, 1, true));
+        for (int i = 0; i < PEN_CHICKENS; i++) {
+            int x = 1 + (i * 7) % PEN_SIZE;
+            int z = 1 + (i * 13 + i / PEN_SIZE) % PEN_SIZE;
+            ChickensChicken chicken = helper.spawn(ModEntityTypes.CHICKENS_CHICKEN.get(), new BlockPos(x, 1, z));
+            ChickenItemHelper.applyToEntity(template, chicken);
+        }
+
+        // Spawned chickens start on a growth-1 timer; every later egg uses the growth-10 timer.
+        int firstLay = stress.getMaxLayTime() * 2;
+        int laterLay = stress.getMaxLayTime() / 5 + 1;
+        long expected = PEN_TICKS < firstLay ? 0L : (long) PEN_CHICKENS * (1 + (PEN_TICKS - firstLay) / laterLay);
+        FarmTickRecorder recorder = FarmTickRecorder.start("pen", helper, PEN_TICKS);
+        helper.runAtTickTime(PEN_TICKS, () -> {
+            long produced = 0L;
+            for (int x = 1; x <= PEN_SIZE; x++) {
+                for (int z = 1; z <= PEN_SIZE; z++) {
+                    if (x % HENHOUSE_SPACING == 2 && z % HENHOUSE_SPACING == 2) {
+                        HenhouseBlockEntity house = helper.getBlockEntity(new BlockPos(x, 0, z));
+                        produced += countOutputs(house, HenhouseBlockEntity.FIRST_OUTPUT_SLOT);
+                    }
+                }
+            }
+            recorder.finish(helper, produced, expected);
+            helper.killAllEntities();
+            helper.assertTrue(produced >= expected,
+                    "henhouses received " + produced + " eggs, expected at least " + expected);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * An 8x8 array of breeders, each with two growth-10 parents and a full
+     * stack of seeds.
+     */
+    @GameTest(template = "farm_stress_breeders", batch = "farm_stress_breeders", timeoutTicks = BREEDER_TICKS + 100)
+    public static void breederArray(GameTestHelper helper) {
+        ChickensRegistryItem stress = stressChicken();
+        ItemStack parent = chickenStack(stress, 1, new ChickenStats(10, 10, 10, true));
+        for (int i = 0; i < BREEDER_GRID; i++) {
+            for (int j = 0; j < BREEDER_GRID; j++) {
+                BlockPos pos = new BlockPos(1 + i * 2, 1, 1 + j * 2);
+                helper.setBlock(pos, ModRegistry.BREEDER.get());
+                BreederBlockEntity breeder = helper.getBlockEntity(pos);
+                breeder.setItem(BreederBlockEntity.LEFT_CHICKEN_SLOT, parent.copy());
+                breeder.setItem(BreederBlockEntity.RIGHT_CHICKEN_SLOT, parent.copy());
+                breeder.setItem(BreederBlockEntity.SEED_SLOT, new ItemStack(Items.WHEAT_SEEDS, BREEDER_SEEDS));
+            }
+        }
+
+        // One parent adds its growth per tick towards the longer of the two lay times.
+        int interval = Math.ceilDiv(stress.getMaxLayTime(), 10) + 1;
+        int births = Math.min(BREEDER_TICKS / interval - 1, BREEDER_SEEDS / 2);
+        long expected = (long) BREEDER_GRID * BREEDER_GRID * Math.max(births, 0);
+        FarmTickRecorder recorder = FarmTickRecorder.start("breeders", helper, BREEDER_TICKS);
+        helper.runAtTickTime(BREEDER_TICKS, () -> {
+            long produced = 0L;
+            for (int i = 0; i < BREEDER_GRID; i++) {
+                for (int j = 0; j < BREEDER_GRID; j++) {
+                    BreederBlockEntity breeder = helper.getBlockEntity(new BlockPos(1 + i * 2, 1, 1 + j * 2));
+                    produced += countOutputs(breeder, BreederBlockEntity.SEED_SLOT + 1);
+                }
+            }
+            recorder.finish(helper, produced, expected);
+            helper.assertTrue(produced >= expected,
+                    "breeders produced " + produced + " chickens, expected at least " + expected);
+            helper.succeed();
+        });
+    }
+
+    /**
+     * A wall of dousing machines turning smart chickens into water chickens.
+     * Tanks and energy buffers are filled directly in place of pipes and
+     * generators.
+     */
+    @GameTest(template = "farm_stress_dousing", batch = "farm_stress_dousing", timeoutTicks = DOUSING_TICKS + 100)
+    public static void dousingWall(GameTestHelper helper) {
+        ChickensRegistryItem smart = ChickensRegistry.getSmartChicken();
+        helper.assertTrue(smart != null, "smart chicken is not registered");
+        ItemStack input = ChickensSpawnEggItem.createFor(smart).copyWithCount(64);
+        for (int x = 0; x < DOUSING_COLUMNS; x++) {
+            for (int y = 0; y < DOUSING_LAYERS; y++) {
+                BlockPos pos = new BlockPos(x, 1 + y, 1);
+                helper.setBlock(pos, ModRegistry.AVIAN_DOUSING_MACHINE.get());
+                AvianDousingMachineBlockEntity machine = helper.getBlockEntity(pos);
+                machine.setItem(0, input.copy());
+                machine.getFluidTank(null).fill(new FluidStack(Fluids.WATER,
+                        AvianDousingMachineBlockEntity.LIQUID_CAPACITY), IFluidHandler.FluidAction.EXECUTE);
+                IEnergyStorage energy = machine.getEnergyStorage(null);
+                while (energy.receiveEnergy(AvianDousingMachineBlockEntity.ENERGY_MAX_RECEIVE, false) > 0) {
+                    // Fill the buffer one maximum transfer at a time.
+                }
+            }
+        }
+
+        // Each conversion takes exactly MAX_PROGRESS ticks while resources last.
+        long expected = (long) DOUSING_COLUMNS * DOUSING_LAYERS
+                * (DOUSING_TICKS / AvianDousingMachineBlockEntity.MAX_PROGRESS - 1);
+        FarmTickRecorder recorder = FarmTickRecorder.start("dousing", helper, DOUSING_TICKS);
+        helper.runAtTickTime(DOUSING_TICKS, () -> {
+            long produced = 0L;
+            for (int x = 0; x < DOUSING_COLUMNS; x++) {
+                for (int y = 0; y < DOUSING_LAYERS; y++) {
+                    AvianDousingMachineBlockEntity machine = helper.getBlockEntity(new BlockPos(x, 1 + y, 1));
+                    for (int slot = 0; slot < machine.getContainerSize(); slot++) {
+                        ItemStack stack = machine.getItem(slot);
+                        if (!stack.isEmpty() && ChickenItemHelper.getChickenType(stack) != smart.getId()) {
+                            produced += stack.getCount();
+                        }
+                    }
+                }
+            }
+            recorder.finish(helper, produced, expected);
+            helper.assertTrue(produced >= expected,
+                    "dousing machines converted " + produced + " chickens, expected at least " + expected);
+            helper.succeed();
+        });
+    }
+
+    private static ChickensRegistryItem stressChicken() {
+        ChickensRegistryItem chicken = ChickensRegistry.getByType(STRESS_CHICKEN_ID);
+        if (chicken != null) {
+            return chicken;
+        }
+        chicken = new ChickensRegistryItem(STRESS_CHICKEN_ID, STRESS_CHICKEN_NAME,
+                ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "textures/entity/whitechicken.png"),
+                new ItemStack(Items.FEATHER), 0xFFFFFF, 0xC0C0C0)
+                .setLayCoefficient(STRESS_LAY_COEFFICIENT)
+                .setSpawnType(SpawnType.NONE);
+        ChickensRegistry.register(chicken);
+        return chicken;
+    }
+
+    private static ItemStack chickenStack(ChickensRegistryItem chicken, int count, ChickenStats stats) {
+        ItemStack stack = new ItemStack(ModRegistry.CHICKEN_ITEM.get(), count);
+        ChickenItemHelper.setChickenType(stack, chicken.getId());
+        ChickenItemHelper.setStats(stack, stats);
+        return stack;
+    }
+
+    private static long countOutputs(Container container, int firstOutputSlot) {
+        long total = 0L;
+        for (int slot = firstOutputSlot; slot < container.getContainerSize(); slot++) {
+            total += container.getItem(slot).getCount();
+        }
+        return total;
+    }
+}
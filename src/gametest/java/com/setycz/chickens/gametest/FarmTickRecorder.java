@@ -0,0 +1,152 @@
+package com.setycz.chickens.gametest;
+
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.phys.AABB;
+import net.neoforged.fml.loading.FMLPaths;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Collects the time Modern Chickens tickers and chickens spend inside one
+ * GameTest structure, one sample per server tick. Sections outside the test's
+ * bounds are ignored so scenarios in other batches, or the rest of the world,
+ * never leak into the numbers.
+ */
+final class FarmTickRecorder implements TickTimings.Listener {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensFarmStress");
+    // Optional regression gate: fail a scenario whose p99 mod tick time exceeds this many milliseconds.
+    private static final String MAX_P99_PROPERTY = "chickens.stress.maxP99Ms";
+
+    private final String scenario;
+    private final Level level;
+    private final AABB bounds;
+    private final long[] samples;
+    private final long[] sourceNanos = new long[TickSource.values().length];
+    private int sampleCount;
+    private long currentTickNanos;
+
+    private FarmTickRecorder(String scenario, GameTestHelper helper, int ticks) {
+        this.scenario = scenario;
+        this.level = helper.getLevel();
+        this.bounds = helper.getBounds();
+        this.samples = new long[ticks];
+    }
+
+    /**
+     * Starts recording for {@code ticks} server ticks. Each tick's sample is
+     * closed from {@link GameTestHelper#onEachTick}, which runs once per
+     * server tick alongside the level tick being measured.
+     */
+    static FarmTickRecorder start(String scenario, GameTestHelper helper, int ticks) {
+        FarmTickRecorder recorder = new FarmTickRecorder(scenario, helper, ticks);
+        TickTimings.addListener(recorder);
+        helper.onEachTick(recorder::closeTick);
+        return recorder;
+    }
+
+    @Override
+    public void record(TickSource source, Level level, BlockPos pos, long nanos) {
+        if (level != this.level || !bounds.contains(pos.getX() + 0.5D, pos.getY() + 0.5D, pos.getZ() + 0.5D)) {
+            return;
+        }
+        if (!source.isNested()) {
+            currentTickNanos += nanos;
+        }
+        sourceNanos[source.ordinal()] += nanos;
+    }
+
+    private void closeTick() {
+        if (sampleCount < samples.length) {
+            samples[sampleCount++] = currentTickNanos;
+        }
+        currentTickNanos = 0L;
+    }
+
+    /**
+     * Stops recording, logs and writes the report, and fails the test when the
+     * optional p99 budget is exceeded.
+     */
+    void finish(GameTestHelper helper, long produced, long expectedMinimum) {
+        TickTimings.removeListener(this);
+        long[] sorted = Arrays.copyOf(samples, sampleCount);
+        Arrays.sort(sorted);
+        long total = 0L;
+        for (long sample : sorted) {
+            total += sample;
+        }
+        double meanMs = sampleCount == 0 ? 0.0D : total / (double) sampleCount / 1_000_000.0D;
+        double p99Ms = sampleCount == 0 ? 0.0D
+                : sorted[Math.max(0, (int) Math.ceil(sampleCount * 0.99D) - 1)] / 1_000_000.0D;
+        double maxMs = sampleCount == 0 ? 0.0D : sorted[sampleCount - 1] / 1_000_000.0D;
+
+        StringBuilder breakdown = new StringBuilder();
+        for (TickSource source : TickSource.values()) {
+            long nanos = sourceNanos[source.ordinal()];
+            if (nanos == 0L) {
+                continue;
+            }
+            if (breakdown.length() > 0) {
+                breakdown.append(", ");
+            }
+            breakdown.append(source.name().toLowerCase(Locale.ROOT)).append(' ')
+                    .append(format(nanos / (double) Math.max(sampleCount, 1) / 1_000_000.0D)).append(" ms");
+        }
+        LOGGER.info("Farm stress {}: {} ticks, mean {} ms, p99 {} ms, max {} ms per tick [{}]; produced {} (expected >= {})",
+                scenario, sampleCount, format(meanMs), format(p99Ms), format(maxMs), breakdown, produced,
+                expectedMinimum);
+        writeReport(meanMs, p99Ms, maxMs, produced, expectedMinimum);
+
+        String budget = System.getProperty(MAX_P99_PROPERTY);
+        if (budget != null) {
+            double limit = Double.parseDouble(budget);
+            helper.assertTrue(p99Ms <= limit, "p99 mod tick time " + format(p99Ms) + " ms exceeds the " + budget
+                    + " ms budget in " + scenario);
+        }
+    }
+
+    private void writeReport(double meanMs, double p99Ms, double maxMs, long produced, long expectedMinimum) {
+        Path logDir = FMLPaths.GAMEDIR.get().resolve("logs");
+        Path output = logDir.resolve("chickens_farm_stress_" + scenario + ".json");
+        try {
+            Files.createDirectories(logDir);
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                writer.write("{\n");
+                writer.write("  \"scenario\": \"" + scenario + "\",\n");
+                writer.write("  \"ticks\": " + sampleCount + ",\n");
+                writer.write("  \"meanMs\": " + format(meanMs) + ",\n");
+                writer.write("  \"p99Ms\": " + format(p99Ms) + ",\n");
+                writer.write("  \"maxMs\": " + format(maxMs) + ",\n");
+                writer.write("  \"produced\": " + produced + ",\n");
+                writer.write("  \"expectedMinimum\": " + expectedMinimum + ",\n");
+                writer.write("  \"sourcesMsPerTick\": {");
+                boolean first = true;
+                for (TickSource source : TickSource.values()) {
+                    writer.write(first ? "\n" : ",\n");
+                    first = false;
+                    double perTick = sourceNanos[source.ordinal()] / (double) Math.max(sampleCount, 1) / 1_000_000.0D;
+                    writer.write("    \"" + source.name().toLowerCase(Locale.ROOT) + "\": " + format(perTick));
+                }
+                writer.write("\n  }\n");
+                writer.write("}\n");
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write farm stress report {}", output, e);
+        }
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
@@ -0,0 +1,58 @@
+package com.setycz.chickens.gametest;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.blockentity.OutputBuffer;
+import com.setycz.chickens.blockentity.OutputBufferItemHandler;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.neoforged.neoforge.gametest.GameTestHolder;
+import net.neoforged.neoforge.gametest.PrefixGameTestTemplate;
+import net.neoforged.neoforge.items.ItemStackHandler;
+
+/**
+ * Checks on the item handler in front of a container's output buffer. The
+ * handler is exercised directly, so the tests borrow an empty stress
+ * structure and never place a block.
+ */
+@GameTestHolder(ChickensMod.MOD_ID)
+@PrefixGameTestTemplate(false)
+public final class OutputBufferTests {
+    private static final int REAL_SLOTS = 2;
+    private static final long BUFFERED_EGGS = 10_000L;
+
+    private OutputBufferTests() {
+    }
+
+    /**
+     * A pipe asking a virtual slot for everything gets one max-size stack and
+     * the rest stays buffered.
+     */
+    @GameTest(template = "farm_stress_roosts", batch = "output_buffer")
+    public static void extractCapsAtMaxStackSize(GameTestHelper helper) {
+        OutputBuffer buffer = new OutputBuffer();
+        buffer.insert(new ItemStack(Items.EGG), BUFFERED_EGGS, Long.MAX_VALUE);
+        OutputBufferItemHandler handler = new OutputBufferItemHandler(new ItemStackHandler(REAL_SLOTS), buffer, () -> {
+        });
+        int maxStackSize = Items.EGG.getDefaultMaxStackSize();
+
+        helper.assertTrue(handler.getSlots() == REAL_SLOTS + 1, "buffered entry has no virtual slot");
+        helper.assertTrue(handler.getSlotLimit(REAL_SLOTS) == maxStackSize,
+                "virtual slot limit is " + handler.getSlotLimit(REAL_SLOTS) + ", expected " + maxStackSize);
+        helper.assertTrue(handler.getStackInSlot(REAL_SLOTS).getCount() == maxStackSize,
+                "virtual slot shows " + handler.getStackInSlot(REAL_SLOTS).getCount() + " items");
+
+        ItemStack simulated = handler.extractItem(REAL_SLOTS, Integer.MAX_VALUE, true);
+        helper.assertTrue(simulated.is(Items.EGG) && simulated.getCount() == maxStackSize,
+                "simulated extraction returned " + simulated);
+        helper.assertTrue(buffer.getTotal() == BUFFERED_EGGS, "simulated extraction changed the buffer");
+
+        ItemStack extracted = handler.extractItem(REAL_SLOTS, Integer.MAX_VALUE, false);
+        helper.assertTrue(extracted.is(Items.EGG) && extracted.getCount() == maxStackSize,
+                "extraction returned " + extracted);
+        helper.assertTrue(buffer.getTotal() == BUFFERED_EGGS - maxStackSize,
+                "buffer holds " + buffer.getTotal() + " after extraction");
+        helper.succeed();
+    }
+}
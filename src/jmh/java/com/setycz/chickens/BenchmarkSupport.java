@@ -0,0 +1,74 @@
+package com.setycz.chickens;
+
+import net.minecraft.SharedConstants;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.Bootstrap;
+import net.minecraft.world.item.Item;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Shared setup for the JMH benchmarks. Boots the vanilla registries once per
+ * JVM and builds deterministic synthetic chicken registries, so every fork of a
+ * benchmark measures the same breeding graph.
+ */
+public final class BenchmarkSupport {
+    private static final ResourceLocation TEXTURE = ResourceLocation.fromNamespaceAndPath(
+            ChickensMod.MOD_ID, "textures/entity/unknownchicken.png");
+    private static final Item[] LAY_ITEMS = {
+            Items.EGG, Items.IRON_INGOT, Items.GOLD_INGOT, Items.REDSTONE, Items.COAL, Items.DIAMOND,
+            Items.EMERALD, Items.LAPIS_LAZULI, Items.QUARTZ, Items.SLIME_BALL, Items.BONE, Items.STRING
+    };
+    // Roughly the size of the curated base roster that every tree grows from.
+    private static final int BASE_CHICKENS = 16;
+    private static boolean bootstrapped;
+
+    private BenchmarkSupport() {
+    }
+
+    /**
+     * Boots the vanilla registries. The mod itself is not loaded, so its own
+     * registry entries, such as data components and block entity types, do
+     * not exist; benchmarks stick to code paths that only need vanilla ones.
+     */
+    public static synchronized void bootstrap() {
+        if (bootstrapped) {
+            return;
+        }
+        SharedConstants.tryDetectVersion();
+        Bootstrap.bootStrap();
+        bootstrapped = true;
+    }
+
+    /**
+     * Replaces the chicken registry with {@code size} chickens. The first few
+     * are parentless tier-one chickens; every later one breeds from two
+     * earlier chickens picked with a fixed seed, which produces the deep,
+     * overlapping trees real packs have.
+     */
+    public static List<ChickensRegistryItem> syntheticRegistry(int size) {
+        bootstrap();
+        ChickensRegistry.clear();
+        Random random = new Random(0x5EEDL ^ size);
+        List<ChickensRegistryItem> chickens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ItemStack lay = new ItemStack(LAY_ITEMS[i % LAY_ITEMS.length]);
+            ChickensRegistryItem parent1 = null;
+            ChickensRegistryItem parent2 = null;
+            if (i >= BASE_CHICKENS) {
+                parent1 = chickens.get(random.nextInt(i));
+                parent2 = chickens.get(random.nextInt(i));
+            }
+            ChickensRegistryItem chicken = new ChickensRegistryItem(
+                    1000 + i, "bench_" + i, TEXTURE, lay, random.nextInt(0xFFFFFF), random.nextInt(0xFFFFFF),
+                    parent1, parent2);
+            ChickensRegistry.register(chicken);
+            chickens.add(chicken);
+        }
+        return chickens;
+    }
+}
@@ -0,0 +1,81 @@
+package com.setycz.chickens;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Breeding lookups against synthetic registries of increasing size. Each
+ * invocation picks the next pre-drawn parent pair or child so the benchmark
+ * walks the whole tree rather than one hot entry.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChickensRegistryBenchmark {
+    private static final int SAMPLES = 1024;
+
+    @Param({"100", "1000", "10000"})
+    public int size;
+
+    private ChickensRegistryItem[] parents1;
+    private ChickensRegistryItem[] parents2;
+    private ChickensRegistryItem[] children;
+    private int[] ids;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ChickensRegistryItem> chickens = BenchmarkSupport.syntheticRegistry(size);
+        Random random = new Random(42L);
+        parents1 = new ChickensRegistryItem[SAMPLES];
+        parents2 = new ChickensRegistryItem[SAMPLES];
+        children = new ChickensRegistryItem[SAMPLES];
+        ids = new int[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            ChickensRegistryItem child = chickens.get(random.nextInt(chickens.size()));
+            children[i] = child;
+            ids[i] = child.getId();
+            // Half the pairs are real parents of some chicken, half are arbitrary.
+            if (child.getParent1() != null && random.nextBoolean()) {
+                parents1[i] = child.getParent1();
+                parents2[i] = child.getParent2();
+            } else {
+                parents1[i] = chickens.get(random.nextInt(chickens.size()));
+                parents2[i] = chickens.get(random.nextInt(chickens.size()));
+            }
+        }
+    }
+
+    @Benchmark
+    public ChickensRegistryItem getRandomChild() {
+        int i = cursor++ & (SAMPLES - 1);
+        return ChickensRegistry.getRandomChild(parents1[i], parents2[i]);
+    }
+
+    @Benchmark
+    public ChickensRegistryItem getByType() {
+        return ChickensRegistry.getByType(ids[cursor++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    public float getChildChance() {
+        return ChickensRegistry.getChildChance(children[cursor++ & (SAMPLES - 1)]);
+    }
+}
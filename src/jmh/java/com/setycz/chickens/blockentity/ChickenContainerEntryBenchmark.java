@@ -0,0 +1,63 @@
+package com.setycz.chickens.blockentity;
+
+import com.setycz.chickens.BenchmarkSupport;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity.ChickenContainerEntry;
+import com.setycz.chickens.item.ChickenStats;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.item.ItemStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of building the per-slot chicken entry a roost or breeder caches, and
+ * of producing one lay from it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChickenContainerEntryBenchmark {
+    private ChickensRegistryItem chicken;
+    private ChickenStats stats;
+    private ChickenContainerEntry entry;
+    private RandomSource random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ChickensRegistryItem> chickens = BenchmarkSupport.syntheticRegistry(100);
+        chicken = chickens.get(chickens.size() - 1);
+        stats = new ChickenStats(6, 7, 4, true);
+        entry = new ChickenContainerEntry(chicken, stats);
+        random = RandomSource.create(42L);
+    }
+
+    @Benchmark
+    public ChickenContainerEntry createEntry() {
+        return new ChickenContainerEntry(chicken, stats);
+    }
+
+    @Benchmark
+    public ItemStack createLay() {
+        return entry.createLay(random);
+    }
+
+    @Benchmark
+    public int getLayTime() {
+        return entry.getLayTime(random);
+    }
+}
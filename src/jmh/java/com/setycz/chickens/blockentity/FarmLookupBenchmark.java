@@ -0,0 +1,127 @@
+package com.setycz.chickens.blockentity;
+
+import com.setycz.chickens.BenchmarkSupport;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.BlockGetter;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.FluidState;
+import net.minecraft.world.level.material.Fluids;
+import net.minecraft.world.phys.Vec3;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The neighbourhood sweeps a laying chicken and a collector run, over a stub
+ * level laid out like a compact farm: a checkerboard wall of chicken
+ * containers three blocks high around the collector, plus a row of machines
+ * on each side where the henhouses would stand. The containers are the
+ * barrel-typed {@link OutputInsertBenchmark.OutputOnlyContainer}; henhouses
+ * and roosts can only be built on the mod's registered types, which do not
+ * exist outside the game. The collector therefore visits real containers,
+ * while the henhouse scan pays for every lookup but finds no henhouse.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FarmLookupBenchmark {
+    @Param({"4", "8"})
+    public int collectorRange;
+
+    private BlockGetter level;
+    private Vec3 chickenPos;
+    private BlockPos collectorPos;
+    private double searchRadius;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.bootstrap();
+        chickenPos = new Vec3(12.3D, 70.0D, -8.7D);
+        collectorPos = BlockPos.containing(chickenPos);
+        searchRadius = HenhouseBlockEntity.SEARCH_RADIUS;
+        FarmLevel farm = new FarmLevel();
+        for (int dx = -4; dx <= 4; dx += 2) {
+            farm.put(new OutputInsertBenchmark.OutputOnlyContainer(collectorPos.offset(dx, 0, -6)));
+            farm.put(new OutputInsertBenchmark.OutputOnlyContainer(collectorPos.offset(dx, 0, 6)));
+        }
+        for (int dx = -collectorRange; dx <= collectorRange; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -collectorRange; dz <= collectorRange; dz++) {
+                    BlockPos pos = collectorPos.offset(dx, dy, dz);
+                    if (((dx + dz) & 1) == 0 && Math.abs(dz) < 6 && !pos.equals(collectorPos)) {
+                        farm.put(new OutputInsertBenchmark.OutputOnlyContainer(pos));
+                    }
+                }
+            }
+        }
+        level = farm;
+    }
+
+    @Benchmark
+    public List<HenhouseBlockEntity> findHenhouses() {
+        return HenhouseBlockEntity.findHenhouses(level, chickenPos, searchRadius);
+    }
+
+    @Benchmark
+    public void collectorSweep(Blackhole blackhole) {
+        CollectorBlockEntity.forEachContainer(level, pos -> true, collectorPos, collectorRange, container -> {
+            blackhole.consume(container);
+            return false;
+        });
+    }
+
+    private static final class FarmLevel implements BlockGetter {
+        private final Long2ObjectOpenHashMap<BlockEntity> blockEntities = new Long2ObjectOpenHashMap<>();
+
+        void put(BlockEntity blockEntity) {
+            blockEntities.put(blockEntity.getBlockPos().asLong(), blockEntity);
+        }
+
+        @Nullable
+        @Override
+        public BlockEntity getBlockEntity(BlockPos pos) {
+            return blockEntities.get(pos.asLong());
+        }
+
+        @Override
+        public BlockState getBlockState(BlockPos pos) {
+            BlockEntity blockEntity = blockEntities.get(pos.asLong());
+            return blockEntity == null ? Blocks.AIR.defaultBlockState() : blockEntity.getBlockState();
+        }
+
+        @Override
+        public FluidState getFluidState(BlockPos pos) {
+            return Fluids.EMPTY.defaultFluidState();
+        }
+
+        @Override
+        public int getHeight() {
+            return 384;
+        }
+
+        @Override
+        public int getMinBuildHeight() {
+            return -64;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.setycz.chickens.blockentity;
+
+import com.setycz.chickens.BenchmarkSupport;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity.ChickenContainerEntry;
+import com.setycz.chickens.item.ChickenStats;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.entity.player.Inventory;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.minecraft.world.inventory.ContainerData;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The roost lay path: one lay landing in an output slot that already holds
+ * the same item. Run with {@code -PjmhProfiler=gc}; {@code insertFromTemplate}
+ * should report a {@code gc.alloc.rate.norm} of zero bytes per operation,
+ * while {@code pushCopiedLay} shows what building a stack per lay costs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OutputInsertBenchmark {
+    private OutputOnlyContainer container;
+    private ChickenContainerEntry entry;
+    private ItemStack template;
+    private RandomSource random;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<ChickensRegistryItem> chickens = BenchmarkSupport.syntheticRegistry(16);
+        ChickensRegistryItem chicken = chickens.get(0);
+        entry = new ChickenContainerEntry(chicken, new ChickenStats(1, 1, 1, true));
+        template = chicken.getLayTemplate();
+        random = RandomSource.create(42L);
+        container = new OutputOnlyContainer();
+        container.insertIntoOutput(template, 1);
+    }
+
+    @Benchmark
+    public int insertFromTemplate() {
+        int remaining = container.insertIntoOutput(template, entry.getYield());
+        container.drain();
+        return remaining;
+    }
+
+    @Benchmark
+    public ItemStack pushCopiedLay() {
+        ItemStack remaining = container.pushIntoOutput(entry.createLay(random));
+        container.drain();
+        return remaining;
+    }
+
+    /**
+     * Bare container with no chicken or seed slots, bound to the vanilla
+     * barrel type because the mod's block entity types are not registered
+     * outside the game.
+     */
+    static final class OutputOnlyContainer extends AbstractChickenContainerBlockEntity {
+        OutputOnlyContainer() {
+            this(BlockPos.ZERO);
+        }
+
+        OutputOnlyContainer(BlockPos pos) {
+            super(BlockEntityType.BARREL, pos, Blocks.BARREL.defaultBlockState(), 4, 0);
+        }
+
+        /**
+         * Keeps the first output stack at one item without replacing it, so
+         * every insert grows an existing stack the way a busy roost does.
+         */
+        void drain() {
+            ItemStack first = getItem(getOutputSlotIndex());
+            if (first.getCount() > 32) {
+                first.setCount(1);
+            }
+        }
+
+        @Override
+        protected void spawnChickenItem(RandomSource random) {
+        }
+
+        @Override
+        protected int requiredSeedsForDrop() {
+            return 0;
+        }
+
+        @Override
+        protected double speedMultiplier() {
+            return 1.0D;
+        }
+
+        @Override
+        protected int getChickenSlotCount() {
+            return 0;
+        }
+
+        @Override
+        protected Component getDefaultName() {
+            return Component.empty();
+        }
+
+        @Override
+        @Nullable
+        protected AbstractContainerMenu createMenu(int id, Inventory playerInventory, ContainerData dataAccess) {
+            return null;
+        }
+
+        @Override
+        @Nullable
+        protected ChickenContainerEntry createChickenData(int slot, ItemStack stack) {
+            return null;
+        }
+
+        @Override
+        protected boolean syncsOutputToClient() {
+            return false;
+        }
+    }
+}
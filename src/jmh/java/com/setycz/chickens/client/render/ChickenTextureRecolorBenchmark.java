@@ -0,0 +1,57 @@
+package com.setycz.chickens.client.render;
+
+import com.mojang.blaze3d.platform.NativeImage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recolouring one chicken skin, as done once per dynamic chicken when its
+ * texture is first requested. The base is a synthetic greyscale 64x32 image
+ * with a transparent border so both the tint and the alpha pass-through run.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChickenTextureRecolorBenchmark {
+    private NativeImage base;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        base = new NativeImage(64, 32, true);
+        for (int y = 0; y < base.getHeight(); y++) {
+            for (int x = 0; x < base.getWidth(); x++) {
+                boolean border = x < 2 || y < 2 || x >= base.getWidth() - 2 || y >= base.getHeight() - 2;
+                int grey = (x * 7 + y * 13) & 0xFF;
+                int alpha = border ? 0 : 0xFF;
+                base.setPixelRGBA(x, y, (alpha << 24) | (grey << 16) | (grey << 8) | grey);
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        base.close();
+    }
+
+    @Benchmark
+    public int recolor() {
+        try (NativeImage image = DynamicChickenTextures.recolor(base, 0xD9A066, 0x6B3E1F)) {
+            return image.getPixelRGBA(32, 16);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.setycz.chickens.entity;
+
+import net.minecraft.util.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stat inheritance for one bred child. Parent stats cycle through the full
+ * 1-10 range so the clamp and mutation branches are all exercised.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BreedingStatBenchmark {
+    private RandomSource random;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        random = RandomSource.create(42L);
+    }
+
+    @Benchmark
+    public int calculateNewStat() {
+        int i = cursor++;
+        int stat1 = 1 + (i % 10);
+        int stat2 = 1 + ((i / 10) % 10);
+        return ChickensChicken.calculateNewStat(stat2, stat1, stat1, stat2, random);
+    }
+}
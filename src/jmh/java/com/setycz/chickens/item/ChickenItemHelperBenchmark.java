@@ -0,0 +1,66 @@
+package com.setycz.chickens.item;
+
+import com.setycz.chickens.BenchmarkSupport;
+import net.minecraft.core.component.DataComponents;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+import net.minecraft.world.item.component.CustomData;
+import net.minecraft.world.item.component.CustomModelData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads that run for every chicken stack rendered, inspected or inserted.
+ * Stacks are built on a vanilla item because the mod's items are not
+ * registered outside the game; the helpers only look at components. The
+ * liquid and chemical eggs that carry an egg payload are mod items as well,
+ * so only the custom-data path is measured.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChickenItemHelperBenchmark {
+    private ItemStack customDataStack;
+    private ItemStack statsStack;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        BenchmarkSupport.bootstrap();
+        customDataStack = new ItemStack(Items.EGG);
+        CustomData.update(DataComponents.CUSTOM_DATA, customDataStack,
+                tag -> tag.putInt(ChickenItemHelper.TAG_CHICKEN_TYPE, 1234));
+        customDataStack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(1234));
+
+        statsStack = customDataStack.copy();
+        ChickenItemHelper.setStats(statsStack, new ChickenStats(7, 5, 3, true));
+    }
+
+    @Benchmark
+    public int getChickenTypeFromCustomData() {
+        return ChickenItemHelper.getChickenType(customDataStack);
+    }
+
+    @Benchmark
+    public boolean isRooster() {
+        return ChickenItemHelper.isRooster(customDataStack);
+    }
+
+    @Benchmark
+    public ChickenStats getStats() {
+        return ChickenItemHelper.getStats(statsStack);
+    }
+}
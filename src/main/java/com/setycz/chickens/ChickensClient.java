@@ -7,9 +7,9 @@ import com.setycz.chickens.LiquidEggRegistryItem;
 import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.client.render.ChickenItemModels;
 import com.setycz.chickens.client.render.ChickenItemSpriteModels;
+import com.setycz.chickens.client.render.ChickenRenderDescriptor;
 import com.setycz.chickens.client.render.ChickensChickenRenderer;
 import com.setycz.chickens.client.render.DynamicChickenTextures;
-import com.setycz.chickens.client.render.LiquidChickenOverlayLayer;
 import com.setycz.chickens.client.render.RoosterModel;
 import com.setycz.chickens.client.render.RoosterRenderer;
 import com.setycz.chickens.client.render.blockentity.BreederBlockEntityRenderer;
@@ -106,9 +106,9 @@ public final class ChickensClient {
     @SubscribeEvent
     public static void onRegisterReloadListeners(RegisterClientReloadListenersEvent event) {
         event.registerReloadListener(DynamicChickenTextures.reloadListener());
-        event.registerReloadListener(ChickensChickenRenderer.textureAvailabilityReloader());
         event.registerReloadListener(ChickenItemSpriteModels.reloadListener());
-        event.registerReloadListener(LiquidChickenOverlayLayer.reloadListener());
+        // Registered after the dynamic texture cache so descriptors never keep a stale generated texture.
+        event.registerReloadListener(ChickenRenderDescriptor.reloadListener());
     }
 
     @SubscribeEvent
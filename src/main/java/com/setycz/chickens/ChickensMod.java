@@ -1,11 +1,16 @@
 package com.setycz.chickens;
 
+import com.setycz.chickens.blockentity.HenhouseBlockEntity;
+import com.setycz.chickens.blockentity.MachineLitState;
 import com.setycz.chickens.command.ChickensCommands;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.data.ChickensDataLoader;
 import com.setycz.chickens.data.BreedingGraphExporter;
 import com.setycz.chickens.RoostEggPreventer;
 import com.setycz.chickens.entity.NetherPopulationHandler;
+import com.setycz.chickens.network.ChickensNetwork;
+import com.setycz.chickens.profile.ChickensProfiler;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModRegistry;
 import com.setycz.chickens.data.ChickenItemModelProvider;
 import com.setycz.chickens.spawn.SpawnPlanDataLoader;
@@ -32,9 +37,14 @@ public final class ChickensMod {
 
     public ChickensMod(IEventBus modBus) {
         ModRegistry.init(modBus);
+        ChickensNetwork.init(modBus);
         modBus.addListener(this::onCommonSetup);
         ChickenTeachHandler.init();
         ChickensCommands.init();
+        ProductionStats.init();
+        ChickensProfiler.init();
+        HenhouseBlockEntity.init();
+        MachineLitState.init();
         NetherPopulationHandler.init();
         OverworldPopulationHandler.init();
         RoostEggPreventer.init();
@@ -68,7 +78,7 @@ public final class ChickensMod {
         }
         // Refresh spawn tables and export the breeding graph once KubeJS chickens are registered.
         ChickensSpawnManager.refreshFromRegistry();
-        BreedingGraphExporter.export(ChickensRegistry.getItems());
+        BreedingGraphExporter.exportAsync(ChickensRegistry.getItems());
     }
 
     private void onGatherData(GatherDataEvent event) {
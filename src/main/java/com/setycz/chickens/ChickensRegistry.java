@@ -1,5 +1,7 @@
 package com.setycz.chickens;
 
+import it.unimi.dsi.fastutil.ints.Int2ObjectLinkedOpenHashMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import net.minecraft.core.Holder;
 import net.minecraft.world.item.DyeColor;
 import net.minecraft.world.level.biome.Biome;
@@ -12,11 +14,16 @@ import java.util.*;
  * Central registry that keeps track of every chicken descriptor. Mirrors
  * the responsibilities of the legacy implementation but upgrades the
  * biome logic to make use of modern tag helpers.
+ *
+ * <p>Descriptors are keyed by their primitive id, iterate in registration
+ * order, and every change bumps {@link #version()} so callers can cache a
+ * resolved descriptor and only look it up again after the registry moved.</p>
  */
 public final class ChickensRegistry {
-    private static final Map<Integer, ChickensRegistryItem> ITEMS = new HashMap<>();
+    private static final Int2ObjectMap<ChickensRegistryItem> ITEMS = new Int2ObjectLinkedOpenHashMap<>();
     public static final int SMART_CHICKEN_ID = 50;
     private static final Random RAND = new Random();
+    private static volatile int version;
 
     private ChickensRegistry() {
     }
@@ -24,6 +31,23 @@ public final class ChickensRegistry {
     public static void register(ChickensRegistryItem entity) {
         validate(entity);
         ITEMS.put(entity.getId(), entity);
+        version++;
+    }
+
+    /**
+     * Drops every registered chicken. Package-private for the benchmarks,
+     * which build synthetic registries from this package.
+     */
+    static void clear() {
+        ITEMS.clear();
+        version++;
+    }
+
+    /**
+     * Changes whenever a chicken is registered or the registry is cleared.
+     */
+    public static int version() {
+        return version;
     }
 
     private static void validate(ChickensRegistryItem entity) {
@@ -37,6 +61,7 @@ public final class ChickensRegistry {
         }
     }
 
+    @Nullable
     public static ChickensRegistryItem getByType(int type) {
         return ITEMS.get(type);
     }
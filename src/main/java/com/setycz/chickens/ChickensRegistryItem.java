@@ -152,6 +152,32 @@ public class ChickensRegistryItem {
         return createLayItem();
     }
 
+    /**
+     * The stack this chicken lays, shared rather than copied. Callers must
+     * treat it as read-only and use {@link ItemStack#copyWithCount(int)} when
+     * they need a stack of their own; hot paths use it to compare against or
+     * grow existing stacks without allocating.
+     */
+    public ItemStack getLayTemplate() {
+        return layItem;
+    }
+
+    /**
+     * Read-only counterpart of {@link #createDropItem()}; see
+     * {@link #getLayTemplate()}.
+     */
+    public ItemStack getDropTemplate() {
+        return dropItem != null ? dropItem : layItem;
+    }
+
+    /**
+     * Explicit tier set by configuration or scripts, or {@code 0} when the
+     * tier is derived from the parents.
+     */
+    public int getTierOverride() {
+        return tierOverride;
+    }
+
     public int getTier() {
         if (tierOverride > 0) {
             return tierOverride;
@@ -1,40 +1,118 @@
 package com.setycz.chickens;
 
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.config.ChickensConfigValues;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.EntityType;
 import net.minecraft.world.entity.animal.Chicken;
 import net.neoforged.neoforge.common.NeoForge;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+import net.neoforged.neoforge.server.ServerLifecycleHooks;
+
+import java.util.function.Consumer;
 
 /**
  * Disables vanilla egg laying so the Roost gameplay loop mirrors the legacy
  * mod. Vanilla chickens would otherwise spam eggs, trivialising the new
  * automation blocks.
+ *
+ * <p>Rather than inspecting every entity every tick, the preventer pushes a
+ * vanilla chicken's egg timer out of reach when it joins a level and tops the
+ * timer back up with a sweep every few minutes. The hooks are only present
+ * while {@code disableVanillaEggLaying} is enabled.</p>
  */
 public final class RoostEggPreventer {
+    // Twenty minutes of egg timer; comfortably longer than the sweep interval
+    // while still letting chickens resume laying soon after the option is disabled.
+    private static final int SUPPRESSED_EGG_TIME = 20 * 60 * 20;
+    private static final int SWEEP_INTERVAL_TICKS = 20 * 60 * 5;
+    // Vanilla rolls 6000-12000 ticks after each egg; anything above that was set by us.
+    private static final int VANILLA_MAX_EGG_TIME = 12_000;
+
+    private static final Consumer<EntityJoinLevelEvent> JOIN_LISTENER = RoostEggPreventer::onEntityJoin;
+    private static final Consumer<LevelTickEvent.Post> SWEEP_LISTENER = RoostEggPreventer::onLevelTick;
+    private static boolean registered;
+
     private RoostEggPreventer() {
     }
 
     /**
-     * Registers the living tick listener once the mod finishes bootstrapping.
+     * Follows the configuration so the hooks are attached only while vanilla
+     * egg laying is disabled, including when the setting changes at runtime.
      */
     public static void init() {
-        NeoForge.EVENT_BUS.addListener(RoostEggPreventer::onEntityTick);
+        ChickensConfigHolder.addListener(RoostEggPreventer::onConfigChanged);
+        onConfigChanged(ChickensConfigHolder.get());
     }
 
-    private static void onEntityTick(EntityTickEvent.Pre event) {
-        if (!(event.getEntity() instanceof Chicken chicken)) {
+    private static synchronized void onConfigChanged(ChickensConfigValues values) {
+        boolean enabled = values.isVanillaEggLayingDisabled();
+        if (enabled == registered) {
             return;
         }
-        if (!ChickensConfigHolder.get().isVanillaEggLayingDisabled()) {
+        registered = enabled;
+        if (enabled) {
+            NeoForge.EVENT_BUS.addListener(JOIN_LISTENER);
+            NeoForge.EVENT_BUS.addListener(SWEEP_LISTENER);
+        } else {
+            NeoForge.EVENT_BUS.unregister(JOIN_LISTENER);
+            NeoForge.EVENT_BUS.unregister(SWEEP_LISTENER);
+        }
+        // Chickens that are already loaded never fire a join event, so bring
+        // them in line with the new setting straight away.
+        MinecraftServer server = ServerLifecycleHooks.getCurrentServer();
+        if (server != null) {
+            server.execute(() -> {
+                for (ServerLevel level : server.getAllLevels()) {
+                    sweep(level, enabled);
+                }
+            });
+        }
+    }
+
+    private static void onEntityJoin(EntityJoinLevelEvent event) {
+        if (event.getLevel().isClientSide() || !(event.getEntity() instanceof Chicken chicken)) {
             return;
         }
-        if (chicken.getClass() != Chicken.class) {
-            // Respect modded chicken behaviour. The Chickens entity retains its own
-            // lay timers and should not be clamped by the Roost rule.
+        if (isVanillaChicken(chicken)) {
+            suppress(chicken);
+        }
+    }
+
+    private static void onLevelTick(LevelTickEvent.Post event) {
+        if (!(event.getLevel() instanceof ServerLevel level)) {
             return;
         }
-        if (chicken.eggTime <= 1) {
-            chicken.eggTime = 20 * 60 * 60; // Effectively disable natural egg laying (~1 hour in ticks).
+        if (level.getGameTime() % SWEEP_INTERVAL_TICKS != 0) {
+            return;
+        }
+        sweep(level, true);
+    }
+
+    private static void sweep(ServerLevel level, boolean suppress) {
+        // The typed lookup still walks every loaded entity in the level and only
+        // filters by type; that is acceptable once every few minutes, and the
+        // join hook keeps the sweep from being needed any more often.
+        for (Chicken chicken : level.getEntities(EntityType.CHICKEN, RoostEggPreventer::isVanillaChicken)) {
+            if (suppress) {
+                suppress(chicken);
+            } else if (chicken.eggTime > VANILLA_MAX_EGG_TIME) {
+                chicken.eggTime = chicken.getRandom().nextInt(6000) + 6000;
+            }
+        }
+    }
+
+    private static boolean isVanillaChicken(Chicken chicken) {
+        // Respect modded chicken behaviour. The Chickens entity retains its own
+        // lay timers and should not be clamped by the Roost rule.
+        return chicken.getClass() == Chicken.class;
+    }
+
+    private static void suppress(Chicken chicken) {
+        if (chicken.eggTime < SUPPRESSED_EGG_TIME) {
+            chicken.eggTime = SUPPRESSED_EGG_TIME;
         }
     }
 }
@@ -6,6 +6,8 @@ import com.setycz.chickens.ChemicalEggRegistryItem;
 import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.blockentity.AvianChemicalConverterBlockEntity;
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -86,7 +88,6 @@ public class AvianChemicalConverterBlock extends HorizontalDirectionalBlock impl
 
     @Nullable
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
         if (level.isClientSide) {
             return null;
@@ -94,7 +95,7 @@ public class AvianChemicalConverterBlock extends HorizontalDirectionalBlock impl
         if (type != ModBlockEntities.AVIAN_CHEMICAL_CONVERTER.get()) {
             return null;
         }
-        return (BlockEntityTicker<T>) AvianChemicalConverterBlockEntity.serverTicker();
+        return TickTimings.wrap(TickSource.CHEMICAL_CONVERTER, AvianChemicalConverterBlockEntity.serverTicker());
     }
 
     @Override
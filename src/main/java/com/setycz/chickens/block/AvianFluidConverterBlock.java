@@ -3,6 +3,8 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -87,7 +89,6 @@ public class AvianFluidConverterBlock extends HorizontalDirectionalBlock impleme
 
     @Nullable
     @Override
-    @SuppressWarnings("unchecked")
     public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
         if (level.isClientSide) {
             return null;
@@ -95,7 +96,7 @@ public class AvianFluidConverterBlock extends HorizontalDirectionalBlock impleme
         if (type != ModBlockEntities.AVIAN_FLUID_CONVERTER.get()) {
             return null;
         }
-        return (BlockEntityTicker<T>) AvianFluidConverterBlockEntity.serverTicker();
+        return TickTimings.wrap(TickSource.FLUID_CONVERTER, AvianFluidConverterBlockEntity.serverTicker());
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -89,11 +91,11 @@ public class AvianFluxConverterBlock extends HorizontalDirectionalBlock implemen
         if (type != ModBlockEntities.AVIAN_FLUX_CONVERTER.get()) {
             return null;
         }
-        return (lvl, blockPos, blockState, blockEntity) -> {
+        return TickTimings.wrap(TickSource.FLUX_CONVERTER, (lvl, blockPos, blockState, blockEntity) -> {
             if (blockEntity instanceof AvianFluxConverterBlockEntity converter) {
                 AvianFluxConverterBlockEntity.serverTick(lvl, blockPos, blockState, converter);
             }
-        };
+        });
     }
 
     @Override
@@ -3,6 +3,8 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
 import com.setycz.chickens.blockentity.BreederBlockEntity;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerPlayer;
@@ -81,11 +83,11 @@ public class BreederBlock extends HorizontalDirectionalBlock implements EntityBl
         if (type != ModBlockEntities.BREEDER.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return TickTimings.wrap(TickSource.BREEDER, (lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof BreederBlockEntity breeder) {
                 AbstractChickenContainerBlockEntity.serverTick(lvl, pos, blockState, breeder);
             }
-        };
+        });
     }
 
     @Override
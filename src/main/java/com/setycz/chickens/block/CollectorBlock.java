@@ -3,8 +3,12 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
 import com.setycz.chickens.blockentity.CollectorBlockEntity;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.stats.Stats;
 import net.minecraft.world.Containers;
@@ -12,6 +16,7 @@ import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.LevelReader;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.EntityBlock;
 import net.minecraft.world.level.block.RenderShape;
@@ -62,11 +67,11 @@ public class CollectorBlock extends Block implements EntityBlock {
         if (type != ModBlockEntities.COLLECTOR.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return TickTimings.wrap(TickSource.COLLECTOR, (lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof CollectorBlockEntity collector) {
                 AbstractChickenContainerBlockEntity.serverTick(lvl, pos, blockState, collector);
             }
-        };
+        });
     }
 
     @Override
@@ -75,18 +80,40 @@ public class CollectorBlock extends Block implements EntityBlock {
         if (!(blockEntity instanceof CollectorBlockEntity collector)) {
             return InteractionResult.PASS;
         }
+        // Sneak-right-click picks the clicked face as the export side; the same face again turns it off.
+        if (player.isShiftKeyDown()) {
+            if (!level.isClientSide) {
+                Direction face = hit.getDirection();
+                Direction exportFace = face == collector.getExportFace() ? null : face;
+                collector.setExportFace(exportFace);
+                player.displayClientMessage(exportFace == null
+                        ? Component.translatable("message.chickens.collector.export_off")
+                        : Component.translatable("message.chickens.collector.export_on", exportFace.getSerializedName()),
+                        true);
+            }
+            return InteractionResult.sidedSuccess(level.isClientSide);
+        }
         if (!level.isClientSide && player instanceof ServerPlayer serverPlayer) {
             ((IPlayerExtension) serverPlayer).openMenu(collector, pos);
         }
         return InteractionResult.sidedSuccess(level.isClientSide);
     }
 
+    @Override
+    public void onNeighborChange(BlockState state, LevelReader level, BlockPos pos, BlockPos neighbor) {
+        // Containers announce content changes this way, which is what wakes a collector waiting on a full target.
+        if (level.getBlockEntity(pos) instanceof CollectorBlockEntity collector && collector.isExportTarget(neighbor)) {
+            collector.wakeExport();
+        }
+    }
+
     @Override
     public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
         if (!state.is(newState.getBlock())) {
             BlockEntity blockEntity = level.getBlockEntity(pos);
             if (blockEntity instanceof CollectorBlockEntity collector) {
                 Containers.dropContents(level, pos, collector.getItems());
+                collector.dropOutputBuffer(level, pos);
                 level.updateNeighbourForOutputSignal(pos, this);
             }
         }
@@ -0,0 +1,65 @@
+package com.setycz.chickens.block;
+
+import com.mojang.serialization.MapCodec;
+import com.setycz.chickens.blockentity.CoopControllerBlockEntity;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.MapColor;
+
+/**
+ * Wall block of the chicken coop multiblock. Each casing touching a coop
+ * controller (faces, edges or corners) opens one chicken slot in it; the
+ * casing itself has no block entity and never ticks.
+ */
+public class CoopCasingBlock extends Block {
+    public static final MapCodec<CoopCasingBlock> CODEC = simpleCodec(CoopCasingBlock::new);
+
+    public CoopCasingBlock() {
+        this(BlockBehaviour.Properties.of().mapColor(MapColor.WOOD).strength(2.0F, 3.0F).sound(SoundType.WOOD));
+    }
+
+    public CoopCasingBlock(BlockBehaviour.Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    public MapCodec<CoopCasingBlock> codec() {
+        return CODEC;
+    }
+
+    @Override
+    protected void onPlace(BlockState state, Level level, BlockPos pos, BlockState oldState, boolean isMoving) {
+        super.onPlace(state, level, pos, oldState, isMoving);
+        if (!oldState.is(state.getBlock())) {
+            invalidateControllers(level, pos);
+        }
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        if (!state.is(newState.getBlock())) {
+            invalidateControllers(level, pos);
+        }
+        super.onRemove(state, level, pos, newState, isMoving);
+    }
+
+    /**
+     * Tells every controller next to this casing to recount its walls on its
+     * next tick.
+     */
+    private static void invalidateControllers(Level level, BlockPos pos) {
+        if (level.isClientSide) {
+            return;
+        }
+        for (BlockPos neighbour : BlockPos.betweenClosed(pos.offset(-1, -1, -1), pos.offset(1, 1, 1))) {
+            if (level.isLoaded(neighbour)
+                    && level.getBlockEntity(neighbour) instanceof CoopControllerBlockEntity controller) {
+                controller.invalidateStructure();
+            }
+        }
+    }
+}
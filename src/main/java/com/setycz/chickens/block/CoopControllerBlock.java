@@ -0,0 +1,115 @@
+package com.setycz.chickens.block;
+
+import com.mojang.serialization.MapCodec;
+import com.setycz.chickens.blockentity.CoopControllerBlockEntity;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
+import com.setycz.chickens.registry.ModBlockEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.network.chat.Component;
+import net.minecraft.stats.Stats;
+import net.minecraft.world.Containers;
+import net.minecraft.world.InteractionResult;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.EntityBlock;
+import net.minecraft.world.level.block.RenderShape;
+import net.minecraft.world.level.block.SoundType;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+import net.minecraft.world.level.block.entity.BlockEntityType;
+import net.minecraft.world.level.block.state.BlockBehaviour;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.material.MapColor;
+import net.minecraft.world.phys.BlockHitResult;
+
+import javax.annotation.Nullable;
+
+/**
+ * Heart of the chicken coop multiblock. Chickens are added by using them on
+ * the controller, output is pulled through its item capability, and
+ * sneak-right-click hands every chicken back.
+ */
+public class CoopControllerBlock extends Block implements EntityBlock {
+    public static final MapCodec<CoopControllerBlock> CODEC = simpleCodec(CoopControllerBlock::new);
+
+    public CoopControllerBlock() {
+        this(BlockBehaviour.Properties.of().mapColor(MapColor.WOOD).strength(2.5F, 6.0F).sound(SoundType.WOOD));
+    }
+
+    public CoopControllerBlock(BlockBehaviour.Properties properties) {
+        super(properties);
+    }
+
+    @Override
+    public MapCodec<CoopControllerBlock> codec() {
+        return CODEC;
+    }
+
+    @Nullable
+    @Override
+    public BlockEntity newBlockEntity(BlockPos pos, BlockState state) {
+        return new CoopControllerBlockEntity(pos, state);
+    }
+
+    @Nullable
+    @Override
+    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state, BlockEntityType<T> type) {
+        if (level.isClientSide) {
+            return null;
+        }
+        if (type != ModBlockEntities.COOP_CONTROLLER.get()) {
+            return null;
+        }
+        return TickTimings.wrap(TickSource.COOP, (lvl, pos, blockState, blockEntity) -> {
+            if (blockEntity instanceof CoopControllerBlockEntity coop) {
+                CoopControllerBlockEntity.serverTick(lvl, pos, blockState, coop);
+            }
+        });
+    }
+
+    @Override
+    public InteractionResult useWithoutItem(BlockState state, Level level, BlockPos pos, Player player, BlockHitResult hit) {
+        if (!(level.getBlockEntity(pos) instanceof CoopControllerBlockEntity coop)) {
+            return InteractionResult.PASS;
+        }
+        if (!level.isClientSide) {
+            if (player.isShiftKeyDown()) {
+                coop.pullChickensOut(player);
+            } else {
+                player.displayClientMessage(Component.translatable("message.chickens.coop.status",
+                        coop.getLayingSlots(), coop.getActiveSlots()), true);
+            }
+        }
+        return InteractionResult.sidedSuccess(level.isClientSide);
+    }
+
+    @Override
+    public void onRemove(BlockState state, Level level, BlockPos pos, BlockState newState, boolean isMoving) {
+        if (!state.is(newState.getBlock())) {
+            BlockEntity blockEntity = level.getBlockEntity(pos);
+            if (blockEntity instanceof CoopControllerBlockEntity coop) {
+                Containers.dropContents(level, pos, coop.getItems());
+                level.updateNeighbourForOutputSignal(pos, this);
+            }
+        }
+        super.onRemove(state, level, pos, newState, isMoving);
+    }
+
+    @Override
+    public RenderShape getRenderShape(BlockState state) {
+        return RenderShape.MODEL;
+    }
+
+    @Override
+    public void playerDestroy(Level level, Player player, BlockPos pos, BlockState state, @Nullable BlockEntity blockEntity,
+            ItemStack tool) {
+        player.awardStat(Stats.BLOCK_MINED.get(this));
+        player.causeFoodExhaustion(0.005F);
+        if (MachineBlockHelper.canHarvestWith(tool)) {
+            MachineBlockHelper.dropMachine(level, pos, this, blockEntity, player);
+        }
+    }
+}
@@ -3,6 +3,8 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -93,11 +95,11 @@ public class IncubatorBlock extends HorizontalDirectionalBlock implements Entity
         if (type != ModBlockEntities.INCUBATOR.get()) {
             return null;
         }
-        return (lvl, blockPos, blockState, blockEntity) -> {
+        return TickTimings.wrap(TickSource.INCUBATOR, (lvl, blockPos, blockState, blockEntity) -> {
             if (blockEntity instanceof IncubatorBlockEntity incubator) {
                 IncubatorBlockEntity.serverTick(lvl, blockPos, blockState, incubator);
             }
-        };
+        });
     }
 
     @Override
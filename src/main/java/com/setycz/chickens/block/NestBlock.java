@@ -3,11 +3,14 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.NestBlockEntity;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
-import com.setycz.chickens.registry.ModBlockEntities;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.stats.Stats;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.Containers;
 import net.minecraft.world.InteractionResult;
 import net.minecraft.world.entity.player.Player;
@@ -20,8 +23,6 @@ import net.minecraft.world.level.block.HorizontalDirectionalBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.SoundType;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
@@ -61,21 +62,14 @@ public class NestBlock extends HorizontalDirectionalBlock implements EntityBlock
         return new NestBlockEntity(pos, state);
     }
 
-    @Nullable
     @Override
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(Level level, BlockState state,
-            BlockEntityType<T> type) {
-        if (level.isClientSide) {
-            return null;
-        }
-        if (type != ModBlockEntities.NEST.get()) {
-            return null;
+    protected void tick(BlockState state, ServerLevel level, BlockPos pos, RandomSource random) {
+        // Scheduled by the nest for the moment its seed runs out; nests have no ticker.
+        if (level.getBlockEntity(pos) instanceof NestBlockEntity nest) {
+            long start = TickTimings.start();
+            nest.onFuelTick();
+            TickTimings.stop(TickSource.NEST, level, pos, start);
         }
-        return (lvl, pos, blockState, blockEntity) -> {
-            if (blockEntity instanceof NestBlockEntity nest) {
-                NestBlockEntity.serverTick(lvl, pos, blockState, nest);
-            }
-        };
     }
 
     @Override
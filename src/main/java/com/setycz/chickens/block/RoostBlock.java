@@ -3,6 +3,8 @@ package com.setycz.chickens.block;
 import com.mojang.serialization.MapCodec;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
 import com.setycz.chickens.blockentity.RoostBlockEntity;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -69,11 +71,11 @@ public class RoostBlock extends HorizontalDirectionalBlock implements EntityBloc
         if (type != ModBlockEntities.ROOST.get()) {
             return null;
         }
-        return (lvl, pos, blockState, blockEntity) -> {
+        return TickTimings.wrap(TickSource.ROOST, (lvl, pos, blockState, blockEntity) -> {
             if (blockEntity instanceof RoostBlockEntity roost) {
                 AbstractChickenContainerBlockEntity.serverTick(lvl, pos, blockState, roost);
             }
-        };
+        });
     }
 
     @Override
@@ -100,6 +102,7 @@ public class RoostBlock extends HorizontalDirectionalBlock implements EntityBloc
             BlockEntity blockEntity = level.getBlockEntity(pos);
             if (blockEntity instanceof RoostBlockEntity roost) {
                 Containers.dropContents(level, pos, roost.getItems());
+                roost.dropOutputBuffer(level, pos);
                 level.updateNeighbourForOutputSignal(pos, this);
             }
         }
@@ -1,16 +1,20 @@
 package com.setycz.chickens.blockentity;
 
 import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickenStats;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.NonNullList;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.Connection;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.RandomSource;
+import net.minecraft.util.Mth;
 import net.minecraft.world.ContainerHelper;
+import net.minecraft.world.Containers;
 import net.minecraft.world.MenuProvider;
 import net.minecraft.world.WorldlyContainer;
 import net.minecraft.world.entity.player.Inventory;
@@ -27,6 +31,8 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.network.protocol.game.ClientGamePacketListener;
 import net.minecraft.network.protocol.game.ClientboundBlockEntityDataPacket;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.wrapper.SidedInvWrapper;
 
 import javax.annotation.Nullable;
 import java.util.List;
@@ -38,6 +44,9 @@ import java.util.Objects;
  * remaining agnostic about the concrete drop behaviour.
  */
 public abstract class AbstractChickenContainerBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
+    // A chest's worth; see dropOutputBuffer.
+    private static final int MAX_SPILLED_STACKS = 27;
+
     protected static final class ChickenContainerEntry {
         private final ChickensRegistryItem chicken;
         private final ChickenStats stats;
@@ -56,17 +65,20 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         }
 
         public ItemStack createDrop(RandomSource random) {
-            ItemStack drop = chicken.createDropItem();
-            int gain = stats.gain();
-            drop.setCount(gain >= 10 ? 3 : gain >= 5 ? 2 : 1);
-            return drop;
+            return chicken.getDropTemplate().copyWithCount(getYield());
         }
 
         public ItemStack createLay(RandomSource random) {
-            ItemStack lay = chicken.createLayItem();
+            return chicken.getLayTemplate().copyWithCount(getYield());
+        }
+
+        /**
+         * Items produced per lay or drop; pair with the chicken's templates
+         * and {@link #insertIntoOutput} to avoid building a stack at all.
+         */
+        public int getYield() {
             int gain = stats.gain();
-            lay.setCount(gain >= 10 ? 3 : gain >= 5 ? 2 : 1);
-            return lay;
+            return gain >= 10 ? 3 : gain >= 5 ? 2 : 1;
         }
 
 
@@ -111,6 +123,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     private final NonNullList<ItemStack> items;
     private final ChickenContainerEntry[] chickenData;
     private final ContainerData dataAccess;
+    private final OutputBuffer outputBuffer = new OutputBuffer();
     private boolean needsChickenUpdate = true;
     private boolean skipNextTimerReset = false;
     private int timeUntilNextDrop = 0;
@@ -119,6 +132,8 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     private boolean fullOfChickens = false;
     private boolean fullOfSeeds = false;
 
+    private final HudStateTracker hudState = new HudStateTracker();
+
     protected AbstractChickenContainerBlockEntity(BlockEntityType<?> type, BlockPos pos, BlockState state,
             int inventorySize, int chickenSlotCount) {
         super(type, pos, state);
@@ -144,6 +159,19 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         };
     }
 
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        hudState.bump();
+    }
+
+    /**
+     * State version and cached overlay payloads for the Jade/WTHIT providers.
+     */
+    public HudStateTracker getHudState() {
+        return hudState;
+    }
+
     public static <T extends AbstractChickenContainerBlockEntity> void serverTick(Level level, BlockPos pos, BlockState state,
             T container) {
         container.runServerTick(level);
@@ -154,6 +182,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
             return;
         }
         updateChickenInfoIfNeeded(level);
+        refillOutputFromBuffer();
         updateTimerIfNeeded(level);
         spawnChickenItemIfNeeded(level);
         updateProgress();
@@ -343,6 +372,17 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         return 0;
     }
 
+    /**
+     * Folds the per-tick counters the overlay integrations render (progress
+     * percent and ETA in seconds) into a fingerprint, so cached HUD payloads
+     * are rebuilt when the displayed text would change rather than every tick.
+     */
+    public long getHudFingerprint() {
+        int step = getProgressIncrementPerTick();
+        int etaSeconds = step > 0 ? Mth.ceil(Mth.ceil(getRemainingLayTimeTicks() / (float) step) / 20.0F) : -1;
+        return HudStateTracker.mix(Math.round(getProgressFraction() * 100.0D), etaSeconds);
+    }
+
     private boolean isFullOfChickens() {
         for (int slot = 0; slot < chickenData.length; slot++) {
             updateChickenInfoForSlot(slot);
@@ -383,7 +423,15 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         return stack.getCount() >= required;
     }
 
-    private boolean outputIsFull() {
+    /**
+     * Whether neither the output slots nor the overflow buffer can take
+     * another item.
+     */
+    protected boolean outputIsFull() {
+        return outputSlotsFull() && outputBuffer.getTotal() >= getOutputBufferCapacity();
+    }
+
+    private boolean outputSlotsFull() {
         int start = getOutputSlotIndex();
         for (int slot = start; slot < items.size(); slot++) {
             ItemStack stack = items.get(slot);
@@ -394,46 +442,140 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         return true;
     }
 
+    /**
+     * Inserts a stack into the output slots and returns whatever did not
+     * fit. The argument is left untouched.
+     */
     protected ItemStack pushIntoOutput(ItemStack stack) {
-        ItemStack remaining = stack.copy();
-        int start = getOutputSlotIndex();
-        for (int slot = start; slot < items.size() && !remaining.isEmpty(); slot++) {
-            remaining = insertStack(remaining, slot);
+        int remaining = insertIntoOutput(stack, stack.getCount());
+        return remaining <= 0 ? ItemStack.EMPTY : stack.copyWithCount(remaining);
+    }
+
+    /**
+     * Inserts {@code count} items matching {@code template} into the output
+     * slots in slot order, growing matching stacks in place, and parks what
+     * does not fit in the overflow buffer. A new stack is only created when
+     * items land in an empty slot, so a steady producer topping up its output
+     * allocates nothing. The template is never modified.
+     *
+     * @return how many items did not fit.
+     */
+    protected int insertIntoOutput(ItemStack template, int count) {
+        if (template.isEmpty() || count <= 0) {
+            return 0;
+        }
+        int remaining = insertIntoOutputSlots(template, count);
+        if (remaining > 0) {
+            long buffered = outputBuffer.insert(template, remaining, getOutputBufferCapacity());
+            if (buffered > 0) {
+                remaining -= (int) buffered;
+                setChanged();
+            }
         }
-        if (remaining.isEmpty()) {
+        return remaining;
+    }
+
+    private int insertIntoOutputSlots(ItemStack template, int count) {
+        int remaining = count;
+        for (int slot = getOutputSlotIndex(); slot < items.size() && remaining > 0; slot++) {
+            ItemStack existing = items.get(slot);
+            int maxStackSize = getMaxStackSizeForSlot(slot, template);
+            int moved;
+            if (existing.isEmpty()) {
+                moved = Math.min(maxStackSize, remaining);
+                items.set(slot, template.copyWithCount(moved));
+            } else if (ItemStack.isSameItemSameComponents(existing, template)) {
+                moved = Math.min(maxStackSize - existing.getCount(), remaining);
+                if (moved <= 0) {
+                    continue;
+                }
+                existing.grow(moved);
+            } else {
+                continue;
+            }
+            remaining -= moved;
+            setChanged();
+        }
+        if (remaining == 0 && syncsOutputToClient()) {
             markChickenDataDirty();
         }
         return remaining;
     }
 
-    private ItemStack insertStack(ItemStack stack, int slot) {
-        if (stack.isEmpty()) {
-            return ItemStack.EMPTY;
-        }
-        ItemStack existing = items.get(slot);
-        int maxStackSize = getMaxStackSizeForSlot(slot, stack);
-        if (existing.isEmpty()) {
-            ItemStack toInsert = stack.split(maxStackSize);
-            if (stack.isEmpty()) {
-                items.set(slot, toInsert);
-                setChanged();
-                return ItemStack.EMPTY;
+    /**
+     * Whether filling the output slots should push a full block entity
+     * update to clients. Only containers whose renderer draws the output
+     * need it; the menu syncs slot contents on its own.
+     */
+    protected boolean syncsOutputToClient() {
+        return true;
+    }
+
+    /**
+     * Whether this container parks output that does not fit its slots in an
+     * {@link OutputBuffer} of {@code outputBufferCapacity} items.
+     */
+    protected boolean usesOutputBuffer() {
+        return false;
+    }
+
+    private long getOutputBufferCapacity() {
+        return usesOutputBuffer() ? ChickensConfigHolder.get().getOutputBufferCapacity() : 0L;
+    }
+
+    public OutputBuffer getOutputBuffer() {
+        return outputBuffer;
+    }
+
+    /**
+     * Moves buffered items back into output slots that have been emptied,
+     * so players see them in the menu.
+     */
+    private void refillOutputFromBuffer() {
+        boolean moved = false;
+        for (int index = outputBuffer.size() - 1; index >= 0 && !outputSlotsFull(); index--) {
+            ItemStack template = outputBuffer.getTemplate(index);
+            int offered = (int) Math.min(outputBuffer.getCount(index), Integer.MAX_VALUE);
+            int inserted = offered - insertIntoOutputSlots(template, offered);
+            if (inserted > 0) {
+                outputBuffer.extract(index, inserted);
+                moved = true;
             }
-            items.set(slot, toInsert);
-            setChanged();
-            return stack;
         }
-        if (!ItemStack.isSameItemSameComponents(existing, stack)) {
-            return stack;
+        if (moved) {
+            setChanged();
         }
-        int canMove = Math.min(maxStackSize - existing.getCount(), stack.getCount());
-        if (canMove <= 0) {
-            return stack;
+    }
+
+    /**
+     * The item handler exposed to automation: the sided slots, followed by
+     * one extract-only slot per buffered item for containers with a buffer.
+     */
+    public IItemHandler getItemHandler(@Nullable Direction side) {
+        IItemHandler slots = new SidedInvWrapper(this, side);
+        return usesOutputBuffer() ? new OutputBufferItemHandler(slots, outputBuffer, this::setChanged) : slots;
+    }
+
+    /**
+     * Spills the overflow buffer into the world when the block is broken. At
+     * most {@value #MAX_SPILLED_STACKS} stacks are dropped, the same as a
+     * broken chest, and anything buffered beyond that is voided rather than
+     * turned into a pile of item entities in one tick.
+     */
+    public void dropOutputBuffer(Level level, BlockPos pos) {
+        int spilled = 0;
+        for (int index = 0; index < outputBuffer.size() && spilled < MAX_SPILLED_STACKS; index++) {
+            ItemStack template = outputBuffer.getTemplate(index);
+            long remaining = outputBuffer.getCount(index);
+            int maxStackSize = template.getMaxStackSize();
+            while (remaining > 0 && spilled < MAX_SPILLED_STACKS) {
+                int chunk = (int) Math.min(remaining, maxStackSize);
+                Containers.dropItemStack(level, pos.getX(), pos.getY(), pos.getZ(), template.copyWithCount(chunk));
+                remaining -= chunk;
+                spilled++;
+            }
         }
-        existing.grow(canMove);
-        stack.shrink(canMove);
-        setChanged();
-        return stack;
+        outputBuffer.clear();
     }
 
     protected int getMaxStackSizeForSlot(int slot, ItemStack stack) {
@@ -460,7 +602,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
                 return false;
             }
         }
-        return true;
+        return outputBuffer.isEmpty();
     }
 
     @Override
@@ -542,6 +684,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
     @Override
     public void clearContent() {
         items.clear();
+        outputBuffer.clear();
         setChanged();
         markChickenDataDirty();
     }
@@ -563,6 +706,9 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         ContainerHelper.saveAllItems(tag, items, registries);
         tag.putInt("TimeUntilNextDrop", timeUntilNextDrop);
         tag.putInt("TimeElapsed", timeElapsed);
+        if (!outputBuffer.isEmpty()) {
+            tag.put("OutputBuffer", outputBuffer.save(registries));
+        }
     }
 
     @Override
@@ -571,6 +717,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         ContainerHelper.loadAllItems(tag, items, registries);
         timeUntilNextDrop = tag.getInt("TimeUntilNextDrop");
         timeElapsed = tag.getInt("TimeElapsed");
+        outputBuffer.load(tag.getList("OutputBuffer", Tag.TAG_COMPOUND), registries);
         skipNextTimerReset = true;
         markChickenDataDirty();
     }
@@ -644,6 +791,7 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         tag.putBoolean("HasSeeds", hasRequiredSeeds());
         tag.putBoolean("HasChickens", hasRequiredChickens());
         tag.putInt("RequiredSeeds", Math.max(requiredSeedsForDrop(), 0));
+        tag.putLong("Buffered", outputBuffer.getTotal());
     }
 
     /**
@@ -662,5 +810,9 @@ public abstract class AbstractChickenContainerBlockEntity extends BlockEntity im
         if (requiredSeeds > 0 && (!data.contains("HasSeeds") || !data.getBoolean("HasSeeds"))) {
             tooltip.add(Component.translatable("tooltip.chickens.container.no_seeds", requiredSeeds));
         }
+        long buffered = data.getLong("Buffered");
+        if (buffered > 0) {
+            tooltip.add(Component.translatable("tooltip.chickens.container.buffered", buffered));
+        }
     }
 }
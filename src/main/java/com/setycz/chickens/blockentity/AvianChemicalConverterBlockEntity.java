@@ -12,6 +12,7 @@ import com.setycz.chickens.item.ChemicalEggItem;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.GasEggItem;
 import com.setycz.chickens.menu.AvianChemicalConverterMenu;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -92,7 +93,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         boolean drained = crackChemicalEgg();
         boolean exported = pushChemicalToNeighbors(level);
         boolean shouldGlow = shouldBlockGlow(drained || exported);
-        updateActiveState(level, shouldGlow);
+        updateActiveState(shouldGlow);
         if (drained || exported) {
             setChanged();
         }
@@ -122,6 +123,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
             }
             items.set(0, ItemStack.EMPTY);
             storeChemical(outputId, volume);
+            ProductionStats.record(ProductionStats.Channel.CHEMICAL_CONVERTER, volume);
             markChemicalDirty();
             return true;
         }
@@ -139,6 +141,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         }
         items.set(0, ItemStack.EMPTY);
         storeChemical(entry.getChemicalId(), volume);
+        ProductionStats.record(ProductionStats.Channel.CHEMICAL_CONVERTER, volume);
         markChemicalDirty();
         return true;
     }
@@ -247,7 +250,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
             BlockState state = getBlockState();
             level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
             level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -349,7 +352,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         }
         setChanged();
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -476,7 +479,7 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         syncWithConfig(false);
         invalidateChemicalHandlers();
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -504,16 +507,12 @@ public class AvianChemicalConverterBlockEntity extends BlockEntity implements Wo
         return drainedThisTick || hasEggReserves || chemicalAmount > 0;
     }
 
-    private void updateActiveState(Level level, boolean active) {
+    private void updateActiveState(boolean active) {
         if (cachedActiveState == active) {
             return;
         }
         cachedActiveState = active;
-        BlockState state = getBlockState();
-        if (!state.hasProperty(AvianChemicalConverterBlock.LIT)) {
-            return;
-        }
-        level.setBlock(worldPosition, state.setValue(AvianChemicalConverterBlock.LIT, active), Block.UPDATE_CLIENTS);
+        MachineLitState.request(this, active);
     }
 
     private static boolean isChemicalEgg(ItemStack stack) {
@@ -7,6 +7,7 @@ import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.LiquidEggRegistry;
 import com.setycz.chickens.LiquidEggRegistryItem;
 import com.setycz.chickens.block.AvianDousingMachineBlock;
+import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry;
 import com.setycz.chickens.integration.mekanism.MekanismChemicalHelper;
 import com.setycz.chickens.item.ChickenItem;
@@ -15,6 +16,7 @@ import com.setycz.chickens.item.ChickensSpawnEggItem;
 import com.setycz.chickens.item.ChemicalEggItem;
 import com.setycz.chickens.item.LiquidEggItem;
 import com.setycz.chickens.menu.AvianDousingMachineMenu;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -63,6 +65,8 @@ import java.util.Map;
  * chemicals to forge the matching Modern Chickens spawn egg. The block entity
  * owns three internal buffers (RF, fluid, chemical) and only crafts when the
  * configured recipe costs are satisfied, keeping all automation-friendly.
+ * A cycle converts up to {@code dousingBatchSize} chickens at once, debiting
+ * their combined cost and sending a single client update.
  */
 public class AvianDousingMachineBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
     public static final int SLOT_COUNT = 2;
@@ -86,6 +90,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     public static final int LIQUID_ENERGY_COST = 10_000;
     public static final int CHEMICAL_ENERGY_COST = 100_000;
     public static final int SPECIAL_ENERGY_COST = LIQUID_ENERGY_COST;
+    private static final int MAX_BATCH_SIZE = 64;
 
     private static final Map<ResourceLocation, Integer> LIQUID_CHICKEN_CACHE = new HashMap<>();
     private static final Map<ResourceLocation, Integer> CHEMICAL_CHICKEN_CACHE = new HashMap<>();
@@ -123,15 +128,33 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     private int progress;
     private InfusionMode mode = InfusionMode.NONE;
     private boolean cachedActiveState;
+    // Set while a conversion debits several buffers so they share one block update.
+    private boolean deferUpdates;
+    private boolean updatePending;
     @Nullable
     private Component customName;
 
+    private final HudStateTracker hudState = new HudStateTracker();
+
     public AvianDousingMachineBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.AVIAN_DOUSING_MACHINE.get(), pos, state);
         cachedActiveState = state.hasProperty(AvianDousingMachineBlock.LIT)
                 && state.getValue(AvianDousingMachineBlock.LIT);
     }
 
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        hudState.bump();
+    }
+
+    /**
+     * State version and cached overlay payloads for the Jade/WTHIT providers.
+     */
+    public HudStateTracker getHudState() {
+        return hudState;
+    }
+
     public static <T extends BlockEntity> BlockEntityTicker<T> serverTicker() {
         return (level, pos, state, blockEntity) -> {
             if (blockEntity instanceof AvianDousingMachineBlockEntity machine) {
@@ -154,7 +177,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
                 progress = 0;
                 inventoryChanged = true;
             }
-            updateActiveState(level, false);
+            updateActiveState(false);
             if (inventoryChanged) {
                 setChanged();
             }
@@ -173,7 +196,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
             progress = Math.max(progress - 2, 0);
         }
 
-        updateActiveState(level, progress > 0 || pulledEnergy);
+        updateActiveState(progress > 0 || pulledEnergy);
         if (inventoryChanged || canAdvance || pulledEnergy) {
             setChanged();
         }
@@ -268,49 +291,83 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
 
     private void completeOperation(OperationPlan plan) {
         ItemStack input = items.get(INPUT_SLOT);
-        ItemStack output = items.get(OUTPUT_SLOT);
         if (!isDousableChicken(input)) {
             return;
         }
-
-        ItemStack result = ChickensSpawnEggItem.createFor(plan.chicken());
-        if (!output.isEmpty()) {
-            output.grow(1);
-        } else {
-            items.set(OUTPUT_SLOT, result);
-        }
-
-        input.shrink(1);
-        if (input.isEmpty()) {
-            items.set(INPUT_SLOT, ItemStack.EMPTY);
+        int count = batchSize(plan);
+        if (count <= 0) {
+            return;
         }
-
-        if (plan.mode() == InfusionMode.CHEMICAL) {
-            if (!energyStorage.consumeEnergy(plan.energyCost())) {
+        deferUpdates = true;
+        try {
+            // Debit the whole batch before touching the inventory so a shortfall converts nothing.
+            if (!energyStorage.consumeEnergy(plan.energyCost() * count)) {
                 return;
             }
-            chemicalAmount -= plan.chemicalCost();
-            if (chemicalAmount <= 0) {
-                clearChemical();
+            if (plan.mode() == InfusionMode.CHEMICAL) {
+                chemicalAmount -= plan.chemicalCost() * count;
+                if (chemicalAmount <= 0) {
+                    clearChemical();
+                }
+                invalidateChemicalHandlers();
+                markChemicalDirty();
+            } else if (plan.mode() == InfusionMode.LIQUID) {
+                liquidTank.drain(plan.liquidCost() * count, IFluidHandler.FluidAction.EXECUTE);
+            } else if (plan.mode() == InfusionMode.SPECIAL) {
+                specialAmount = 0;
+                specialInfusion = SpecialInfusion.NONE;
+                markLiquidDirty();
             }
-            invalidateChemicalHandlers();
-            markChemicalDirty();
-        } else if (plan.mode() == InfusionMode.LIQUID) {
-            if (!energyStorage.consumeEnergy(plan.energyCost())) {
-                return;
+
+            ItemStack output = items.get(OUTPUT_SLOT);
+            if (!output.isEmpty()) {
+                output.grow(count);
+            } else {
+                items.set(OUTPUT_SLOT, ChickensSpawnEggItem.createFor(plan.chicken()).copyWithCount(count));
             }
-            liquidTank.drain(plan.liquidCost(), IFluidHandler.FluidAction.EXECUTE);
-        } else if (plan.mode() == InfusionMode.SPECIAL) {
-            if (!energyStorage.consumeEnergy(plan.energyCost())) {
-                return;
+            input.shrink(count);
+            if (input.isEmpty()) {
+                items.set(INPUT_SLOT, ItemStack.EMPTY);
+            }
+            if (plan.chicken() != null) {
+                ProductionStats.record(ProductionStats.Channel.DOUSING, plan.chicken().getId(), count);
+            }
+            mode = plan.mode();
+            markEnergyDirty();
+        } finally {
+            deferUpdates = false;
+            if (updatePending) {
+                updatePending = false;
+                sendMachineUpdate();
             }
-            specialAmount = 0;
-            specialInfusion = SpecialInfusion.NONE;
-            markLiquidDirty();
         }
+    }
 
-        mode = plan.mode();
-        markEnergyDirty();
+    /**
+     * Chickens the completing cycle converts: the configured batch size
+     * limited by the input stack, output room and stored reagent and energy.
+     * Special infusions use up the whole buffer, so they always convert one.
+     */
+    private int batchSize(OperationPlan plan) {
+        if (plan.mode() == InfusionMode.SPECIAL) {
+            return 1;
+        }
+        int limit = Mth.clamp(ChickensConfigHolder.get().getDousingBatchSize(), 1, MAX_BATCH_SIZE);
+        limit = Math.min(limit, items.get(INPUT_SLOT).getCount());
+        ItemStack output = items.get(OUTPUT_SLOT);
+        if (!output.isEmpty()) {
+            limit = Math.min(limit, output.getMaxStackSize() - output.getCount());
+        }
+        if (plan.energyCost() > 0) {
+            limit = Math.min(limit, energyStorage.getEnergyStored() / plan.energyCost());
+        }
+        if (plan.liquidCost() > 0) {
+            limit = Math.min(limit, liquidTank.getFluidAmount() / plan.liquidCost());
+        }
+        if (plan.chemicalCost() > 0) {
+            limit = Math.min(limit, chemicalAmount / plan.chemicalCost());
+        }
+        return Math.max(limit, 0);
     }
 
     private ChickensRegistryItem getChicken(ItemStack stack) {
@@ -351,29 +408,28 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
         return ItemStack.isSameItemSameComponents(output, template) && output.getCount() < output.getMaxStackSize();
     }
 
-    private void updateActiveState(Level level, boolean active) {
+    private void updateActiveState(boolean active) {
         if (cachedActiveState == active) {
             return;
         }
         cachedActiveState = active;
-        BlockState state = getBlockState();
-        if (!state.hasProperty(AvianDousingMachineBlock.LIT)) {
-            return;
-        }
-        level.setBlock(worldPosition, state.setValue(AvianDousingMachineBlock.LIT, active), Block.UPDATE_CLIENTS);
+        MachineLitState.request(this, active);
     }
 
     private void markLiquidDirty() {
-        setChanged();
-        if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
-        }
+        sendMachineUpdate();
     }
 
     private void markEnergyDirty() {
+        sendMachineUpdate();
+    }
+
+    private void sendMachineUpdate() {
         setChanged();
+        if (deferUpdates) {
+            updatePending = true;
+            return;
+        }
         if (level != null && !level.isClientSide) {
             BlockState state = getBlockState();
             level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
@@ -418,12 +474,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
     }
 
     private void markChemicalDirty() {
-        setChanged();
-        if (level != null && !level.isClientSide) {
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
-            level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
-        }
+        sendMachineUpdate();
     }
 
     @Override
@@ -706,7 +757,7 @@ public class AvianDousingMachineBlockEntity extends BlockEntity implements World
         super.onLoad();
         invalidateChemicalHandlers();
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, false);
+            updateActiveState(false);
         }
     }
 
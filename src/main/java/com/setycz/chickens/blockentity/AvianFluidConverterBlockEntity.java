@@ -9,6 +9,7 @@ import com.setycz.chickens.integration.kubejs.MachineRecipeRegistry;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.LiquidEggItem;
 import com.setycz.chickens.menu.AvianFluidConverterMenu;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -73,6 +74,8 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
     @Nullable
     private Component customName;
 
+    private final HudStateTracker hudState = new HudStateTracker();
+
     public AvianFluidConverterBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.AVIAN_FLUID_CONVERTER.get(), pos, state);
         if (state.hasProperty(AvianFluidConverterBlock.LIT)) {
@@ -81,6 +84,19 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
         syncWithConfig(true);
     }
 
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        hudState.bump();
+    }
+
+    /**
+     * State version and cached overlay payloads for the Jade/WTHIT providers.
+     */
+    public HudStateTracker getHudState() {
+        return hudState;
+    }
+
     public static <T extends BlockEntity> BlockEntityTicker<T> serverTicker() {
         return (level, pos, state, blockEntity) -> {
             if (blockEntity instanceof AvianFluidConverterBlockEntity converter) {
@@ -101,7 +117,7 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
             exported = tank.getFluidAmount() != before;
         }
         boolean shouldGlow = shouldBlockGlow(drained || exported);
-        updateActiveState(level, shouldGlow);
+        updateActiveState(shouldGlow);
         if (drained || exported) {
             setChanged();
         }
@@ -137,7 +153,8 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
         if (accepted < payload.getAmount()) {
             return false;
         }
-        tank.fill(payload, IFluidHandler.FluidAction.EXECUTE);
+        int filled = tank.fill(payload, IFluidHandler.FluidAction.EXECUTE);
+        ProductionStats.record(ProductionStats.Channel.FLUID_CONVERTER, filled);
         items.set(0, ItemStack.EMPTY);
         return true;
     }
@@ -170,7 +187,7 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
             BlockState state = getBlockState();
             level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
             level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -245,7 +262,7 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
         }
         setChanged();
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -356,7 +373,7 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
         super.onLoad();
         syncWithConfig(false);
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -385,16 +402,12 @@ public class AvianFluidConverterBlockEntity extends BlockEntity implements World
         return drainedThisTick || hasEggReserves || !tank.isEmpty();
     }
 
-    private void updateActiveState(Level level, boolean active) {
+    private void updateActiveState(boolean active) {
         if (cachedActiveState == active) {
             return;
         }
         cachedActiveState = active;
-        BlockState state = getBlockState();
-        if (!state.hasProperty(AvianFluidConverterBlock.LIT)) {
-            return;
-        }
-        level.setBlock(worldPosition, state.setValue(AvianFluidConverterBlock.LIT, active), Block.UPDATE_CLIENTS);
+        MachineLitState.request(this, active);
     }
 
     private static boolean isLiquidEgg(ItemStack stack) {
@@ -5,6 +5,7 @@ import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.config.ChickensConfigValues;
 import com.setycz.chickens.item.FluxEggItem;
 import com.setycz.chickens.menu.AvianFluxConverterMenu;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -106,6 +107,8 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
     @Nullable
     private Component customName;
 
+    private final HudStateTracker hudState = new HudStateTracker();
+
     public AvianFluxConverterBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.AVIAN_FLUX_CONVERTER.get(), pos, state);
         if (state.hasProperty(AvianFluxConverterBlock.LIT)) {
@@ -114,6 +117,19 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
         syncWithConfig(true);
     }
 
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        hudState.bump();
+    }
+
+    /**
+     * State version and cached overlay payloads for the Jade/WTHIT providers.
+     */
+    public HudStateTracker getHudState() {
+        return hudState;
+    }
+
     public static void serverTick(Level level, BlockPos pos, BlockState state, AvianFluxConverterBlockEntity converter) {
         converter.tickServer(level);
     }
@@ -130,7 +146,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
             exported = energyBeforePush != energy;
         }
         boolean shouldGlow = shouldBlockGlow(drainedEgg || exported);
-        updateActiveState(level, shouldGlow);
+        updateActiveState(shouldGlow);
         if (drainedEgg || exported) {
             setChanged();
         }
@@ -143,7 +159,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
             level.sendBlockUpdated(worldPosition, state, state, Block.UPDATE_ALL);
             level.updateNeighbourForOutputSignal(worldPosition, state.getBlock());
             // Keep the visual state in sync with external energy transfers (pipes, etc.).
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -154,15 +170,20 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
         if (!isFluxEgg(stack)) {
             return false;
         }
+        if (energy >= capacity) {
+            return false;
+        }
         int stored = FluxEggItem.getStoredEnergy(stack);
-        if (stored <= 0 || energy >= capacity) {
+        if (stored <= 0) {
             return false;
         }
         int transferred = energyStorage.receiveEnergy(stored, false);
         if (transferred <= 0) {
             return false;
         }
+        ProductionStats.record(ProductionStats.Channel.FLUX_CONVERTER, transferred);
         int remaining = stored - transferred;
+        // A single component swap; the egg's custom data is left untouched.
         FluxEggItem.setStoredEnergy(stack, remaining);
         if (remaining <= 0) {
             // Remove the depleted shell once its Redstone Flux payload is exhausted.
@@ -279,7 +300,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
         }
         setChanged();
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -401,7 +422,7 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
         super.onLoad();
         syncWithConfig(false);
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, shouldBlockGlow(false));
+            updateActiveState(shouldBlockGlow(false));
         }
     }
 
@@ -414,16 +435,11 @@ public class AvianFluxConverterBlockEntity extends BlockEntity implements Worldl
         return drainedThisTick || hasEggReserves || energy > 0;
     }
 
-    private void updateActiveState(Level level, boolean active) {
+    private void updateActiveState(boolean active) {
         if (cachedActiveState == active) {
             return;
         }
         cachedActiveState = active;
-        BlockState state = getBlockState();
-        if (!state.hasProperty(AvianFluxConverterBlock.LIT)) {
-            return;
-        }
-        level.setBlock(worldPosition, state.setValue(AvianFluxConverterBlock.LIT, active),
-                Block.UPDATE_CLIENTS);
+        MachineLitState.request(this, active);
     }
 }
@@ -8,6 +8,7 @@ import com.setycz.chickens.entity.ChickensChicken;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickenStats;
 import com.setycz.chickens.menu.BreederMenu;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModBlockEntities;
 import com.setycz.chickens.registry.ModEntityTypes;
 import com.setycz.chickens.registry.ModRegistry;
@@ -67,6 +68,7 @@ public class BreederBlockEntity extends AbstractChickenContainerBlockEntity {
         }
         ItemStack stack = new ItemStack(ModRegistry.CHICKEN_ITEM.get());
         ChickenItemHelper.copyFromEntity(stack, child);
+        ProductionStats.record(ProductionStats.Channel.BREEDER_BIRTH, child.getChickenType(), stack.getCount());
         ItemStack remaining = pushIntoOutput(stack);
         if (!remaining.isEmpty()) {
             Containers.dropItemStack(serverLevel, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(), remaining);
@@ -76,6 +78,12 @@ public class BreederBlockEntity extends AbstractChickenContainerBlockEntity {
     }
     
 
+    @Override
+    protected boolean syncsOutputToClient() {
+        // The renderer only draws the parents and the seed slot.
+        return false;
+    }
+
     @Nullable
     private ChickensChicken createParentFromSlot(ServerLevel level, int slot) {
         ItemStack stack = getItem(slot);
@@ -4,6 +4,11 @@ import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.menu.CollectorMenu;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.network.chat.Component;
 import net.minecraft.util.RandomSource;
 import net.minecraft.util.Mth;
@@ -12,20 +17,43 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.capabilities.BlockCapabilityCache;
+import net.neoforged.neoforge.capabilities.Capabilities;
+import net.neoforged.neoforge.items.IItemHandler;
+import net.neoforged.neoforge.items.ItemHandlerHelper;
 
+import javax.annotation.Nullable;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * Block entity that periodically scans nearby roost-style containers and pulls
  * drops into its own inventory. The logic mirrors the legacy collector while
  * reusing the shared container base for inventory persistence.
+ * <p>
+ * A collector can also be given an export face, after which it pushes its
+ * stored drops into the item handler on that side every
+ * {@code collectorExportInterval} ticks. Identical stacks are merged into one
+ * insertion, and a target that fills up is left alone until it changes.
+ * Overflow held in the {@link OutputBuffer} is exported after the slots.
  */
 public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
     public static final int INVENTORY_SIZE = 27;
     private static final int MAX_SCAN_RANGE = 16;
+    // A full target wakes the collector when it changes; this is the fallback for
+    // storage that never reports a change.
+    private static final int SLEEP_INTERVALS = 10;
+
+    @Nullable
+    private Direction exportFace;
+    @Nullable
+    private BlockCapabilityCache<IItemHandler, Direction> exportTarget;
+    private int exportCooldown;
+    private int sleepingIntervals;
 
     public CollectorBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.COLLECTOR.get(), pos, state, INVENTORY_SIZE, 0);
@@ -36,6 +64,169 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
         super.runServerTick(level);
         int range = clampRange(ChickensConfigHolder.get().getCollectorScanRange());
         gatherItems(level, range);
+        exportIfDue(level);
+    }
+
+    @Nullable
+    public Direction getExportFace() {
+        return exportFace;
+    }
+
+    /**
+     * Sets the side the collector exports through, or turns exporting off
+     * with {@code null}.
+     */
+    public void setExportFace(@Nullable Direction face) {
+        exportFace = face;
+        exportTarget = null;
+        exportCooldown = 0;
+        wakeExport();
+        setChanged();
+    }
+
+    /**
+     * Called when the export target may have changed, such as a neighbour
+     * update or the target block being replaced.
+     */
+    public void wakeExport() {
+        sleepingIntervals = 0;
+    }
+
+    /**
+     * Whether {@code neighbor} is the block the collector exports into.
+     */
+    public boolean isExportTarget(BlockPos neighbor) {
+        return exportFace != null && worldPosition.relative(exportFace).equals(neighbor);
+    }
+
+    private void exportIfDue(Level level) {
+        if (exportFace == null || !(level instanceof ServerLevel serverLevel)) {
+            return;
+        }
+        int interval = ChickensConfigHolder.get().getCollectorExportInterval();
+        if (interval <= 0 || ++exportCooldown < interval) {
+            return;
+        }
+        exportCooldown = 0;
+        if (sleepingIntervals > 0) {
+            sleepingIntervals--;
+            return;
+        }
+        if (exportTarget == null) {
+            exportTarget = BlockCapabilityCache.create(Capabilities.ItemHandler.BLOCK, serverLevel,
+                    worldPosition.relative(exportFace), exportFace.getOpposite(), () -> !isRemoved(), this::wakeExport);
+        }
+        IItemHandler target = exportTarget.getCapability();
+        if (target != null && !exportOutputs(target)) {
+            sleepingIntervals = SLEEP_INTERVALS;
+        }
+    }
+
+    /**
+     * Pushes every output stack into {@code target}, inserting all slots that
+     * hold the same item as one merged amount.
+     *
+     * @return {@code false} when something was left behind because the
+     *         target had no room.
+     */
+    private boolean exportOutputs(IItemHandler target) {
+        int start = getOutputSlotIndex();
+        int size = getContainerSize();
+        NonNullList<ItemStack> items = getItems();
+        long merged = 0L;
+        boolean moved = false;
+        boolean fits = true;
+        for (int slot = start; slot < size; slot++) {
+            ItemStack stack = items.get(slot);
+            if (stack.isEmpty() || (merged & (1L << slot)) != 0L) {
+                continue;
+            }
+            int total = 0;
+            for (int other = slot; other < size; other++) {
+                ItemStack candidate = items.get(other);
+                if (!candidate.isEmpty() && ItemStack.isSameItemSameComponents(stack, candidate)) {
+                    total += candidate.getCount();
+                    merged |= 1L << other;
+                }
+            }
+            ItemStack template = stack.copyWithCount(1);
+            int inserted = insertStacked(target, template, total);
+            if (inserted < total) {
+                fits = false;
+            }
+            if (inserted > 0) {
+                moved = true;
+                takeFromOutput(template, slot, inserted);
+            }
+        }
+        OutputBuffer buffer = getOutputBuffer();
+        for (int index = buffer.size() - 1; index >= 0; index--) {
+            ItemStack template = buffer.getTemplate(index);
+            int offered = (int) Math.min(buffer.getCount(index), Integer.MAX_VALUE);
+            int inserted = insertStacked(target, template, offered);
+            if (inserted < offered) {
+                fits = false;
+            }
+            if (inserted > 0) {
+                moved = true;
+                buffer.extract(index, inserted);
+            }
+        }
+        if (moved) {
+            setChanged();
+            // The renderer draws the stored drops.
+            markChickenDataDirty();
+        }
+        return fits;
+    }
+
+    private static int insertStacked(IItemHandler target, ItemStack template, int count) {
+        int remaining = count;
+        int maxStackSize = template.getMaxStackSize();
+        while (remaining > 0) {
+            int chunk = Math.min(remaining, maxStackSize);
+            ItemStack rest = ItemHandlerHelper.insertItemStacked(target, template.copyWithCount(chunk), false);
+            remaining -= chunk - rest.getCount();
+            if (!rest.isEmpty()) {
+                break;
+            }
+        }
+        return count - remaining;
+    }
+
+    private void takeFromOutput(ItemStack template, int fromSlot, int count) {
+        NonNullList<ItemStack> items = getItems();
+        int remaining = count;
+        for (int slot = fromSlot; slot < items.size() && remaining > 0; slot++) {
+            ItemStack stack = items.get(slot);
+            if (stack.isEmpty() || !ItemStack.isSameItemSameComponents(stack, template)) {
+                continue;
+            }
+            int taken = Math.min(remaining, stack.getCount());
+            stack.shrink(taken);
+            if (stack.isEmpty()) {
+                items.set(slot, ItemStack.EMPTY);
+            }
+            remaining -= taken;
+        }
+    }
+
+    @Override
+    protected void saveAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.saveAdditional(tag, registries);
+        if (exportFace != null) {
+            tag.putString("ExportFace", exportFace.getSerializedName());
+        }
+    }
+
+    @Override
+    protected void loadAdditional(CompoundTag tag, HolderLookup.Provider registries) {
+        super.loadAdditional(tag, registries);
+        Direction face = tag.contains("ExportFace", Tag.TAG_STRING) ? Direction.byName(tag.getString("ExportFace")) : null;
+        if (face != exportFace) {
+            exportFace = face;
+            exportTarget = null;
+        }
     }
 
     @Override
@@ -53,6 +244,11 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
         return 1.0D;
     }
 
+    @Override
+    protected boolean usesOutputBuffer() {
+        return true;
+    }
+
     @Override
     protected int getChickenSlotCount() {
         return 0;
@@ -74,6 +270,16 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
     }
 
     private void gatherItems(Level level, int range) {
+        forEachContainer(level, level::hasChunkAt, worldPosition, range, this::drainContainer);
+    }
+
+    /**
+     * Visits every chicken container in the cube of {@code range} around
+     * {@code origin}, skipping unloaded positions and the block at the origin,
+     * until {@code visitor} returns {@code true}.
+     */
+    static void forEachContainer(BlockGetter level, Predicate<BlockPos> loaded, BlockPos origin, int range,
+            Predicate<AbstractChickenContainerBlockEntity> visitor) {
         if (range <= 0) {
             return;
         }
@@ -85,15 +291,13 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
                     if (xOffset == 0 && yOffset == 0 && zOffset == 0) {
                         continue;
                     }
-                    cursor.setWithOffset(worldPosition, xOffset, yOffset, zOffset);
-                    if (!level.hasChunkAt(cursor)) {
+                    cursor.setWithOffset(origin, xOffset, yOffset, zOffset);
+                    if (!loaded.test(cursor)) {
                         continue;
                     }
                     BlockEntity blockEntity = level.getBlockEntity(cursor);
-                    if (blockEntity instanceof AbstractChickenContainerBlockEntity other && other != this) {
-                        if (drainContainer(other)) {
-                            return;
-                        }
+                    if (blockEntity instanceof AbstractChickenContainerBlockEntity other && visitor.test(other)) {
+                        return;
                     }
                 }
             }
@@ -113,12 +317,24 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
                     return true;
                 }
                 other.removeItem(slot, transferred);
-                if (isOutputInventoryFull()) {
+                if (outputIsFull()) {
                     return true;
                 }
                 stack = other.getItem(slot);
             }
         }
+        // Take the source's overflow in one move per item rather than waiting for it to trickle into its slots.
+        OutputBuffer buffer = other.getOutputBuffer();
+        for (int index = buffer.size() - 1; index >= 0; index--) {
+            ItemStack template = buffer.getTemplate(index);
+            int offered = (int) Math.min(buffer.getCount(index), Integer.MAX_VALUE);
+            int transferred = offered - insertIntoOutput(template, offered);
+            if (transferred <= 0) {
+                return true;
+            }
+            buffer.extract(index, transferred);
+            other.setChanged();
+        }
         return false;
     }
 
@@ -145,16 +361,4 @@ public class CollectorBlockEntity extends AbstractChickenContainerBlockEntity {
     private static int clampRange(int configuredRange) {
         return Mth.clamp(configuredRange, 0, MAX_SCAN_RANGE);
     }
-
-    private boolean isOutputInventoryFull() {
-        int start = getOutputSlotIndex();
-        int size = getContainerSize();
-        for (int slot = start; slot < size; slot++) {
-            ItemStack stack = getItem(slot);
-            if (stack.isEmpty() || stack.getCount() < stack.getMaxStackSize()) {
-                return false;
-            }
-        }
-        return true;
-    }
 }
@@ -0,0 +1,426 @@
+package com.setycz.chickens.blockentity;
+
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.block.CoopCasingBlock;
+import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity.ChickenContainerEntry;
+import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.item.ChickenStats;
+import com.setycz.chickens.profile.ProductionStats;
+import com.setycz.chickens.registry.ModBlockEntities;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.core.NonNullList;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.sounds.SoundEvents;
+import net.minecraft.sounds.SoundSource;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.ContainerHelper;
+import net.minecraft.world.Containers;
+import net.minecraft.world.WorldlyContainer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Controller of the chicken coop multiblock. Every coop casing among the 26
+ * blocks around the controller opens one chicken slot, and each slot lays
+ * exactly like a roost holding the same stack: its own lay timer advanced by
+ * stack size times growth, the chicken's lay coefficient and the roost speed
+ * multiplier. All slots share one output inventory, one ticker and one item
+ * capability, so a coop replaces a wall of roosts without their per-block
+ * overhead. Nest auras are not applied to coops.
+ */
+public class CoopControllerBlockEntity extends BlockEntity implements WorldlyContainer {
+    public static final int MAX_CHICKEN_SLOTS = 26;
+    public static final int OUTPUT_SLOTS = 27;
+    public static final int INVENTORY_SIZE = MAX_CHICKEN_SLOTS + OUTPUT_SLOTS;
+    private static final int MAX_CHICKENS = 16;
+    private static final int[] ALL_SLOTS = new int[INVENTORY_SIZE];
+
+    static {
+        Arrays.setAll(ALL_SLOTS, slot -> slot);
+    }
+
+    private final NonNullList<ItemStack> items = NonNullList.withSize(INVENTORY_SIZE, ItemStack.EMPTY);
+    private final ChickenContainerEntry[] entries = new ChickenContainerEntry[MAX_CHICKEN_SLOTS];
+    // Per-slot roost timers: progress so far and the progress that triggers the next lay.
+    private final int[] timeElapsed = new int[MAX_CHICKEN_SLOTS];
+    private final int[] timeUntilNextLay = new int[MAX_CHICKEN_SLOTS];
+    private int activeSlots;
+    private boolean structureDirty = true;
+    private boolean chickensDirty = true;
+    private boolean outputFull;
+
+    public CoopControllerBlockEntity(BlockPos pos, BlockState state) {
+        super(ModBlockEntities.COOP_CONTROLLER.get(), pos, state);
+    }
+
+    public static void serverTick(Level level, BlockPos pos, BlockState state, CoopControllerBlockEntity coop) {
+        coop.tickServer(level);
+    }
+
+    private void tickServer(Level level) {
+        if (level.isClientSide) {
+            return;
+        }
+        if (structureDirty) {
+            activeSlots = Math.min(countCasings(level), MAX_CHICKEN_SLOTS);
+            structureDirty = false;
+        }
+        if (chickensDirty) {
+            refreshEntries(level.random);
+            chickensDirty = false;
+        }
+        if (outputFull) {
+            return;
+        }
+        boolean changed = false;
+        for (int slot = 0; slot < activeSlots; slot++) {
+            ChickenContainerEntry entry = entries[slot];
+            if (entry == null) {
+                continue;
+            }
+            timeElapsed[slot] += entry.getAddedTime(items.get(slot));
+            changed = true;
+            if (timeElapsed[slot] >= timeUntilNextLay[slot]) {
+                lay(level, entry);
+                resetTimer(slot, entry, level.random);
+                if (outputFull) {
+                    break;
+                }
+            }
+        }
+        if (changed) {
+            setChanged();
+        }
+    }
+
+    private void lay(Level level, ChickenContainerEntry entry) {
+        ItemStack template = entry.chicken().getLayTemplate();
+        int count = entry.getYield();
+        ProductionStats.record(ProductionStats.Channel.ROOST_LAY, entry.chicken().getId(), count);
+        int remaining = insertIntoOutput(template, count);
+        if (remaining > 0) {
+            Containers.dropItemStack(level, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
+                    template.copyWithCount(remaining));
+        }
+        outputFull = isOutputFull();
+    }
+
+    private void resetTimer(int slot, ChickenContainerEntry entry, RandomSource random) {
+        double multiplier = ChickensConfigHolder.get().getRoostSpeedMultiplier() * entry.chicken().getLayCoefficient();
+        timeElapsed[slot] = 0;
+        timeUntilNextLay[slot] = (int) (entry.getLayTime(random) / Math.max(multiplier, 0.0001D));
+    }
+
+    private void refreshEntries(RandomSource random) {
+        for (int slot = 0; slot < MAX_CHICKEN_SLOTS; slot++) {
+            ChickenContainerEntry entry = createEntry(items.get(slot));
+            if (!Objects.equals(entries[slot], entry)) {
+                entries[slot] = entry;
+                if (entry != null) {
+                    resetTimer(slot, entry, random);
+                } else {
+                    timeElapsed[slot] = 0;
+                    timeUntilNextLay[slot] = 0;
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private static ChickenContainerEntry createEntry(ItemStack stack) {
+        if (!ChickenItemHelper.isChicken(stack)) {
+            return null;
+        }
+        ChickensRegistryItem chicken = ChickenItemHelper.resolve(stack);
+        if (chicken == null) {
+            return null;
+        }
+        ChickenStats stats = ChickenItemHelper.getStats(stack);
+        return new ChickenContainerEntry(chicken, stats);
+    }
+
+    private int countCasings(Level level) {
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        int casings = 0;
+        for (int dx = -1; dx <= 1; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -1; dz <= 1; dz++) {
+                    if (dx == 0 && dy == 0 && dz == 0) {
+                        continue;
+                    }
+                    cursor.setWithOffset(worldPosition, dx, dy, dz);
+                    if (level.isLoaded(cursor) && level.getBlockState(cursor).getBlock() instanceof CoopCasingBlock) {
+                        casings++;
+                    }
+                }
+            }
+        }
+        return casings;
+    }
+
+    /**
+     * Called by a casing placed or removed next to the controller.
+     */
+    public void invalidateStructure() {
+        structureDirty = true;
+    }
+
+    public int getActiveSlots() {
+        return activeSlots;
+    }
+
+    /**
+     * Chicken slots that currently hold a chicken and have a casing to lay in.
+     */
+    public int getLayingSlots() {
+        int laying = 0;
+        for (int slot = 0; slot < activeSlots; slot++) {
+            if (entries[slot] != null) {
+                laying++;
+            }
+        }
+        return laying;
+    }
+
+    /**
+     * Inserts output in slot order, growing matching stacks in place; the
+     * template is never modified.
+     *
+     * @return how many items did not fit.
+     */
+    private int insertIntoOutput(ItemStack template, int count) {
+        int remaining = count;
+        for (int slot = MAX_CHICKEN_SLOTS; slot < INVENTORY_SIZE && remaining > 0; slot++) {
+            ItemStack existing = items.get(slot);
+            int maxStackSize = Math.min(template.getMaxStackSize(), getMaxStackSize());
+            if (existing.isEmpty()) {
+                int moved = Math.min(maxStackSize, remaining);
+                items.set(slot, template.copyWithCount(moved));
+                remaining -= moved;
+            } else if (ItemStack.isSameItemSameComponents(existing, template)) {
+                int moved = Math.min(maxStackSize - existing.getCount(), remaining);
+                if (moved > 0) {
+                    existing.grow(moved);
+                    remaining -= moved;
+                }
+            }
+        }
+        return remaining;
+    }
+
+    private boolean isOutputFull() {
+        for (int slot = MAX_CHICKEN_SLOTS; slot < INVENTORY_SIZE; slot++) {
+            ItemStack stack = items.get(slot);
+            if (stack.isEmpty() || stack.getCount() < stack.getMaxStackSize()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Puts chickens into the first slot holding the same stack with room, or
+     * else the first empty active slot.
+     */
+    public boolean putChicken(ItemStack newStack) {
+        if (!ChickenItemHelper.isChicken(newStack) || level == null) {
+            return false;
+        }
+        int target = -1;
+        for (int slot = 0; slot < activeSlots; slot++) {
+            ItemStack current = items.get(slot);
+            if (current.isEmpty()) {
+                if (target < 0) {
+                    target = slot;
+                }
+            } else if (ItemStack.isSameItemSameComponents(current, newStack) && current.getCount() < MAX_CHICKENS) {
+                target = slot;
+                break;
+            }
+        }
+        if (target < 0) {
+            return false;
+        }
+        ItemStack current = items.get(target);
+        if (current.isEmpty()) {
+            setItem(target, newStack.split(Math.min(MAX_CHICKENS, newStack.getCount())));
+        } else {
+            int toMove = Math.min(MAX_CHICKENS - current.getCount(), newStack.getCount());
+            current.grow(toMove);
+            newStack.shrink(toMove);
+            setChanged();
+        }
+        level.playSound(null, worldPosition, SoundEvents.ITEM_FRAME_ADD_ITEM, SoundSource.BLOCKS, 1.0F, 1.0F);
+        return true;
+    }
+
+    /**
+     * Hands every chicken in the coop back to the player.
+     */
+    public boolean pullChickensOut(Player player) {
+        boolean pulled = false;
+        for (int slot = 0; slot < MAX_CHICKEN_SLOTS; slot++) {
+            ItemStack stack = items.get(slot);
+            if (stack.isEmpty()) {
+                continue;
+            }
+            setItem(slot, ItemStack.EMPTY);
+            if (!player.addItem(stack)) {
+                player.drop(stack, false);
+            }
+            pulled = true;
+        }
+        if (pulled && level != null) {
+            level.playSound(null, worldPosition, SoundEvents.ITEM_FRAME_REMOVE_ITEM, SoundSource.BLOCKS, 1.0F, 1.0F);
+        }
+        return pulled;
+    }
+
+    public NonNullList<ItemStack> getItems() {
+        return items;
+    }
+
+    private void onSlotChanged(int index) {
+        if (index < MAX_CHICKEN_SLOTS) {
+            chickensDirty = true;
+        } else {
+            outputFull = isOutputFull();
+        }
+        setChanged();
+    }
+
+    // ---------------------------------------------------------------------
+    // Container implementation
+    // ---------------------------------------------------------------------
+
+    @Override
+    public int getContainerSize() {
+        return INVENTORY_SIZE;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        for (ItemStack stack : items) {
+            if (!stack.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public ItemStack getItem(int index) {
+        return items.get(index);
+    }
+
+    @Override
+    public ItemStack removeItem(int index, int count) {
+        ItemStack removed = ContainerHelper.removeItem(items, index, count);
+        if (!removed.isEmpty()) {
+            onSlotChanged(index);
+        }
+        return removed;
+    }
+
+    @Override
+    public ItemStack removeItemNoUpdate(int index) {
+        ItemStack removed = ContainerHelper.takeItem(items, index);
+        if (!removed.isEmpty()) {
+            onSlotChanged(index);
+        }
+        return removed;
+    }
+
+    @Override
+    public void setItem(int index, ItemStack stack) {
+        items.set(index, stack);
+        int limit = index < MAX_CHICKEN_SLOTS ? MAX_CHICKENS : getMaxStackSize();
+        if (stack.getCount() > limit) {
+            stack.setCount(limit);
+        }
+        onSlotChanged(index);
+    }
+
+    @Override
+    public boolean stillValid(Player player) {
+        if (level == null || level.getBlockEntity(worldPosition) != this) {
+            return false;
+        }
+        return player.distanceToSqr(worldPosition.getX() + 0.5D, worldPosition.getY() + 0.5D,
+                worldPosition.getZ() + 0.5D) <= 64.0D;
+    }
+
+    @Override
+    public boolean canPlaceItem(int index, ItemStack stack) {
+        return index < MAX_CHICKEN_SLOTS && ChickenItemHelper.isChicken(stack);
+    }
+
+    @Override
+    public boolean canPlaceItemThroughFace(int index, ItemStack stack, @Nullable Direction direction) {
+        return canPlaceItem(index, stack);
+    }
+
+    @Override
+    public boolean canTakeItemThroughFace(int index, ItemStack stack, Direction direction) {
+        return index >= MAX_CHICKEN_SLOTS;
+    }
+
+    @Override
+    public int[] getSlotsForFace(Direction side) {
+        return ALL_SLOTS;
+    }
+
+    @Override
+    public void clearContent() {
+        for (int i = 0; i < items.size(); i++) {
+            items.set(i, ItemStack.EMPTY);
+        }
+        chickensDirty = true;
+        outputFull = false;
+        setChanged();
+    }
+
+    @Override
+    public int getMaxStackSize() {
+        return 64;
+    }
+
+    // ---------------------------------------------------------------------
+    // Persistence
+    // ---------------------------------------------------------------------
+
+    @Override
+    protected void saveAdditional(CompoundTag tag, HolderLookup.Provider provider) {
+        super.saveAdditional(tag, provider);
+        ContainerHelper.saveAllItems(tag, items, provider);
+        tag.putIntArray("TimeElapsed", timeElapsed);
+        tag.putIntArray("TimeUntilNextLay", timeUntilNextLay);
+    }
+
+    @Override
+    protected void loadAdditional(CompoundTag tag, HolderLookup.Provider provider) {
+        super.loadAdditional(tag, provider);
+        ContainerHelper.loadAllItems(tag, items, provider);
+        int[] elapsed = tag.getIntArray("TimeElapsed");
+        int[] until = tag.getIntArray("TimeUntilNextLay");
+        // Rebuild the entries quietly so a reload keeps each slot's lay timer.
+        for (int slot = 0; slot < MAX_CHICKEN_SLOTS; slot++) {
+            entries[slot] = createEntry(items.get(slot));
+            timeElapsed[slot] = slot < elapsed.length ? elapsed[slot] : 0;
+            timeUntilNextLay[slot] = slot < until.length ? until[slot] : 0;
+        }
+        chickensDirty = false;
+        structureDirty = true;
+        outputFull = isOutputFull();
+    }
+}
@@ -1,6 +1,8 @@
 package com.setycz.chickens.blockentity;
 
 import com.setycz.chickens.menu.HenhouseMenu;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -19,6 +21,7 @@ import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerData;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.BlockGetter;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.entity.BlockEntity;
@@ -29,8 +32,12 @@ import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.common.Tags;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.minecraft.world.level.block.Block;
 
 /**
@@ -50,7 +57,7 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
     private static final double FENCE_THRESHOLD = 0.5D;
     private static final double MAX_ENTITY_RADIUS = 2.0D;
     private static final double BASE_RADIUS = 4.0D;
-    private static final double SEARCH_RADIUS = BASE_RADIUS + HENHOUSE_RADIUS + FENCE_THRESHOLD;
+    static final double SEARCH_RADIUS = BASE_RADIUS + HENHOUSE_RADIUS + FENCE_THRESHOLD;
 
     private static final int[] UP_SLOTS = new int[] { HAY_SLOT };
     private static final int[] DOWN_SLOTS;
@@ -90,10 +97,32 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
     @Nullable
     private Component customName;
 
+    private final HudStateTracker hudState = new HudStateTracker();
+
+    // Henhouses that took eggs this tick; only touched on the server thread.
+    private static final Set<HenhouseBlockEntity> PENDING_SYNC = new ReferenceOpenHashSet<>();
+
     public HenhouseBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.HENHOUSE.get(), pos, state);
     }
 
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(HenhouseBlockEntity::flushPendingSyncs);
+    }
+
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        hudState.bump();
+    }
+
+    /**
+     * State version and cached overlay payloads for the Jade/WTHIT providers.
+     */
+    public HudStateTracker getHudState() {
+        return hudState;
+    }
+
     /**
      * Attempts to push the provided stack into nearby henhouses. This mirrors the
      * static helper from the legacy tile entity so chickens can deliver eggs
@@ -103,7 +132,9 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
         if (stack.isEmpty() || level.isClientSide) {
             return stack;
         }
+        long start = TickTimings.start();
         List<HenhouseBlockEntity> henhouses = findHenhouses(level, origin, SEARCH_RADIUS);
+        TickTimings.stop(TickSource.HENHOUSE_LOOKUP, level, BlockPos.containing(origin), start);
         ItemStack remaining = stack.copy();
         for (HenhouseBlockEntity henhouse : henhouses) {
             remaining = henhouse.pushIntoInventory(remaining);
@@ -114,7 +145,11 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
         return remaining;
     }
 
-    private static List<HenhouseBlockEntity> findHenhouses(Level level, Vec3 origin, double radius) {
+    /**
+     * Returns henhouses within {@code radius} of {@code origin}, nearest first.
+     * Only block entity lookups are needed, so any {@link BlockGetter} will do.
+     */
+    static List<HenhouseBlockEntity> findHenhouses(BlockGetter level, Vec3 origin, double radius) {
         int minX = Mth.floor((origin.x - radius - MAX_ENTITY_RADIUS));
         int maxX = Mth.ceil((origin.x + radius + MAX_ENTITY_RADIUS));
         int minY = Mth.floor((origin.y - radius - MAX_ENTITY_RADIUS));
@@ -212,56 +247,59 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
         }
 
         if (modified) {
-            sync();
+            requestSync();
         }
         return remaining.isEmpty() ? ItemStack.EMPTY : remaining;
     }
 
+    /**
+     * Spends {@code amount} energy, burning whole hay bales once the stored
+     * charge runs out and leaving one dirt for every charge drained to zero.
+     * This is the bale-by-bale loop the legacy henhouse ran, in closed form.
+     *
+     * @return whether any energy was spent.
+     */
     private boolean consumeEnergy(int amount) {
-        boolean modified = false;
-        while (amount > 0) {
+        int remaining = amount;
+        int drained = 0;
+        if (energy > 0 && remaining > 0) {
+            int used = Math.min(energy, remaining);
+            energy -= used;
+            remaining -= used;
             if (energy == 0) {
-                if (!chargeFromHay()) {
-                    break;
-                }
-                modified = true;
-            }
-
-            int consumed = Math.min(amount, energy);
-            if (consumed <= 0) {
-                break;
+                drained++;
             }
-            energy -= consumed;
-            amount -= consumed;
-            modified = true;
-
-            if (energy <= 0) {
-                ItemStack dirtStack = items.get(DIRT_SLOT);
-                if (dirtStack.isEmpty()) {
-                    items.set(DIRT_SLOT, new ItemStack(Blocks.DIRT));
-                } else if (dirtStack.is(Blocks.DIRT.asItem()) && dirtStack.getCount() < dirtStack.getMaxStackSize()) {
-                    dirtStack.grow(1);
+        }
+        if (remaining > 0) {
+            ItemStack hayStack = items.get(HAY_SLOT);
+            int available = isHayFuel(hayStack) ? hayStack.getCount() : 0;
+            int bales = Math.min(available, Mth.positiveCeilDiv(remaining, HAY_BALE_ENERGY));
+            if (bales > 0) {
+                hayStack.shrink(bales);
+                if (hayStack.isEmpty()) {
+                    items.set(HAY_SLOT, ItemStack.EMPTY);
                 }
-                modified = true;
+                int used = Math.min(bales * HAY_BALE_ENERGY, remaining);
+                energy = bales * HAY_BALE_ENERGY - used;
+                remaining -= used;
+                // Every bale but a partly used last one is burnt down to dirt.
+                drained += energy == 0 ? bales : bales - 1;
             }
         }
-        if (modified) {
-            sync();
-        }
-        return modified;
+        addDirt(drained);
+        return remaining < amount;
     }
 
-    private boolean chargeFromHay() {
-        ItemStack hayStack = items.get(HAY_SLOT);
-        if (!isHayFuel(hayStack)) {
-            return false;
+    private void addDirt(int count) {
+        if (count <= 0) {
+            return;
         }
-        hayStack.shrink(1);
-        if (hayStack.isEmpty()) {
-            items.set(HAY_SLOT, ItemStack.EMPTY);
+        ItemStack dirtStack = items.get(DIRT_SLOT);
+        if (dirtStack.isEmpty()) {
+            items.set(DIRT_SLOT, new ItemStack(Blocks.DIRT, Math.min(count, Blocks.DIRT.asItem().getDefaultMaxStackSize())));
+        } else if (dirtStack.is(Blocks.DIRT.asItem())) {
+            dirtStack.grow(Math.min(count, dirtStack.getMaxStackSize() - dirtStack.getCount()));
         }
-        energy += HAY_BALE_ENERGY;
-        return true;
     }
 
     private int canAdd(ItemStack slotStack, ItemStack input) {
@@ -302,6 +340,27 @@ public class HenhouseBlockEntity extends BlockEntity implements WorldlyContainer
         return (dirtStack.getMaxStackSize() - dirtStack.getCount()) * HAY_BALE_ENERGY;
     }
 
+    /**
+     * Queues one save and client update for the end of the server tick, so a
+     * pen full of chickens laying into this henhouse in the same tick costs
+     * one block update rather than one per egg.
+     */
+    private void requestSync() {
+        PENDING_SYNC.add(this);
+    }
+
+    private static void flushPendingSyncs(ServerTickEvent.Post event) {
+        if (PENDING_SYNC.isEmpty()) {
+            return;
+        }
+        for (HenhouseBlockEntity henhouse : PENDING_SYNC) {
+            if (!henhouse.isRemoved()) {
+                henhouse.sync();
+            }
+        }
+        PENDING_SYNC.clear();
+    }
+
     private void sync() {
         setChanged();
         Level level = getLevel();
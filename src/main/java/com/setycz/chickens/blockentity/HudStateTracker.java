@@ -0,0 +1,60 @@
+package com.setycz.chickens.blockentity;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Monotonic state version for a block entity plus a memo of the last HUD
+ * payload each overlay integration built from it. Block entities bump the
+ * version from {@code setChanged()}; providers pair it with a fingerprint of
+ * the per-tick counters they display (progress, buffers) so the Jade and WTHIT
+ * payloads are only rebuilt, and their components only re-serialised, when
+ * something visible actually changed.
+ */
+public final class HudStateTracker {
+    // Shared across block entities so a snapshot serial identifies one payload
+    // server-wide and clients can skip decoding a payload they already hold.
+    // The random start keeps serials from different server sessions apart.
+    private static final AtomicLong NEXT_SERIAL = new AtomicLong(ThreadLocalRandom.current().nextLong());
+
+    private final Map<Object, Snapshot<?>> snapshots = new IdentityHashMap<>(2);
+    private long version;
+
+    public void bump() {
+        version++;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * Returns the payload cached for {@code owner} when neither the state
+     * version nor the fingerprint moved since it was built, otherwise builds and
+     * caches a fresh one.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Snapshot<T> snapshot(Object owner, long fingerprint, Supplier<T> builder) {
+        Snapshot<?> cached = snapshots.get(owner);
+        if (cached != null && cached.version() == version && cached.fingerprint() == fingerprint) {
+            return (Snapshot<T>) cached;
+        }
+        Snapshot<T> fresh = new Snapshot<>(version, fingerprint, NEXT_SERIAL.incrementAndGet(), builder.get());
+        snapshots.put(owner, fresh);
+        return fresh;
+    }
+
+    /**
+     * Folds another displayed value into a fingerprint.
+     */
+    public static long mix(long fingerprint, long value) {
+        long h = (fingerprint ^ value) * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 32);
+    }
+
+    public record Snapshot<T>(long version, long fingerprint, long serial, T payload) {
+    }
+}
@@ -1,7 +1,7 @@
 package com.setycz.chickens.blockentity;
 
+import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
-import com.setycz.chickens.block.IncubatorBlock;
 import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.item.ChickensSpawnEggItem;
@@ -39,6 +39,8 @@ import javax.annotation.Nullable;
  * Block entity backing the Incubator machine. Tracks a two-slot inventory, a
  * small RF buffer, and incubation progress so automation mods can interact
  * with the machine using vanilla container and NeoForge energy capabilities.
+ * Each cycle hatches up to {@code incubatorBatchSize} eggs for that many times
+ * the per-egg energy cost.
  */
 public class IncubatorBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
     public static final int SLOT_COUNT = 2;
@@ -51,6 +53,7 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
     private static final int DEFAULT_ENERGY_MAX_RECEIVE = 4_000;
     public static final int MAX_PROGRESS = 200;
     private static final int DEFAULT_ENERGY_COST = 10_000;
+    private static final int MAX_BATCH_SIZE = 64;
 
     private final NonNullList<ItemStack> items = NonNullList.withSize(SLOT_COUNT, ItemStack.EMPTY);
     private int capacity = DEFAULT_ENERGY_CAPACITY;
@@ -60,15 +63,34 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
     private int energyReserved;
     private int cachedEnergyCost = DEFAULT_ENERGY_COST;
     private boolean cachedActiveState;
+    // Chicken item hatched from the current input type; copied, never inserted itself.
+    private ItemStack outputTemplate = ItemStack.EMPTY;
+    private int templateType = -1;
+    private int templateVersion = -1;
     @Nullable
     private Component customName;
 
+    private final HudStateTracker hudState = new HudStateTracker();
+
     public IncubatorBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.INCUBATOR.get(), pos, state);
         syncWithConfig(true);
         refreshEnergyCost();
     }
 
+    @Override
+    public void setChanged() {
+        super.setChanged();
+        hudState.bump();
+    }
+
+    /**
+     * State version and cached overlay payloads for the Jade/WTHIT providers.
+     */
+    public HudStateTracker getHudState() {
+        return hudState;
+    }
+
     public static void serverTick(Level level, BlockPos pos, BlockState state, IncubatorBlockEntity incubator) {
         incubator.tickServer(level);
     }
@@ -80,9 +102,10 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
         refreshEnergyCost();
         boolean changed = false;
         boolean pulledEnergy = pullEnergyFromNeighbors(level);
-        if (!canOperate()) {
+        int batch = hatchableCount();
+        if (batch <= 0) {
             changed |= resetProgress();
-            updateActiveState(level, false);
+            updateActiveState(false);
             if (pulledEnergy || changed) {
                 setChanged();
             }
@@ -90,14 +113,15 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
         }
 
         boolean advanced = false;
-        int energyCost = Math.max(1, cachedEnergyCost);
+        int energyCost = batchEnergyCost(batch);
         if (energyReserved < energyCost) {
             int perTick = Math.max(1, energyCost / MAX_PROGRESS);
             int needed = Math.min(perTick, energyCost - energyReserved);
             if (energyStorage.getEnergyStored() >= needed) {
-                energyStorage.extractEnergy(needed, false);
-                energyReserved += needed;
-                advanced = true;
+                // The storage refuses external extraction, so draw through the internal path.
+                int drawn = energyStorage.consume(needed);
+                energyReserved += drawn;
+                advanced = drawn >= needed;
             }
         } else {
             advanced = true;
@@ -107,18 +131,16 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
             progress = Math.min(MAX_PROGRESS, progress + 1);
             changed = true;
             if (progress >= MAX_PROGRESS && energyReserved >= energyCost) {
-                if (craftOutput()) {
-                    progress = 0;
-                    energyReserved = 0;
-                } else {
-                    refundReservedEnergy();
-                    progress = 0;
-                }
+                hatch(batch);
+                // A batch that shrank mid-cycle leaves some reservation over.
+                energyReserved -= energyCost;
+                refundReservedEnergy();
+                progress = 0;
                 changed = true;
             }
         }
 
-        updateActiveState(level, progress > 0);
+        updateActiveState(progress > 0);
         if (changed || pulledEnergy) {
             setChanged();
         }
@@ -130,65 +152,92 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
             progress = Math.max(progress - 2, 0);
             updated = true;
         }
-        if (energyReserved > 0) {
-            refundReservedEnergy();
+        if (refundReservedEnergy()) {
             updated = true;
         }
         return updated;
     }
 
-    private void refundReservedEnergy() {
-        if (energyReserved <= 0) {
-            return;
+    /**
+     * Returns reserved energy to the buffer, bypassing its receive limit. A
+     * batch reservation can exceed the buffer, so whatever does not fit stays
+     * reserved for the next cycle instead of being lost.
+     *
+     * @return whether any energy was returned.
+     */
+    private boolean refundReservedEnergy() {
+        int stored = energyStorage.getEnergyStored();
+        int refunded = Math.min(energyReserved, Math.max(capacity - stored, 0));
+        if (refunded <= 0) {
+            return false;
         }
-        energyStorage.receiveEnergy(energyReserved, false);
-        energyReserved = 0;
+        energyStorage.setEnergy(stored + refunded);
+        energyReserved -= refunded;
+        markEnergyDirty();
+        return true;
     }
 
-    private boolean craftOutput() {
-        ItemStack input = items.get(INPUT_SLOT);
-        if (!isEgg(input)) {
-            return false;
-        }
-        ChickensRegistryItem chicken = ChickenItemHelper.resolve(input);
-        if (chicken == null) {
-            return false;
-        }
+    /**
+     * Moves {@code count} eggs from the input into chickens in the output.
+     * Only called with a count {@link #hatchableCount()} just returned.
+     */
+    private void hatch(int count) {
         ItemStack output = items.get(OUTPUT_SLOT);
-        ItemStack result = ModRegistry.CHICKEN_ITEM.get().createFor(chicken);
         if (output.isEmpty()) {
-            items.set(OUTPUT_SLOT, result.copy());
-        } else if (ItemStack.isSameItemSameComponents(output, result)
-                && output.getCount() < output.getMaxStackSize()) {
-            output.grow(1);
+            items.set(OUTPUT_SLOT, outputTemplate.copyWithCount(count));
         } else {
-            return false;
+            output.grow(count);
         }
-        input.shrink(1);
+        ItemStack input = items.get(INPUT_SLOT);
+        input.shrink(count);
         if (input.isEmpty()) {
             items.set(INPUT_SLOT, ItemStack.EMPTY);
         }
-        return true;
     }
 
-    private boolean canOperate() {
+    /**
+     * Eggs the next cycle would hatch: the batch size limited by the eggs in
+     * the input and the room in the output. Zero when the machine cannot run.
+     */
+    private int hatchableCount() {
         ItemStack input = items.get(INPUT_SLOT);
         if (!isEgg(input)) {
-            return false;
+            return 0;
         }
-        ChickensRegistryItem chicken = ChickenItemHelper.resolve(input);
-        if (chicken == null) {
-            return false;
+        ItemStack template = getOutputTemplate(input);
+        if (template.isEmpty()) {
+            return 0;
         }
         ItemStack output = items.get(OUTPUT_SLOT);
-        ItemStack expected = ModRegistry.CHICKEN_ITEM.get().createFor(chicken);
+        int space;
         if (output.isEmpty()) {
-            return true;
+            space = template.getMaxStackSize();
+        } else if (ItemStack.isSameItemSameComponents(output, template)) {
+            space = output.getMaxStackSize() - output.getCount();
+        } else {
+            return 0;
         }
-        if (!ItemStack.isSameItemSameComponents(output, expected)) {
-            return false;
+        return Math.min(Math.min(batchSize(), input.getCount()), space);
+    }
+
+    private ItemStack getOutputTemplate(ItemStack input) {
+        int type = ChickenItemHelper.getChickenType(input);
+        int version = ChickensRegistry.version();
+        if (type != templateType || version != templateVersion) {
+            ChickensRegistryItem chicken = ChickenItemHelper.resolve(input);
+            outputTemplate = chicken != null ? ModRegistry.CHICKEN_ITEM.get().createFor(chicken) : ItemStack.EMPTY;
+            templateType = type;
+            templateVersion = version;
         }
-        return output.getCount() < output.getMaxStackSize();
+        return outputTemplate;
+    }
+
+    private static int batchSize() {
+        return Mth.clamp(ChickensConfigHolder.get().getIncubatorBatchSize(), 1, MAX_BATCH_SIZE);
+    }
+
+    private int batchEnergyCost(int batch) {
+        return (int) Math.min((long) Math.max(1, cachedEnergyCost) * batch, Integer.MAX_VALUE);
     }
 
     private static boolean isEgg(ItemStack stack) {
@@ -199,22 +248,18 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
         int configured = Math.max(1, ChickensConfigHolder.get().getIncubatorEnergyCost());
         if (configured != cachedEnergyCost) {
             cachedEnergyCost = configured;
-            if (energyReserved > cachedEnergyCost) {
+            if (energyReserved > batchEnergyCost(batchSize())) {
                 refundReservedEnergy();
             }
         }
     }
 
-    private void updateActiveState(Level level, boolean active) {
+    private void updateActiveState(boolean active) {
         if (cachedActiveState == active) {
             return;
         }
         cachedActiveState = active;
-        BlockState state = getBlockState();
-        if (!state.hasProperty(IncubatorBlock.LIT)) {
-            return;
-        }
-        level.setBlock(worldPosition, state.setValue(IncubatorBlock.LIT, active), Block.UPDATE_CLIENTS);
+        MachineLitState.request(this, active);
     }
 
     private void markEnergyDirty() {
@@ -339,7 +384,7 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
         }
         setChanged();
         if (level != null && !level.isClientSide) {
-            updateActiveState(level, progress > 0);
+            updateActiveState(progress > 0);
         }
     }
 
@@ -439,7 +484,7 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
         }
         syncWithConfig(false);
         energyStorage.setEnergy(Mth.clamp(storedEnergy, 0, capacity));
-        energyReserved = Math.min(storedReserved, capacity);
+        energyReserved = Math.min(storedReserved, Math.max(capacity, batchEnergyCost(batchSize())));
         if (tag.contains("CustomName", Tag.TAG_COMPOUND)) {
             ComponentSerialization.CODEC.parse(provider.createSerializationContext(NbtOps.INSTANCE),
                     tag.getCompound("CustomName")).result().ifPresent(name -> customName = name);
@@ -466,9 +511,8 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
         }
         maxReceive = configuredReceive;
         energyStorage.setLimits(capacity, maxReceive);
-        if (energyReserved > capacity) {
-            energyReserved = capacity;
-        }
+        // The reservation is left alone: a batch may reserve more than the buffer
+        // holds, and what a hatch leaves over is refunded as room allows.
     }
 
     private final class MachineEnergyStorage extends EnergyStorage {
@@ -494,6 +538,17 @@ public class IncubatorBlockEntity extends BlockEntity implements WorldlyContaine
             return extracted;
         }
 
+        /**
+         * Internal draw for the hatching cost; external extraction stays
+         * disabled. The caller's tick marks the block entity changed, so no
+         * client update is sent per draw.
+         */
+        int consume(int amount) {
+            int drawn = Math.min(energy, Math.max(amount, 0));
+            energy -= drawn;
+            return drawn;
+        }
+
         void setEnergy(int energy) {
             this.energy = Mth.clamp(energy, 0, getMaxEnergyStored());
         }
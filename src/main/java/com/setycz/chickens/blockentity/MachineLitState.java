@@ -0,0 +1,93 @@
+package com.setycz.chickens.blockentity;
+
+import com.setycz.chickens.config.ChickensConfigHolder;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.block.state.properties.BlockStateProperties;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+
+import java.util.Iterator;
+import java.util.Map;
+
+/**
+ * Debounces the {@code LIT} block state of the glowing machines. Every LIT
+ * change relights the section around the block, so a machine on trickle
+ * power or fluid that flips between working and idle every few ticks keeps
+ * the light engine busy. Machines report the state they want here, and the
+ * block state is only changed at the end of the server tick, once the machine
+ * has wanted the new state for {@code machineLitDebounceTicks} ticks. A flip
+ * back before then cancels the change without touching the world. Pending
+ * changes are dropped when the server stops, or when the machine is removed
+ * before they are applied.
+ */
+public final class MachineLitState {
+    private static final Map<BlockEntity, Pending> PENDING = new Reference2ObjectOpenHashMap<>();
+
+    private record Pending(boolean lit, long since) {
+    }
+
+    private MachineLitState() {
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(MachineLitState::flush);
+        NeoForge.EVENT_BUS.addListener(MachineLitState::onServerStopping);
+    }
+
+    /**
+     * Forgets every pending change so the map does not keep the old world's
+     * block entities and levels alive on an integrated server.
+     */
+    private static void onServerStopping(ServerStoppingEvent event) {
+        PENDING.clear();
+    }
+
+    /**
+     * Records that {@code machine} now wants its LIT state to be {@code lit}.
+     * Callers only report changes, so the debounce window starts here.
+     */
+    public static void request(BlockEntity machine, boolean lit) {
+        Level level = machine.getLevel();
+        if (level == null || level.isClientSide) {
+            return;
+        }
+        BlockState state = machine.getBlockState();
+        if (!state.hasProperty(BlockStateProperties.LIT) || state.getValue(BlockStateProperties.LIT) == lit) {
+            PENDING.remove(machine);
+            return;
+        }
+        PENDING.put(machine, new Pending(lit, level.getGameTime()));
+    }
+
+    private static void flush(ServerTickEvent.Post event) {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        int debounce = ChickensConfigHolder.get().getMachineLitDebounceTicks();
+        Iterator<Map.Entry<BlockEntity, Pending>> iterator = PENDING.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<BlockEntity, Pending> entry = iterator.next();
+            BlockEntity machine = entry.getKey();
+            Level level = machine.getLevel();
+            if (machine.isRemoved() || level == null) {
+                iterator.remove();
+                continue;
+            }
+            Pending pending = entry.getValue();
+            if (level.getGameTime() - pending.since() < debounce) {
+                continue;
+            }
+            iterator.remove();
+            BlockState state = level.getBlockState(machine.getBlockPos());
+            if (state.hasProperty(BlockStateProperties.LIT) && state.getValue(BlockStateProperties.LIT) != pending.lit()) {
+                level.setBlock(machine.getBlockPos(), state.setValue(BlockStateProperties.LIT, pending.lit()),
+                        Block.UPDATE_CLIENTS);
+            }
+        }
+    }
+}
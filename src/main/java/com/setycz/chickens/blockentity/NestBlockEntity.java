@@ -1,6 +1,7 @@
 package com.setycz.chickens.blockentity;
 
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.config.ChickensConfigValues;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.menu.NestMenu;
 import com.setycz.chickens.registry.ModBlockEntities;
@@ -33,7 +34,13 @@ import javax.annotation.Nullable;
  * Block entity backing the rooster nest. It stores a stack of rooster items
  * alongside a seed buffer that is slowly consumed to power the rooster aura.
  * The aura itself is evaluated by nearby roosts via
- * {@link #getActiveRoosterCount()} and {@link #hasActiveAura()}.
+ * {@link #getRoosterCount()} and {@link #hasActiveAura()}.
+ * <p>
+ * The nest does not tick. A burning seed is stored as the game time it runs
+ * out; the next seed is burnt by a scheduled block tick at that time, or
+ * earlier if a roost notices the expiry first. Roosts in aura range cache
+ * their nest bonus and are told through {@link RoostBlockEntity#onNestAuraChanged()}
+ * whenever this nest's contribution changes.
  */
 public class NestBlockEntity extends BlockEntity implements WorldlyContainer, MenuProvider {
     public static final int ROOSTER_SLOT = 0;
@@ -41,63 +48,115 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
     public static final int INVENTORY_SIZE = 2;
     private static final int[] ACCESSIBLE_SLOTS = new int[] { ROOSTER_SLOT, SEED_SLOT };
 
+    private static final long NOT_BURNING = -1L;
+
     private final NonNullList<ItemStack> items = NonNullList.withSize(INVENTORY_SIZE, ItemStack.EMPTY);
-    /** Remaining ticks of aura powered by the currently consumed seed. */
-    private int seedTicksRemaining = 0;
+    /** Game time at which the burning seed runs out, or {@link #NOT_BURNING}. */
+    private long fuelExpiresAt = NOT_BURNING;
+    /** Aura left on a partly burnt seed while no roosters are present to use it. */
+    private int bankedFuelTicks = 0;
+    /** Rooster count clamped against {@link #countedConfig}; -1 after any inventory change. */
+    private int countedRoosters = -1;
+    @Nullable
+    private ChickensConfigValues countedConfig;
+    /** Roosters this nest last reported to nearby roosts. */
+    private int reportedRoosters = 0;
 
     public NestBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.NEST.get(), pos, state);
     }
 
     /**
-     * Server tick hook wired from {@link com.setycz.chickens.block.NestBlock}.
-     * The nest only performs work on the logical server: it burns seeds into
-     * aura fuel while roosters are present.
+     * Scheduled tick hook wired from {@link com.setycz.chickens.block.NestBlock},
+     * requested for the moment the burning seed runs out.
      */
-    public static void serverTick(Level level, BlockPos pos, BlockState state, NestBlockEntity nest) {
-        if (level.isClientSide) {
-            return;
-        }
-        nest.tickServer(level);
+    public void onFuelTick() {
+        updateFuel();
     }
 
-    private void tickServer(Level level) {
-        boolean wasActive = hasActiveAura();
-        updateSeedFuel();
-        if (wasActive != hasActiveAura()) {
-            setChanged();
-            BlockState state = getBlockState();
-            level.sendBlockUpdated(worldPosition, state, state, net.minecraft.world.level.block.Block.UPDATE_ALL);
+    /**
+     * Brings the fuel state up to date: banks the burning seed while no
+     * roosters are present so players can pre-load seeds without wasting fuel,
+     * resumes it when roosters return, burns the next seed once the current
+     * one has run out, and tells nearby roosts when the aura changes.
+     */
+    private void updateFuel() {
+        Level level = getLevel();
+        if (level == null || level.isClientSide) {
+            return;
         }
-    }
-
-    private void updateSeedFuel() {
+        long now = level.getGameTime();
         int roosters = getRoosterCount();
         if (roosters <= 0) {
-            // Pause consumption when no roosters are present so players can pre-load
-            // seeds without wasting fuel.
-            return;
+            if (fuelExpiresAt != NOT_BURNING) {
+                bankedFuelTicks = (int) Math.max(fuelExpiresAt - now, 0L);
+                fuelExpiresAt = NOT_BURNING;
+                super.setChanged();
+            }
+        } else {
+            if (fuelExpiresAt == NOT_BURNING && bankedFuelTicks > 0) {
+                fuelExpiresAt = now + bankedFuelTicks;
+                bankedFuelTicks = 0;
+                super.setChanged();
+            }
+            if (fuelExpiresAt == NOT_BURNING || now >= fuelExpiresAt) {
+                fuelExpiresAt = burnSeed(now);
+            }
+            if (fuelExpiresAt != NOT_BURNING) {
+                // Ignored while an earlier tick is pending; that tick reschedules.
+                level.scheduleTick(worldPosition, getBlockState().getBlock(), (int) Math.max(fuelExpiresAt - now, 1L));
+            }
         }
-        if (seedTicksRemaining > 0) {
-            seedTicksRemaining--;
-            return;
+        int contribution = fuelExpiresAt != NOT_BURNING ? roosters : 0;
+        if (contribution != reportedRoosters) {
+            reportedRoosters = contribution;
+            super.setChanged();
+            notifyBlockUpdate();
+            notifyRoostsInRange();
         }
+    }
+
+    /**
+     * Consumes a single seed and returns when its aura runs out, or
+     * {@link #NOT_BURNING} when there is nothing to burn.
+     */
+    private long burnSeed(long now) {
         ItemStack seeds = items.get(SEED_SLOT);
         if (seeds.isEmpty() || !isSeed(seeds)) {
-            return;
+            return NOT_BURNING;
         }
         int duration = ChickensConfigHolder.get().getNestSeedDurationTicks();
         if (duration <= 0) {
-            return;
+            return NOT_BURNING;
         }
-        // Consume a single seed and recharge the internal aura timer.
         seeds.shrink(1);
         if (seeds.isEmpty()) {
             items.set(SEED_SLOT, ItemStack.EMPTY);
         }
-        seedTicksRemaining = duration;
-        setChanged();
-        notifyBlockUpdate();
+        super.setChanged();
+        return now + duration;
+    }
+
+    private void notifyRoostsInRange() {
+        Level level = getLevel();
+        int range = ChickensConfigHolder.get().getRoosterAuraRange();
+        if (level == null || range <= 0) {
+            return;
+        }
+        BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
+        for (int dx = -range; dx <= range; dx++) {
+            for (int dy = -1; dy <= 1; dy++) {
+                for (int dz = -range; dz <= range; dz++) {
+                    cursor.set(worldPosition.getX() + dx, worldPosition.getY() + dy, worldPosition.getZ() + dz);
+                    if (!level.isLoaded(cursor)) {
+                        continue;
+                    }
+                    if (level.getBlockEntity(cursor) instanceof RoostBlockEntity roost) {
+                        roost.onNestAuraChanged();
+                    }
+                }
+            }
+        }
     }
 
     /**
@@ -105,22 +164,42 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
      * nest. Only rooster stacks in {@link #ROOSTER_SLOT} are counted.
      */
     public int getRoosterCount() {
+        ChickensConfigValues config = ChickensConfigHolder.get();
+        if (countedRoosters < 0 || countedConfig != config) {
+            countedRoosters = countRoosters(config);
+            countedConfig = config;
+        }
+        return countedRoosters;
+    }
+
+    private int countRoosters(ChickensConfigValues config) {
         ItemStack stack = items.get(ROOSTER_SLOT);
         if (stack.isEmpty() || !ChickenItemHelper.isRooster(stack)) {
             return 0;
         }
-        int max = ChickensConfigHolder.get().getNestMaxRoosters();
-        max = Math.max(1, Math.min(16, max));
+        int max = Math.max(1, Math.min(16, config.getNestMaxRoosters()));
         return Math.min(stack.getCount(), max);
     }
 
     /**
      * Indicates whether this nest is currently powering a rooster aura. The
-     * aura requires at least one rooster and non-zero seed fuel.
+     * aura requires at least one rooster and an unexpired seed; a seed found
+     * expired here is replaced straight away rather than waiting for the
+     * scheduled tick.
      */
     public boolean hasActiveAura() {
-        return getRoosterCount() > 0 && seedTicksRemaining > 0
-                && ChickensConfigHolder.get().getNestSeedDurationTicks() > 0;
+        Level level = getLevel();
+        if (fuelExpiresAt == NOT_BURNING || level == null) {
+            return false;
+        }
+        if (level.getGameTime() < fuelExpiresAt) {
+            return true;
+        }
+        if (level.isClientSide) {
+            return false;
+        }
+        updateFuel();
+        return fuelExpiresAt != NOT_BURNING;
     }
 
     public NonNullList<ItemStack> getItems() {
@@ -185,6 +264,33 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
         return true;
     }
 
+    @Override
+    public void setChanged() {
+        countedRoosters = -1;
+        super.setChanged();
+        // Menus and hoppers edit stacks in place before calling this, so fuel is
+        // re-evaluated here rather than in every mutator.
+        updateFuel();
+    }
+
+    @Override
+    public void onLoad() {
+        super.onLoad();
+        // Resume or expire the seed that was burning when the chunk unloaded and
+        // let roosts that loaded first pick the aura up.
+        updateFuel();
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        Level level = getLevel();
+        if (level != null && !level.isClientSide && reportedRoosters > 0) {
+            reportedRoosters = 0;
+            notifyRoostsInRange();
+        }
+    }
+
     private static boolean isSeed(ItemStack stack) {
         return stack.is(Items.WHEAT_SEEDS) || stack.is(Items.BEETROOT_SEEDS)
                 || stack.is(Items.MELON_SEEDS) || stack.is(Items.PUMPKIN_SEEDS);
@@ -321,14 +427,18 @@ public class NestBlockEntity extends BlockEntity implements WorldlyContainer, Me
     protected void saveAdditional(CompoundTag tag, HolderLookup.Provider provider) {
         super.saveAdditional(tag, provider);
         ContainerHelper.saveAllItems(tag, items, provider);
-        tag.putInt("SeedTicks", seedTicksRemaining);
+        tag.putInt("SeedTicks", bankedFuelTicks);
+        tag.putLong("FuelExpiresAt", fuelExpiresAt);
     }
 
     @Override
     protected void loadAdditional(CompoundTag tag, HolderLookup.Provider provider) {
         super.loadAdditional(tag, provider);
         ContainerHelper.loadAllItems(tag, items, provider);
-        seedTicksRemaining = tag.getInt("SeedTicks");
+        // Older nests only stored a countdown; treat it as banked fuel until roosters resume it.
+        bankedFuelTicks = tag.getInt("SeedTicks");
+        fuelExpiresAt = tag.contains("FuelExpiresAt") ? tag.getLong("FuelExpiresAt") : NOT_BURNING;
+        countedRoosters = -1;
     }
 
     // ---------------------------------------------------------------------
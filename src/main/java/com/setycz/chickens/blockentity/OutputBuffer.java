@@ -0,0 +1,149 @@
+package com.setycz.chickens.blockentity;
+
+import it.unimi.dsi.fastutil.Hash;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenCustomHashMap;
+import net.minecraft.core.HolderLookup;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.world.item.ItemStack;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Overflow storage behind a container's output slots. Items are kept as one
+ * single-item template per distinct item and component set plus a long
+ * count, so adding to an item already held is a hash lookup and an addition
+ * however much is stored. Entries are indexed densely; removing one moves the
+ * last entry into its place.
+ */
+public final class OutputBuffer {
+    private static final Hash.Strategy<ItemStack> ITEM_AND_COMPONENTS = new Hash.Strategy<>() {
+        @Override
+        public int hashCode(@Nullable ItemStack stack) {
+            return ItemStack.hashItemAndComponents(stack);
+        }
+
+        @Override
+        public boolean equals(@Nullable ItemStack a, @Nullable ItemStack b) {
+            return a == b || a != null && b != null && ItemStack.isSameItemSameComponents(a, b);
+        }
+    };
+
+    private final Object2IntOpenCustomHashMap<ItemStack> indices = new Object2IntOpenCustomHashMap<>(ITEM_AND_COMPONENTS);
+    private final List<ItemStack> templates = new ArrayList<>();
+    private final LongArrayList counts = new LongArrayList();
+    private long total;
+
+    public OutputBuffer() {
+        indices.defaultReturnValue(-1);
+    }
+
+    public int size() {
+        return templates.size();
+    }
+
+    public boolean isEmpty() {
+        return templates.isEmpty();
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    /**
+     * The single-item template of entry {@code index}; callers must copy it
+     * before handing it out.
+     */
+    public ItemStack getTemplate(int index) {
+        return templates.get(index);
+    }
+
+    public long getCount(int index) {
+        return counts.getLong(index);
+    }
+
+    /**
+     * Adds up to {@code count} items like {@code template} without letting
+     * the total pass {@code capacity}.
+     *
+     * @return how many items were added.
+     */
+    public long insert(ItemStack template, long count, long capacity) {
+        long accepted = Math.min(count, capacity - total);
+        if (template.isEmpty() || accepted <= 0) {
+            return 0;
+        }
+        int index = indices.getInt(template);
+        if (index < 0) {
+            ItemStack key = template.copyWithCount(1);
+            indices.put(key, templates.size());
+            templates.add(key);
+            counts.add(accepted);
+        } else {
+            counts.set(index, counts.getLong(index) + accepted);
+        }
+        total += accepted;
+        return accepted;
+    }
+
+    /**
+     * Removes up to {@code count} items from entry {@code index}, dropping the
+     * entry once it is empty.
+     *
+     * @return how many items were removed.
+     */
+    public long extract(int index, long count) {
+        long stored = counts.getLong(index);
+        long removed = Math.min(stored, Math.max(count, 0));
+        if (removed == stored) {
+            remove(index);
+        } else {
+            counts.set(index, stored - removed);
+        }
+        total -= removed;
+        return removed;
+    }
+
+    private void remove(int index) {
+        int last = templates.size() - 1;
+        indices.removeInt(templates.get(index));
+        if (index != last) {
+            ItemStack moved = templates.get(last);
+            templates.set(index, moved);
+            counts.set(index, counts.getLong(last));
+            indices.put(moved, index);
+        }
+        templates.remove(last);
+        counts.removeLong(last);
+    }
+
+    public void clear() {
+        indices.clear();
+        templates.clear();
+        counts.clear();
+        total = 0;
+    }
+
+    public ListTag save(HolderLookup.Provider registries) {
+        ListTag list = new ListTag();
+        for (int index = 0; index < templates.size(); index++) {
+            CompoundTag entry = new CompoundTag();
+            entry.put("Item", templates.get(index).save(registries));
+            entry.putLong("Count", counts.getLong(index));
+            list.add(entry);
+        }
+        return list;
+    }
+
+    public void load(ListTag list, HolderLookup.Provider registries) {
+        clear();
+        for (int i = 0; i < list.size(); i++) {
+            CompoundTag entry = list.getCompound(i);
+            ItemStack template = ItemStack.parse(registries, entry.getCompound("Item")).orElse(ItemStack.EMPTY);
+            insert(template, entry.getLong("Count"), Long.MAX_VALUE);
+        }
+    }
+}
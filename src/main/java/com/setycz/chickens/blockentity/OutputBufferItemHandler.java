@@ -0,0 +1,89 @@
+package com.setycz.chickens.blockentity;
+
+import net.minecraft.world.item.ItemStack;
+import net.neoforged.neoforge.items.IItemHandler;
+
+/**
+ * Item handler over a container's real slots followed by one virtual slot per
+ * {@link OutputBuffer} entry. Virtual slots are extract-only and behave like a
+ * full slot of their item: they show and hand out at most one max-size stack
+ * per call, so pipes and hoppers never receive a stack their inventories or
+ * the item codec cannot hold. A deep entry simply stays in its slot until it
+ * has been drained over several calls.
+ */
+public final class OutputBufferItemHandler implements IItemHandler {
+    private final IItemHandler slots;
+    private final OutputBuffer buffer;
+    private final Runnable onExtract;
+
+    public OutputBufferItemHandler(IItemHandler slots, OutputBuffer buffer, Runnable onExtract) {
+        this.slots = slots;
+        this.buffer = buffer;
+        this.onExtract = onExtract;
+    }
+
+    @Override
+    public int getSlots() {
+        return slots.getSlots() + buffer.size();
+    }
+
+    @Override
+    public ItemStack getStackInSlot(int slot) {
+        int realSlots = slots.getSlots();
+        if (slot < realSlots) {
+            return slots.getStackInSlot(slot);
+        }
+        int index = slot - realSlots;
+        if (index >= buffer.size()) {
+            return ItemStack.EMPTY;
+        }
+        ItemStack template = buffer.getTemplate(index);
+        return template.copyWithCount(clamp(buffer.getCount(index), template));
+    }
+
+    @Override
+    public ItemStack insertItem(int slot, ItemStack stack, boolean simulate) {
+        if (slot < slots.getSlots()) {
+            return slots.insertItem(slot, stack, simulate);
+        }
+        return stack;
+    }
+
+    @Override
+    public ItemStack extractItem(int slot, int amount, boolean simulate) {
+        int realSlots = slots.getSlots();
+        if (slot < realSlots) {
+            return slots.extractItem(slot, amount, simulate);
+        }
+        int index = slot - realSlots;
+        if (amount <= 0 || index >= buffer.size()) {
+            return ItemStack.EMPTY;
+        }
+        ItemStack template = buffer.getTemplate(index);
+        int extracted = clamp(Math.min(amount, buffer.getCount(index)), template);
+        if (!simulate) {
+            buffer.extract(index, extracted);
+            onExtract.run();
+        }
+        return template.copyWithCount(extracted);
+    }
+
+    @Override
+    public int getSlotLimit(int slot) {
+        int realSlots = slots.getSlots();
+        if (slot < realSlots) {
+            return slots.getSlotLimit(slot);
+        }
+        int index = slot - realSlots;
+        return index < buffer.size() ? buffer.getTemplate(index).getMaxStackSize() : 0;
+    }
+
+    @Override
+    public boolean isItemValid(int slot, ItemStack stack) {
+        return slot < slots.getSlots() && slots.isItemValid(slot, stack);
+    }
+
+    private static int clamp(long count, ItemStack template) {
+        return (int) Math.min(count, template.getMaxStackSize());
+    }
+}
@@ -3,10 +3,12 @@ package com.setycz.chickens.blockentity;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.config.ChickensConfigValues;
 import com.setycz.chickens.item.ChickenItemHelper;
 import com.setycz.chickens.blockentity.NestBlockEntity;
 import com.setycz.chickens.item.ChickenStats;
 import com.setycz.chickens.menu.RoostMenu;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModBlockEntities;
 import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
@@ -23,6 +25,7 @@ import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.util.RandomSource;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -34,6 +37,11 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
     public static final int CHICKEN_SLOT = 0;
     private static final int MAX_CHICKENS = 16;
 
+    // Active roosters in nests within aura range; -1 until counted. Nests push changes via onNestAuraChanged.
+    private int nestRoosters = -1;
+    @Nullable
+    private ChickensConfigValues nestRoostersConfig;
+
     public RoostBlockEntity(BlockPos pos, BlockState state) {
         super(ModBlockEntities.ROOST.get(), pos, state, INVENTORY_SIZE, 1);
     }
@@ -44,13 +52,28 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
         if (entry == null) {
             return;
         }
-        ItemStack item = entry.createLay(random);
-        ItemStack remaining = pushIntoOutput(item);
-        if (!remaining.isEmpty() && level != null) {
-            Containers.dropItemStack(level, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(), remaining);
+        // Grow the output straight from the chicken's template so a steady lay allocates nothing.
+        ItemStack template = entry.chicken().getLayTemplate();
+        int count = entry.getYield();
+        ProductionStats.record(ProductionStats.Channel.ROOST_LAY, entry.chicken().getId(), count);
+        int remaining = insertIntoOutput(template, count);
+        if (remaining > 0 && level != null) {
+            Containers.dropItemStack(level, worldPosition.getX(), worldPosition.getY(), worldPosition.getZ(),
+                    template.copyWithCount(remaining));
         }
     }
 
+    @Override
+    protected boolean syncsOutputToClient() {
+        // The renderer only draws the chicken slot.
+        return false;
+    }
+
+    @Override
+    protected boolean usesOutputBuffer() {
+        return true;
+    }
+
     @Override
     protected int requiredSeedsForDrop() {
         return 0;
@@ -72,7 +95,12 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
         if (auraRange <= 0 || auraMultiplier <= 1.0D || level == null) {
             return base;
         }
-        int activeRoosters = countActiveRoostersInNests(level, worldPosition, auraRange);
+        ChickensConfigValues config = ChickensConfigHolder.get();
+        if (nestRoosters < 0 || nestRoostersConfig != config) {
+            nestRoosters = countActiveRoostersInNests(level, worldPosition, auraRange);
+            nestRoostersConfig = config;
+        }
+        int activeRoosters = nestRoosters;
         if (activeRoosters <= 0) {
             return base;
         }
@@ -85,6 +113,14 @@ public class RoostBlockEntity extends AbstractChickenContainerBlockEntity {
         return (base * Math.max(totalMultiplier, 0.0D)) * chickenLayCoeffient;
     }
 
+    /**
+     * Called by a nest in aura range whenever the roosters it contributes
+     * change, so the next lay recounts.
+     */
+    public void onNestAuraChanged() {
+        nestRoosters = -1;
+    }
+
     private static int countActiveRoostersInNests(net.minecraft.world.level.Level level, BlockPos origin, int range) {
         BlockPos.MutableBlockPos cursor = new BlockPos.MutableBlockPos();
         int total = 0;
@@ -22,7 +22,8 @@ public final class ChickenItemModels {
 
     /**
      * Installs the {@link CustomChickenItemOverrides} wrapper when the base
-     * chicken model finishes baking. If the vanilla model is missing we skip
+     * chicken model finishes baking and resolves every chicken's item model
+     * while the bake is still running. If the vanilla model is missing we skip
      * the injection so the game keeps using whatever fallback NeoForge
      * provides.
      */
@@ -32,6 +33,8 @@ public final class ChickenItemModels {
             return;
         }
         ModelBakery bakery = event.getModelBakery();
-        event.getModels().put(CHICKEN_MODEL, new ChickenItemOverridesModel(existing, bakery));
+        ChickenItemOverridesModel wrapped = new ChickenItemOverridesModel(existing, bakery);
+        wrapped.prepare(ChickenItemSpriteModels.BakeContext.fromEvent(event));
+        event.getModels().put(CHICKEN_MODEL, wrapped);
     }
 }
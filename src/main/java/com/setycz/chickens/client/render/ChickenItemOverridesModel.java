@@ -22,13 +22,21 @@ import java.util.List;
  */
 final class ChickenItemOverridesModel implements BakedModel {
     private final BakedModel delegate;
-    private final ItemOverrides overrides;
+    private final CustomChickenItemOverrides overrides;
 
     ChickenItemOverridesModel(BakedModel delegate, ModelBakery bakery) {
         this.delegate = delegate;
         this.overrides = new CustomChickenItemOverrides(delegate.getOverrides(), bakery);
     }
 
+    /**
+     * Resolves the item model for every registered chicken up front so the
+     * render thread never has to scan overrides or bake sprites.
+     */
+    void prepare(ChickenItemSpriteModels.BakeContext context) {
+        overrides.bakeAll(delegate, context);
+    }
+
     @Override
     public List<BakedQuad> getQuads(@Nullable BlockState state, @Nullable Direction side, RandomSource random) {
         return delegate.getQuads(state, side, random);
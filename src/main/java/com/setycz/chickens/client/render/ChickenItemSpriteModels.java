@@ -12,6 +12,7 @@ import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.Material;
 import net.minecraft.client.resources.model.ModelBaker;
 import net.minecraft.client.resources.model.ModelBakery;
+import net.minecraft.client.resources.model.ModelManager;
 import net.minecraft.client.resources.model.ModelResourceLocation;
 import net.minecraft.client.resources.model.ModelState;
 import net.minecraft.client.resources.model.UnbakedModel;
@@ -20,18 +21,21 @@ import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.inventory.InventoryMenu;
+import net.neoforged.neoforge.client.event.ModelEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 
@@ -59,41 +63,101 @@ public final class ChickenItemSpriteModels {
     };
     private static final ResourceLocation GENERATED_PARENT = ResourceLocation.withDefaultNamespace("item/generated");
 
-    private static final Map<Integer, BakedModel> CACHE = new HashMap<>();
     private static final Set<ResourceLocation> LOGGED_MISSING_TEXTURES = new HashSet<>();
-    private static boolean loggedBakerFailure;
     private static boolean loggedParentFailure;
-    @Nullable
-    private static Constructor<?> bakerConstructor;
-    @Nullable
-    private static Method bakeryModelGetter;
 
     private ChickenItemSpriteModels() {
     }
 
+    /**
+     * Bakes the sprite-backed item model for a single chicken. Used for
+     * chickens that appear after the model bake.
+     */
     @Nullable
-    static BakedModel bake(ChickensRegistryItem chicken, ModelBakery bakery) {
-        return CACHE.computeIfAbsent(chicken.getId(), id -> bakeInternal(chicken, bakery));
+    static BakedModel bake(ChickensRegistryItem chicken, BakeContext context) {
+        return bakeAll(List.of(chicken), context)[0];
     }
 
-    @Nullable
-    private static BakedModel bakeInternal(ChickensRegistryItem chicken, ModelBakery bakery) {
+    /**
+     * Bakes sprite-backed item models for a batch of chickens and returns them
+     * in input order, with {@code null} marking chickens whose sprite could not
+     * be baked. The caller owns caching; {@link CustomChickenItemOverrides}
+     * keeps the results in its per-bake model table.
+     *
+     * <p>Every phase runs on the calling thread: the probes go through the
+     * resource manager, parent resolution and the quad bake go through the
+     * bakery's caches, and the tint flags live on the shared registry items,
+     * none of which is safe to touch from the common pool.</p>
+     */
+    static BakedModel[] bakeAll(List<ChickensRegistryItem> chickens, BakeContext context) {
+        int count = chickens.size();
+        BakedModel[] results = new BakedModel[count];
+        if (count == 0) {
+            return results;
+        }
+
+        long start = System.nanoTime();
+        SpriteRequest[] requests = new SpriteRequest[count];
+        for (int i = 0; i < count; i++) {
+            requests[i] = probe(chickens.get(i), context);
+        }
+        long probed = System.nanoTime();
+
+        for (SpriteRequest request : requests) {
+            if (request.prebaked == null) {
+                request.model = resolveModel(request, context);
+            }
+        }
+        long resolved = System.nanoTime();
+
+        for (int i = 0; i < count; i++) {
+            results[i] = bakeRequest(requests[i], context);
+        }
+        long baked = System.nanoTime();
+
+        int reused = 0;
+        int failed = 0;
+        for (int i = 0; i < count; i++) {
+            SpriteRequest request = requests[i];
+            if (request.prebaked != null) {
+                reused++;
+            } else if (results[i] == null) {
+                failed++;
+            }
+            applyTint(request, results[i] != null);
+        }
+        long published = System.nanoTime();
+
+        if (count > 1) {
+            LOGGER.info("Baked {} chicken item sprites ({} reused, {} failed) in {} ms [probe {} ms, resolve {} ms, bake {} ms, publish {} ms]",
+                    count, reused, failed, millis(published - start), millis(probed - start), millis(resolved - probed), millis(baked - resolved),
+                    millis(published - baked));
+        }
+        return results;
+    }
+
+    static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    private static SpriteRequest probe(ChickensRegistryItem chicken, BakeContext context) {
         ResourceLocation texture = selectTexture(chicken);
         ResourceLocation requestedTexture = texture;
         boolean hasExplicitTexture = chicken.getItemTexture() != null;
         boolean customDefinition = chicken.isCustom();
         boolean authoritativeTexture = customDefinition && hasExplicitTexture;
+        SpriteRequest request = new SpriteRequest(chicken);
 
         ResourceLocation spriteLocation = toSpriteLocation(texture);
         if (hasExplicitTexture) {
-            BakedModel prebaked = tryFetchExistingModel(spriteLocation);
+            BakedModel prebaked = context.existingModel(new ModelResourceLocation(spriteLocation, "inventory"));
             if (prebaked != null) {
-                chicken.setTintItem(false);
-                return prebaked;
+                request.prebaked = prebaked;
+                request.tint = Boolean.FALSE;
+                return request;
             }
         }
 
-        boolean disableTint = false;
         // Confirm the PNG exists before baking so missing datapack sprites fall
         // back to the default icon while still allowing custom chickens to show
         // Minecraft's missing-texture indicator when explicitly requested.
@@ -103,64 +167,72 @@ public final class ChickenItemSpriteModels {
                 if (LOGGED_MISSING_TEXTURES.add(requestedTexture)) {
                     LOGGER.warn("Unable to locate custom chicken item texture {}; leaving missing sprite in place", requestedTexture);
                 }
-                chicken.setTintItem(false);
+                request.tint = Boolean.FALSE;
             } else {
                 if (LOGGED_MISSING_TEXTURES.add(texture)) {
                     LOGGER.warn("Unable to locate chicken item texture {}; falling back to {}", texture, DEFAULT_ITEM_TEXTURE);
                 }
-                chicken.setTintItem(true);
+                request.tint = Boolean.TRUE;
                 texture = DEFAULT_ITEM_TEXTURE;
                 spriteLocation = toSpriteLocation(texture);
             }
         } else if (hasExplicitTexture) {
-            disableTint = true;
+            request.disableTint = true;
         }
+        request.material = materialFor(spriteLocation);
+        return request;
+    }
 
-        Material material = materialFor(spriteLocation);
-
-        Function<Material, TextureAtlasSprite> sprites = key -> Minecraft.getInstance().getModelManager()
-                .getAtlas(key.atlasLocation()).getSprite(key.texture());
-
-        Map<String, Either<Material, String>> textures = Map.of("layer0", Either.left(material));
+    @Nullable
+    private static BlockModel resolveModel(SpriteRequest request, BakeContext context) {
+        Map<String, Either<Material, String>> textures = Map.of("layer0", Either.left(request.material));
         BlockModel model = new BlockModel(GENERATED_PARENT, List.of(), textures, true, null, ItemTransforms.NO_TRANSFORMS,
                 List.of());
         try {
-            model.resolveParents(id -> fetchUnbakedModel(bakery, id));
+            model.resolveParents(id -> fetchUnbakedModel(context.bakery(), id));
         } catch (RuntimeException exception) {
             logParentFailure(exception);
-            if (disableTint) {
-                chicken.setTintItem(true);
-            }
             return null;
         }
+        return model;
+    }
 
+    @Nullable
+    private static BakedModel bakeRequest(SpriteRequest request, BakeContext context) {
+        if (request.prebaked != null) {
+            return request.prebaked;
+        }
+        BlockModel model = request.model;
+        if (model == null) {
+            return null;
+        }
+        Function<Material, TextureAtlasSprite> sprites = context.sprites();
         ResourceLocation dynamicId = ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID,
-                "dynamic/item/chicken_" + chicken.getId());
+                "dynamic/item/chicken_" + request.chicken.getId());
         ModelResourceLocation bakeLocation = new ModelResourceLocation(dynamicId, "inventory");
-        ModelBaker baker = instantiateBaker(bakery, bakeLocation, sprites);
+        ModelBaker baker = BakerAccess.instantiateBaker(context.bakery(), bakeLocation, sprites);
         if (baker == null) {
             // Allow the vanilla override pipeline to continue colouring the
             // fallback sprite when we cannot dynamically bake the bespoke
             // model. This keeps the item visible instead of showing a blank
             // icon.
-            if (disableTint) {
-                chicken.setTintItem(true);
-            }
             return null;
         }
-        BakedModel baked = model.bake(baker, model, sprites, IDENTITY, false);
-        if (disableTint) {
-            chicken.setTintItem(false);
+        return model.bake(baker, model, sprites, IDENTITY, false);
+    }
+
+    private static void applyTint(SpriteRequest request, boolean baked) {
+        if (request.tint != null) {
+            request.chicken.setTintItem(request.tint);
+        }
+        if (request.disableTint) {
+            request.chicken.setTintItem(!baked);
         }
-        return baked;
     }
 
     static void clear() {
-        CACHE.clear();
         LOGGED_MISSING_TEXTURES.clear();
-        loggedBakerFailure = false;
         loggedParentFailure = false;
-        bakeryModelGetter = null;
     }
 
     public static SimplePreparableReloadListener<Void> reloadListener() {
@@ -212,59 +284,130 @@ public final class ChickenItemSpriteModels {
         return Minecraft.getInstance().getResourceManager().getResource(texture).isPresent();
     }
 
-    @Nullable
-    private static BakedModel tryFetchExistingModel(ResourceLocation spriteLocation) {
-        ModelResourceLocation modelLocation = new ModelResourceLocation(spriteLocation, "inventory");
-        BakedModel model = Minecraft.getInstance().getModelManager().getModel(modelLocation);
-        if (model != null && model != Minecraft.getInstance().getModelManager().getMissingModel()) {
-            return model;
+    private static void logParentFailure(RuntimeException exception) {
+        if (!loggedParentFailure) {
+            LOGGER.error("Failed to resolve minecraft:item/generated while baking a custom chicken item sprite", exception);
+            loggedParentFailure = true;
         }
-        return null;
     }
 
-    @Nullable
-    private static ModelBaker instantiateBaker(ModelBakery bakery, ModelResourceLocation modelId,
-            Function<Material, TextureAtlasSprite> sprites) {
-        // Forge exposes the runtime baker as a package-private inner class, so
-        // reflectively bridge to the official implementation rather than
-        // duplicating the caching and missing-model handling logic.
+    private static UnbakedModel fetchUnbakedModel(ModelBakery bakery, ResourceLocation id) {
+        MethodHandle getter = BakerAccess.MODEL_GETTER;
+        if (getter == null) {
+            throw new IllegalStateException("Unable to access model '" + id + "' for custom chicken item sprite baking");
+        }
         try {
-            if (bakerConstructor == null) {
+            return (UnbakedModel) getter.invoke(bakery, id);
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException("Unable to access model '" + id + "' for custom chicken item sprite baking", throwable);
+        }
+    }
+
+    /**
+     * Per-chicken working state carried between the bake phases.
+     */
+    private static final class SpriteRequest {
+        private final ChickensRegistryItem chicken;
+        @Nullable
+        private BakedModel prebaked;
+        @Nullable
+        private Material material;
+        @Nullable
+        private BlockModel model;
+        @Nullable
+        private Boolean tint;
+        private boolean disableTint;
+
+        private SpriteRequest(ChickensRegistryItem chicken) {
+            this.chicken = chicken;
+        }
+    }
+
+    /**
+     * Reflective bridge into the bakery internals, resolved once when the
+     * first sprite bake runs rather than on every model.
+     */
+    private static final class BakerAccess {
+        @Nullable
+        private static final MethodHandle BAKER_CONSTRUCTOR;
+        @Nullable
+        private static final MethodHandle MODEL_GETTER;
+
+        static {
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            MethodHandle constructor = null;
+            // Forge exposes the runtime baker as a package-private inner class, so
+            // reflectively bridge to the official implementation rather than
+            // duplicating the caching and missing-model handling logic.
+            try {
                 Class<?> impl = Class.forName("net.minecraft.client.resources.model.ModelBakery$ModelBakerImpl");
                 Constructor<?> ctor = impl.getDeclaredConstructor(ModelBakery.class, ModelBakery.TextureGetter.class,
                         ModelResourceLocation.class);
                 ctor.setAccessible(true);
-                bakerConstructor = ctor;
+                constructor = lookup.unreflectConstructor(ctor);
+            } catch (ReflectiveOperationException | RuntimeException exception) {
+                LOGGER.error("Unable to access ModelBakery baker; custom chicken item sprites will be skipped", exception);
+            }
+            MethodHandle getter = null;
+            try {
+                Method method = ModelBakery.class.getDeclaredMethod("getModel", ResourceLocation.class);
+                method.setAccessible(true);
+                getter = lookup.unreflect(method);
+            } catch (ReflectiveOperationException | RuntimeException exception) {
+                LOGGER.error("Unable to access ModelBakery#getModel; custom chicken item sprites will be skipped", exception);
+            }
+            BAKER_CONSTRUCTOR = constructor;
+            MODEL_GETTER = getter;
+        }
+
+        private BakerAccess() {
+        }
+
+        @Nullable
+        private static ModelBaker instantiateBaker(ModelBakery bakery, ModelResourceLocation modelId,
+                Function<Material, TextureAtlasSprite> sprites) {
+            if (BAKER_CONSTRUCTOR == null) {
+                return null;
             }
             ModelBakery.TextureGetter getter = (location, material) -> sprites.apply(material);
-            return (ModelBaker) bakerConstructor.newInstance(bakery, getter, modelId);
-        } catch (ReflectiveOperationException exception) {
-            if (!loggedBakerFailure) {
+            try {
+                return (ModelBaker) BAKER_CONSTRUCTOR.invoke(bakery, getter, modelId);
+            } catch (Throwable throwable) {
                 LOGGER.error("Unable to create ModelBakery baker for {}; custom chicken item sprite will be skipped", modelId,
-                        exception);
-                loggedBakerFailure = true;
+                        throwable);
+                return null;
             }
-            return null;
         }
     }
 
-    private static void logParentFailure(RuntimeException exception) {
-        if (!loggedParentFailure) {
-            LOGGER.error("Failed to resolve minecraft:item/generated while baking a custom chicken item sprite", exception);
-            loggedParentFailure = true;
+    /**
+     * Supplies the model lookup and sprite atlas a bake should read from. The
+     * bake event exposes the freshly stitched atlases and baked models before
+     * the model manager publishes them, so eager bakes must use those rather
+     * than the live client state.
+     */
+    record BakeContext(ModelBakery bakery,
+                       Function<ModelResourceLocation, BakedModel> models,
+                       @Nullable BakedModel missingModel,
+                       Function<Material, TextureAtlasSprite> sprites) {
+        static BakeContext fromEvent(ModelEvent.ModifyBakingResult event) {
+            Map<ModelResourceLocation, BakedModel> models = event.getModels();
+            return new BakeContext(event.getModelBakery(), models::get,
+                    models.get(ModelBakery.MISSING_MODEL_VARIANT), event.getTextureGetter());
         }
-    }
 
-    private static UnbakedModel fetchUnbakedModel(ModelBakery bakery, ResourceLocation id) {
-        try {
-            if (bakeryModelGetter == null) {
-                Method method = ModelBakery.class.getDeclaredMethod("getModel", ResourceLocation.class);
-                method.setAccessible(true);
-                bakeryModelGetter = method;
-            }
-            return (UnbakedModel) bakeryModelGetter.invoke(bakery, id);
-        } catch (ReflectiveOperationException exception) {
-            throw new RuntimeException("Unable to access model '" + id + "' for custom chicken item sprite baking", exception);
+        static BakeContext live(ModelBakery bakery) {
+            ModelManager manager = Minecraft.getInstance().getModelManager();
+            return new BakeContext(bakery, manager::getModel, manager.getMissingModel(),
+                    key -> manager.getAtlas(key.atlasLocation()).getSprite(key.texture()));
+        }
+
+        @Nullable
+        BakedModel existingModel(ModelResourceLocation location) {
+            BakedModel model = models.apply(location);
+            return model != null && model != missingModel ? model : null;
         }
     }
 }
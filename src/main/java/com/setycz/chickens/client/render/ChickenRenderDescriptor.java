@@ -0,0 +1,230 @@
+package com.setycz.chickens.client.render;
+
+import com.setycz.chickens.ChemicalEggRegistry;
+import com.setycz.chickens.ChemicalEggRegistryItem;
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.GasEggRegistry;
+import com.setycz.chickens.LiquidEggRegistry;
+import com.setycz.chickens.LiquidEggRegistryItem;
+import com.setycz.chickens.item.ChemicalEggItem;
+import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.item.GasEggItem;
+import com.setycz.chickens.item.LiquidEggItem;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.texture.TextureAtlas;
+import net.minecraft.client.renderer.texture.TextureAtlasSprite;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.packs.resources.ResourceManager;
+import net.minecraft.server.packs.resources.SimplePreparableReloadListener;
+import net.minecraft.util.FastColor;
+import net.minecraft.util.Mth;
+import net.minecraft.util.profiling.ProfilerFiller;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.material.Fluid;
+import net.neoforged.neoforge.client.extensions.common.IClientFluidTypeExtensions;
+import net.neoforged.neoforge.fluids.FluidStack;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-chicken render state shared by {@link ChickensChickenRenderer} and
+ * {@link LiquidChickenOverlayLayer}. Descriptors are rebuilt after every
+ * resource reload, once the block atlas has been stitched, so rendering a
+ * chicken is a single int-keyed lookup with no resource probes, item stack
+ * copies, or atlas queries per frame. Everything but a generated texture is
+ * fixed when the descriptor is built; that one is uploaded on the render
+ * thread the first time it is asked for. The cache is dropped whenever
+ * {@link ChickensRegistry#version()} moves, so a re-registered id never
+ * keeps a stale descriptor.
+ */
+public final class ChickenRenderDescriptor {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensChickenRenderer");
+    // Matches the translucency the overlay layer has always used.
+    private static final int OVERLAY_ALPHA = Math.round(0.8F * 255.0F);
+    private static final Int2ObjectMap<ChickenRenderDescriptor> DESCRIPTORS = new Int2ObjectOpenHashMap<>();
+    private static int descriptorsVersion = -1;
+
+    private final ChickensRegistryItem chicken;
+    private final boolean generatedTexture;
+    // Set lazily for generated textures, see texture().
+    @Nullable
+    private ResourceLocation texture;
+    @Nullable
+    private final TextureAtlasSprite overlaySprite;
+    private final int overlayColor;
+
+    private ChickenRenderDescriptor(ChickensRegistryItem chicken, @Nullable ResourceLocation texture,
+            @Nullable TextureAtlasSprite overlaySprite, int overlayColor) {
+        this.chicken = chicken;
+        this.generatedTexture = texture == null;
+        this.texture = texture;
+        this.overlaySprite = overlaySprite;
+        this.overlayColor = overlayColor;
+    }
+
+    /**
+     * Returns the descriptor for the given chicken id, building it on first use
+     * for chickens that were registered after the last reload.
+     */
+    @Nullable
+    public static ChickenRenderDescriptor forType(int type) {
+        int version = ChickensRegistry.version();
+        if (version != descriptorsVersion) {
+            DESCRIPTORS.clear();
+            descriptorsVersion = version;
+        }
+        ChickenRenderDescriptor descriptor = DESCRIPTORS.get(type);
+        if (descriptor == null) {
+            ChickensRegistryItem chicken = ChickensRegistry.getByType(type);
+            if (chicken == null) {
+                return null;
+            }
+            descriptor = build(chicken, Minecraft.getInstance().getResourceManager());
+            DESCRIPTORS.put(type, descriptor);
+        }
+        return descriptor;
+    }
+
+    /**
+     * Entity texture for the chicken. Generated textures are uploaded on first
+     * use so the reload does not allocate a dynamic texture for every chicken
+     * in the registry up front.
+     */
+    public ResourceLocation texture() {
+        if (texture == null) {
+            texture = DynamicChickenTextures.textureFor(chicken);
+        }
+        return texture;
+    }
+
+    public boolean usesGeneratedTexture() {
+        return generatedTexture;
+    }
+
+    public boolean hasOverlay() {
+        return overlaySprite != null;
+    }
+
+    @Nullable
+    public TextureAtlasSprite overlaySprite() {
+        return overlaySprite;
+    }
+
+    /**
+     * Packed ARGB colour for the fluid/chemical overlay, alpha included.
+     */
+    public int overlayColor() {
+        return overlayColor;
+    }
+
+    private static void rebuild(ResourceManager resourceManager) {
+        DESCRIPTORS.clear();
+        descriptorsVersion = ChickensRegistry.version();
+        List<ChickensRegistryItem> chickens = new ArrayList<>(ChickensRegistry.getItems());
+        chickens.addAll(ChickensRegistry.getDisabledItems());
+        for (ChickensRegistryItem chicken : chickens) {
+            DESCRIPTORS.put(chicken.getId(), build(chicken, resourceManager));
+        }
+        LOGGER.debug("Prepared render descriptors for {} chickens", DESCRIPTORS.size());
+    }
+
+    private static ChickenRenderDescriptor build(ChickensRegistryItem chicken, ResourceManager resourceManager) {
+        ResourceLocation texture = null;
+        if (!chicken.hasGeneratedTexture()) {
+            ResourceLocation configured = chicken.getTexture();
+            if (resourceManager.getResource(configured).isPresent()) {
+                texture = configured;
+            } else {
+                // Fallback to the tint pipeline so players see a coloured chicken instead of
+                // the purple/black missing-texture placeholder when a resource pack is absent
+                // or a path is mis-typed.
+                LOGGER.warn("Falling back to generated texture for chicken {} because {} was unavailable",
+                        chicken.getEntityName(), configured);
+            }
+        }
+
+        Overlay overlay = resolveOverlay(chicken);
+        if (overlay == null) {
+            return new ChickenRenderDescriptor(chicken, texture, null, 0);
+        }
+        TextureAtlasSprite sprite = Minecraft.getInstance()
+                .getModelManager()
+                .getAtlas(TextureAtlas.LOCATION_BLOCKS)
+                .getSprite(overlay.texture());
+        int tint = brightenTint(overlay.tint());
+        int packedColor = FastColor.ARGB32.color(OVERLAY_ALPHA, (tint >> 16) & 0xFF, (tint >> 8) & 0xFF, tint & 0xFF);
+        return new ChickenRenderDescriptor(chicken, texture, sprite, packedColor);
+    }
+
+    @Nullable
+    private static Overlay resolveOverlay(ChickensRegistryItem chicken) {
+        ItemStack layStack = chicken.createLayItem();
+        if (layStack.isEmpty()) {
+            return null;
+        }
+        int id = ChickenItemHelper.getChickenType(layStack);
+        if (layStack.getItem() instanceof LiquidEggItem) {
+            LiquidEggRegistryItem liquid = LiquidEggRegistry.findById(id);
+            if (liquid == null) {
+                return null;
+            }
+            FluidStack fluidStack = liquid.createFluidStack();
+            if (fluidStack.isEmpty()) {
+                return null;
+            }
+            Fluid fluid = fluidStack.getFluid();
+            IClientFluidTypeExtensions extensions = IClientFluidTypeExtensions.of(fluid);
+            ResourceLocation texture = extensions.getStillTexture(fluidStack);
+            if (texture == null) {
+                texture = extensions.getFlowingTexture(fluidStack);
+            }
+            if (texture == null) {
+                return null;
+            }
+            return new Overlay(texture, extensions.getTintColor(fluidStack));
+        }
+        if (layStack.getItem() instanceof ChemicalEggItem) {
+            ChemicalEggRegistryItem chemical = ChemicalEggRegistry.findById(id);
+            if (chemical != null) {
+                return new Overlay(chemical.getTexture(), chemical.getEggColor());
+            }
+        } else if (layStack.getItem() instanceof GasEggItem) {
+            ChemicalEggRegistryItem gas = GasEggRegistry.findById(id);
+            if (gas != null) {
+                return new Overlay(gas.getTexture(), gas.getEggColor());
+            }
+        }
+        return null;
+    }
+
+    private static int brightenTint(int tint) {
+        int red = Mth.clamp((int) (((tint >> 16) & 0xFF) * 1.2F + 24.0F), 0, 255);
+        int green = Mth.clamp((int) (((tint >> 8) & 0xFF) * 1.2F + 24.0F), 0, 255);
+        int blue = Mth.clamp((int) ((tint & 0xFF) * 1.2F + 24.0F), 0, 255);
+        return (red << 16) | (green << 8) | blue;
+    }
+
+    public static SimplePreparableReloadListener<Void> reloadListener() {
+        return new SimplePreparableReloadListener<>() {
+            @Override
+            protected Void prepare(ResourceManager resourceManager, ProfilerFiller profiler) {
+                return null;
+            }
+
+            @Override
+            protected void apply(Void object, ResourceManager resourceManager, ProfilerFiller profiler) {
+                rebuild(resourceManager);
+            }
+        };
+    }
+
+    private record Overlay(ResourceLocation texture, int tint) {
+    }
+}
@@ -1,35 +1,46 @@
 package com.setycz.chickens.client.render;
 
 import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.item.ChickenItemHelper;
+import com.setycz.chickens.registry.ModRegistry;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minecraft.client.multiplayer.ClientLevel;
 import net.minecraft.client.renderer.block.model.ItemOverrides;
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.ModelBakery;
+import net.minecraft.core.component.DataComponents;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.component.CustomModelData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
 
 /**
  * Override handler that mirrors the behaviour of the baked chicken item model
  * but adds support for custom chickens defined in {@code chickens_custom.json}.
- * When the vanilla override list does not contain a matching entry the handler
- * falls back to dynamically baking a sprite model derived from the chicken's
- * configured item texture.
+ * Every known chicken is resolved once when the model bakes, either to its
+ * JSON override or to a dynamically baked sprite model, so rendering a chicken
+ * item is a single table lookup instead of a scan of every
+ * {@code custom_model_data} override. Chickens registered after the bake fall
+ * back to resolving lazily and are then cached in the same table.
  */
 final class CustomChickenItemOverrides extends ItemOverrides {
     private static final Logger LOGGER = LoggerFactory.getLogger("ChickensCustomItemModels");
+    // Below this many chickens the fork/join hand-off costs more than it saves.
+    private static final int PARALLEL_THRESHOLD = 32;
 
     private final ItemOverrides delegate;
     private final ModelBakery bakery;
-    private final Map<Integer, BakedModel> cache = new HashMap<>();
+    private final Int2ObjectMap<BakedModel> models = new Int2ObjectOpenHashMap<>();
 
     CustomChickenItemOverrides(ItemOverrides delegate, ModelBakery bakery) {
         super();
@@ -37,63 +48,133 @@ final class CustomChickenItemOverrides extends ItemOverrides {
         this.bakery = bakery;
     }
 
+    /**
+     * Fills the model table for the rooster and every registered chicken using
+     * the models and atlases produced by the current bake. Override probes are
+     * read-only, so large rosters scan them in parallel before the remaining
+     * chickens are handed to the sprite baker as one batch.
+     */
+    void bakeAll(BakedModel originalModel, ChickenItemSpriteModels.BakeContext context) {
+        long start = System.nanoTime();
+        List<ChickensRegistryItem> chickens = new ArrayList<>(ChickensRegistry.getItems());
+        chickens.addAll(ChickensRegistry.getDisabledItems());
+
+        BakedModel[] overridden = new BakedModel[chickens.size()];
+        IntStream indices = IntStream.range(0, overridden.length);
+        (overridden.length >= PARALLEL_THRESHOLD ? indices.parallel() : indices)
+                .forEach(i -> overridden[i] = findOverride(chickens.get(i), originalModel));
+        long scanned = System.nanoTime();
+
+        List<ChickensRegistryItem> spriteChickens = new ArrayList<>();
+        spriteChickens.add(roosterStub());
+        for (int i = 0; i < overridden.length; i++) {
+            if (overridden[i] != null) {
+                models.put(chickens.get(i).getId(), overridden[i]);
+            } else {
+                spriteChickens.add(chickens.get(i));
+            }
+        }
+        BakedModel[] sprites = ChickenItemSpriteModels.bakeAll(spriteChickens, context);
+        for (int i = 0; i < sprites.length; i++) {
+            ChickensRegistryItem chicken = spriteChickens.get(i);
+            models.put(chicken.getId(), i == 0
+                    ? (sprites[i] != null ? sprites[i] : originalModel)
+                    : publishSprite(chicken, sprites[i], originalModel));
+        }
+        long finished = System.nanoTime();
+        LOGGER.info("Prepared {} chicken item models in {} ms [override scan {} ms, sprites {} ms]",
+                models.size(), ChickenItemSpriteModels.millis(finished - start),
+                ChickenItemSpriteModels.millis(scanned - start), ChickenItemSpriteModels.millis(finished - scanned));
+    }
+
     @Override
     public BakedModel resolve(BakedModel originalModel, ItemStack stack, @Nullable ClientLevel level,
             @Nullable LivingEntity entity, int seed) {
-        if (ChickenItemHelper.isRooster(stack)) {
-            BakedModel cachedRooster = cache.get(ChickenItemHelper.ROOSTER_MODEL_ID);
-            if (cachedRooster != null) {
-                return cachedRooster;
-            }
-            ChickensRegistryItem stub = new ChickensRegistryItem(
-                    ChickenItemHelper.ROOSTER_MODEL_ID,
-                    "Rooster",
-                    ResourceLocation.withDefaultNamespace("textures/entity/chicken.png"),
-                    ItemStack.EMPTY,
-                    0xFFFFFF,
-                    0xFFFFFF
-            );
-            stub.setItemTexture(ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "textures/item/rooster.png"));
-            BakedModel bakedRooster = ChickenItemSpriteModels.bake(stub, bakery);
-            if (bakedRooster != null) {
-                cache.put(ChickenItemHelper.ROOSTER_MODEL_ID, bakedRooster);
-                return bakedRooster;
+        int key = modelKey(stack);
+        BakedModel model = models.get(key);
+        if (model != null) {
+            return model;
+        }
+        // Only chickens that appeared after the bake reach this point; bake
+        // them against the live client state once and remember the answer.
+        ChickenItemSpriteModels.BakeContext context = ChickenItemSpriteModels.BakeContext.live(bakery);
+        if (key == ChickenItemHelper.ROOSTER_MODEL_ID) {
+            model = resolveRooster(originalModel, context);
+        } else {
+            ChickensRegistryItem chicken = ChickensRegistry.getByType(key);
+            if (chicken == null) {
+                return originalModel;
             }
-            return originalModel;
+            model = resolveChicken(chicken, originalModel, context);
+        }
+        models.put(key, model);
+        return model;
+    }
+
+    private static int modelKey(ItemStack stack) {
+        if (ChickenItemHelper.isRooster(stack)) {
+            return ChickenItemHelper.ROOSTER_MODEL_ID;
         }
+        // Chicken stacks mirror their type into custom model data, which is a
+        // plain component read rather than a custom data lookup.
+        CustomModelData modelData = stack.get(DataComponents.CUSTOM_MODEL_DATA);
+        return modelData != null ? modelData.value() : ChickenItemHelper.getChickenType(stack);
+    }
+
+    private static ChickensRegistryItem roosterStub() {
+        ChickensRegistryItem stub = new ChickensRegistryItem(
+                ChickenItemHelper.ROOSTER_MODEL_ID,
+                "Rooster",
+                ResourceLocation.withDefaultNamespace("textures/entity/chicken.png"),
+                ItemStack.EMPTY,
+                0xFFFFFF,
+                0xFFFFFF
+        );
+        stub.setItemTexture(ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "textures/item/rooster.png"));
+        return stub;
+    }
+
+    private BakedModel resolveRooster(BakedModel originalModel, ChickenItemSpriteModels.BakeContext context) {
+        BakedModel bakedRooster = ChickenItemSpriteModels.bake(roosterStub(), context);
+        return bakedRooster != null ? bakedRooster : originalModel;
+    }
+
+    private BakedModel resolveChicken(ChickensRegistryItem chicken, BakedModel originalModel,
+            ChickenItemSpriteModels.BakeContext context) {
+        BakedModel overridden = findOverride(chicken, originalModel);
+        if (overridden != null) {
+            return overridden;
+        }
+        return publishSprite(chicken, ChickenItemSpriteModels.bake(chicken, context), originalModel);
+    }
 
-        ChickensRegistryItem chicken = ChickenItemHelper.resolve(stack);
-        boolean hasExplicitTexture = chicken != null && chicken.getItemTexture() != null;
-        boolean forceCustomSprite = chicken != null && chicken.isCustom() && hasExplicitTexture;
+    /**
+     * Returns the JSON override model for chickens that rely on it, or
+     * {@code null} when the chicken needs a dynamically baked sprite.
+     */
+    @Nullable
+    private BakedModel findOverride(ChickensRegistryItem chicken, BakedModel originalModel) {
         // Vanilla custom model overrides treat the predicate value as a lower bound, so unknown ids
         // inherit the last baked model. Datapack chickens must bypass that behaviour so the bespoke
         // sprite defined in chickens_custom.json always renders instead of reusing the final override.
         //
         // Built-in chickens that supply a bespoke sprite should also bypass the baked override list so
         // they stitch the requested PNG rather than falling back to the tinted placeholder icon.
-
-        BakedModel resolved = delegate != null ? delegate.resolve(originalModel, stack, level, entity, seed) : null;
-        if (!forceCustomSprite && !hasExplicitTexture && resolved != null && resolved != originalModel) {
-            return resolved;
-        }
-
-        if (chicken == null) {
-            return resolved != null ? resolved : originalModel;
-        }
-
-        BakedModel cached = cache.get(chicken.getId());
-        if (cached != null) {
-            return cached;
+        if (chicken.getItemTexture() != null || delegate == null) {
+            return null;
         }
+        ItemStack probe = ModRegistry.CHICKEN_ITEM.get().createFor(chicken);
+        BakedModel resolved = delegate.resolve(originalModel, probe, null, null, 0);
+        return resolved != null && resolved != originalModel ? resolved : null;
+    }
 
-        BakedModel baked = ChickenItemSpriteModels.bake(chicken, bakery);
+    private static BakedModel publishSprite(ChickensRegistryItem chicken, @Nullable BakedModel baked,
+            BakedModel originalModel) {
         if (baked == null) {
             chicken.setTintItem(true);
             LOGGER.warn("Falling back to default chicken item model for {} due to missing sprite", chicken.getEntityName());
             return originalModel;
         }
-
-        cache.put(chicken.getId(), baked);
         return baked;
     }
 }
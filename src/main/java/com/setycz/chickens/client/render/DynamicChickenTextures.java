@@ -50,9 +50,20 @@ public final class DynamicChickenTextures {
                     ChickensMod.MOD_ID, "textures/entity/unknownchicken.png");
         }
 
+        NativeImage image = recolor(base, chicken.getBgColor(), chicken.getFgColor());
+        DynamicTexture texture = new DynamicTexture(image);
+        ResourceLocation id = ResourceLocation.fromNamespaceAndPath(
+                ChickensMod.MOD_ID, "dynamic/chicken_" + chicken.getId());
+        Minecraft.getInstance().getTextureManager().register(id, texture);
+        return id;
+    }
+
+    /**
+     * Tints the greyscale pixels of {@code base} between the primary and accent
+     * colours, keeping saturated detail pixels as they are.
+     */
+    static NativeImage recolor(NativeImage base, int primary, int accent) {
         NativeImage image = new NativeImage(base.getWidth(), base.getHeight(), false);
-        int primary = chicken.getBgColor();
-        int accent = chicken.getFgColor();
         for (int y = 0; y < base.getHeight(); y++) {
             for (int x = 0; x < base.getWidth(); x++) {
                 int rgba = base.getPixelRGBA(x, y);
@@ -79,12 +90,7 @@ public final class DynamicChickenTextures {
                 image.setPixelRGBA(x, y, finalColor);
             }
         }
-
-        DynamicTexture texture = new DynamicTexture(image);
-        ResourceLocation id = ResourceLocation.fromNamespaceAndPath(
-                ChickensMod.MOD_ID, "dynamic/chicken_" + chicken.getId());
-        Minecraft.getInstance().getTextureManager().register(id, texture);
-        return id;
+        return image;
     }
 
     private static int lerpColor(int start, int end, float amount) {
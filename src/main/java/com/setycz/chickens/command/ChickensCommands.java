@@ -9,28 +9,41 @@ import com.setycz.chickens.data.BreedingGraphExporter;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import com.setycz.chickens.entity.ChickensChicken;
+import com.setycz.chickens.profile.ChickensProfiler;
+import com.setycz.chickens.profile.ProductionStats;
 import com.setycz.chickens.registry.ModEntityTypes;
 import com.setycz.chickens.spawn.ChickensSpawnDebug;
 import com.setycz.chickens.spawn.ChickensSpawnManager;
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.core.BlockPos;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.entity.MobSpawnType;
 import net.neoforged.neoforge.common.NeoForge;
 import net.neoforged.neoforge.event.RegisterCommandsEvent;
 
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Locale;
+import java.util.stream.Collectors;
 
 
 /**
  * Registers the Chickens command tree. Modern NeoForge exposes Brigadier
  * directly, so we expose a {@code /chickens export breeding} command that lets
- * players regenerate the breeding graph without restarting the server.
+ * players regenerate the breeding graph without restarting the server, and
+ * {@code /chickens profile} for attributing tick time to individual machines,
+ * plus {@code /chickens stats} for server-wide production rates.
  */
 public final class ChickensCommands {
+    // Sources and hotspots listed in chat; the JSON report carries the full lists.
+    private static final int PROFILE_LINES = 5;
+    // Busiest chicken types listed by /chickens stats; the exported file has all of them.
+    private static final int STATS_LINES = 10;
+
     private ChickensCommands() {
     }
 
@@ -60,19 +73,38 @@ public final class ChickensCommands {
                         .then(Commands.literal("summon_random")
                                 .executes(ctx -> summonRandom(ctx.getSource(), null))
                                 .then(Commands.argument("spawn_type", StringArgumentType.word())
-                                        .executes(ctx -> summonRandom(ctx.getSource(), StringArgumentType.getString(ctx, "spawn_type"))))));
+                                        .executes(ctx -> summonRandom(ctx.getSource(), StringArgumentType.getString(ctx, "spawn_type")))))
+                        .then(Commands.literal("stats")
+                                .executes(ctx -> showSpawnStats(ctx.getSource()))
+                                .then(Commands.literal("reset")
+                                        .executes(ctx -> resetSpawnStats(ctx.getSource())))))
+                .then(Commands.literal("profile")
+                        .then(Commands.literal("start")
+                                .executes(ctx -> startProfile(ctx.getSource())))
+                        .then(Commands.literal("stop")
+                                .executes(ctx -> stopProfile(ctx.getSource())))
+                        .then(Commands.literal("dump")
+                                .executes(ctx -> dumpProfile(ctx.getSource()))))
+                .then(Commands.literal("stats")
+                        .executes(ctx -> showProductionStats(ctx.getSource()))
+                        .then(Commands.literal("export")
+                                .executes(ctx -> exportProductionStats(ctx.getSource()))));
         event.getDispatcher().register(root);
     }
 
     private static int exportBreedingGraph(CommandSourceStack source) {
-        Optional<Path> result = BreedingGraphExporter.export(ChickensRegistry.getItems());
-        if (result.isPresent()) {
-            Path path = result.get();
-            source.sendSuccess(() -> Component.translatable("commands.chickens.export.success", path.toString()), true);
-            return 1;
-        }
-        source.sendFailure(Component.translatable("commands.chickens.export.failure"));
-        return 0;
+        MinecraftServer server = source.getServer();
+        source.sendSuccess(() -> Component.translatable("commands.chickens.export.started"), false);
+        // The export runs off-thread; hop back onto the server thread before replying.
+        BreedingGraphExporter.exportAsync(ChickensRegistry.getItems()).whenComplete((paths, error) -> server.execute(() -> {
+            if (error != null) {
+                source.sendFailure(Component.translatable("commands.chickens.export.failure"));
+                return;
+            }
+            String written = paths.stream().map(Path::toString).collect(Collectors.joining(", "));
+            source.sendSuccess(() -> Component.translatable("commands.chickens.export.success", written), true);
+        }));
+        return 1;
     }
 
     private static int setSpawnMultiplier(CommandSourceStack source, float multiplier) {
@@ -89,6 +121,115 @@ public final class ChickensCommands {
         return 1;
     }
 
+    private static int showSpawnStats(CommandSourceStack source) {
+        for (Map.Entry<SpawnType, ChickensSpawnManager.SpawnStats> entry : ChickensSpawnManager.getSpawnStats().entrySet()) {
+            if (entry.getKey() == SpawnType.NONE) {
+                continue;
+            }
+            ChickensSpawnManager.SpawnStats stats = entry.getValue();
+            String type = entry.getKey().name().toLowerCase(Locale.ROOT);
+            source.sendSuccess(() -> Component.translatable("commands.chickens.spawn.stats",
+                    type, stats.attempts(), stats.accepts(), stats.rejects()), false);
+        }
+        return 1;
+    }
+
+    private static int resetSpawnStats(CommandSourceStack source) {
+        ChickensSpawnManager.resetSpawnStats();
+        source.sendSuccess(() -> Component.translatable("commands.chickens.spawn.stats.reset"), true);
+        return 1;
+    }
+
+    private static int showProductionStats(CommandSourceStack source) {
+        long minutes = ProductionStats.minutesRecorded();
+        source.sendSuccess(() -> Component.translatable("commands.chickens.stats.header", minutes), false);
+        for (ProductionStats.Rate rate : ProductionStats.channels()) {
+            sendRate(source, "commands.chickens.stats.channel", rate);
+        }
+        for (ProductionStats.Rate rate : ProductionStats.topChickens(STATS_LINES)) {
+            sendRate(source, "commands.chickens.stats.chicken", rate);
+        }
+        return 1;
+    }
+
+    private static void sendRate(CommandSourceStack source, String key, ProductionStats.Rate rate) {
+        String perMinute1 = String.format(Locale.ROOT, "%.1f", rate.perMinute1());
+        String perMinute5 = String.format(Locale.ROOT, "%.1f", rate.perMinute5());
+        String perMinute15 = String.format(Locale.ROOT, "%.1f", rate.perMinute15());
+        source.sendSuccess(() -> Component.translatable(key, rate.label(), rate.total(), rate.unit(),
+                perMinute1, perMinute5, perMinute15), false);
+    }
+
+    private static int exportProductionStats(CommandSourceStack source) {
+        Optional<Path> written = ProductionStats.export();
+        if (written.isPresent()) {
+            String path = written.get().toString();
+            source.sendSuccess(() -> Component.translatable("commands.chickens.stats.written", path), true);
+            return 1;
+        }
+        source.sendFailure(Component.translatable("commands.chickens.stats.write_failed"));
+        return 0;
+    }
+
+    private static int startProfile(CommandSourceStack source) {
+        if (!ChickensProfiler.start(source.getServer().getTickCount())) {
+            source.sendFailure(Component.translatable("commands.chickens.profile.already_running"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.chickens.profile.started"), true);
+        return 1;
+    }
+
+    private static int stopProfile(CommandSourceStack source) {
+        Optional<ChickensProfiler> profiler = ChickensProfiler.stop();
+        if (profiler.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.chickens.profile.not_running"));
+            return 0;
+        }
+        source.sendSuccess(() -> Component.translatable("commands.chickens.profile.stopped"), true);
+        return reportProfile(source, profiler.get());
+    }
+
+    private static int dumpProfile(CommandSourceStack source) {
+        Optional<ChickensProfiler> profiler = ChickensProfiler.current();
+        if (profiler.isEmpty()) {
+            source.sendFailure(Component.translatable("commands.chickens.profile.not_running"));
+            return 0;
+        }
+        return reportProfile(source, profiler.get());
+    }
+
+    private static int reportProfile(CommandSourceStack source, ChickensProfiler profiler) {
+        int serverTick = source.getServer().getTickCount();
+        int ticks = Math.max(profiler.elapsedTicks(serverTick), 1);
+        source.sendSuccess(() -> Component.translatable("commands.chickens.profile.summary", ticks), false);
+        for (ChickensProfiler.Stats stats : profiler.sources().stream().limit(PROFILE_LINES).toList()) {
+            String perTick = formatMillis(stats.totalNanos() / (double) ticks);
+            String mean = String.format(Locale.ROOT, "%.1f", stats.meanMicros());
+            source.sendSuccess(() -> Component.translatable("commands.chickens.profile.source", stats.sourceName(),
+                    perTick, stats.calls(), mean, stats.percentileMicros(0.99D)), false);
+        }
+        for (ChickensProfiler.Stats stats : profiler.hotspots(PROFILE_LINES)) {
+            BlockPos pos = stats.blockPos();
+            String perTick = formatMillis(stats.totalNanos() / (double) ticks);
+            String dimension = stats.dimension() == null ? "" : stats.dimension().location().toString();
+            source.sendSuccess(() -> Component.translatable("commands.chickens.profile.hotspot", stats.sourceName(),
+                    pos.getX(), pos.getY(), pos.getZ(), dimension, perTick), false);
+        }
+        Optional<Path> written = profiler.writeReport(serverTick);
+        if (written.isPresent()) {
+            String path = written.get().toString();
+            source.sendSuccess(() -> Component.translatable("commands.chickens.profile.written", path), false);
+            return 1;
+        }
+        source.sendFailure(Component.translatable("commands.chickens.profile.write_failed"));
+        return 0;
+    }
+
+    private static String formatMillis(double nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0D);
+    }
+
     private static int summonSpecific(CommandSourceStack source, String token) {
         ChickensRegistryItem chicken = resolveChicken(token);
         if (chicken == null) {
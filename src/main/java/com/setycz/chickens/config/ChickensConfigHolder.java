@@ -1,5 +1,9 @@
 package com.setycz.chickens.config;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
 /**
  * Thread-safe container for the currently active configuration snapshot.
  * NeoForge loads configuration data on the mod loading thread, so a simple
@@ -38,9 +42,17 @@ public final class ChickensConfigHolder {
             true,                    // gasChickensEnabled
             10_000,                  // incubatorEnergyCost
             100_000,                 // incubatorEnergyCapacity
-            4_000                    // incubatorEnergyMaxReceive
+            4_000,                   // incubatorEnergyMaxReceive
+            5,                       // productionStatsExportMinutes
+            1,                       // incubatorBatchSize
+            1,                       // dousingBatchSize
+            20,                      // collectorExportInterval
+            0,                       // outputBufferCapacity
+            20                       // machineLitDebounceTicks
     );
 
+    private static final List<Consumer<ChickensConfigValues>> LISTENERS = new CopyOnWriteArrayList<>();
+
     private ChickensConfigHolder() {
     }
 
@@ -50,5 +62,17 @@ public final class ChickensConfigHolder {
 
     public static void set(ChickensConfigValues newValues) {
         values = newValues;
+        for (Consumer<ChickensConfigValues> listener : LISTENERS) {
+            listener.accept(newValues);
+        }
+    }
+
+    /**
+     * Registers a callback that runs after every new snapshot is published so
+     * systems that attach or detach hooks based on a setting can follow live
+     * configuration changes.
+     */
+    public static void addListener(Consumer<ChickensConfigValues> listener) {
+        LISTENERS.add(listener);
     }
 }
@@ -8,6 +8,10 @@ package com.setycz.chickens.config;
  * disk parsing logic again.
  */
 public final class ChickensConfigValues {
+    // Upper bound for outputBufferCapacity: a few chests' worth per machine,
+    // so a buffer never grows into something that cannot be handed back.
+    public static final int MAX_OUTPUT_BUFFER_CAPACITY = 4_096;
+
     private final int spawnProbability;
     private final int minBroodSize;
     private final int maxBroodSize;
@@ -47,6 +51,12 @@ public final class ChickensConfigValues {
     private final int incubatorEnergyCost;
     private final int incubatorEnergyCapacity;
     private final int incubatorEnergyMaxReceive;
+    private final int productionStatsExportMinutes;
+    private final int incubatorBatchSize;
+    private final int dousingBatchSize;
+    private final int collectorExportInterval;
+    private final int outputBufferCapacity;
+    private final int machineLitDebounceTicks;
 
     public ChickensConfigValues(int spawnProbability, int minBroodSize, int maxBroodSize,
             float netherSpawnChanceMultiplier, float overworldSpawnChance,
@@ -61,7 +71,9 @@ public final class ChickensConfigValues {
             int avianChemicalCapacity, int avianChemicalTransferRate, boolean avianChemicalEffectsEnabled,
             boolean liquidEggHazardsEnabled, boolean fluidChickensEnabled,
             boolean chemicalChickensEnabled, boolean gasChickensEnabled, int incubatorEnergyCost,
-            int incubatorEnergyCapacity, int incubatorEnergyMaxReceive) {
+            int incubatorEnergyCapacity, int incubatorEnergyMaxReceive, int productionStatsExportMinutes,
+            int incubatorBatchSize, int dousingBatchSize, int collectorExportInterval,
+            int outputBufferCapacity, int machineLitDebounceTicks) {
         this.spawnProbability = spawnProbability;
         this.minBroodSize = minBroodSize;
         this.maxBroodSize = maxBroodSize;
@@ -96,6 +108,12 @@ public final class ChickensConfigValues {
         this.incubatorEnergyCost = incubatorEnergyCost;
         this.incubatorEnergyCapacity = incubatorEnergyCapacity;
         this.incubatorEnergyMaxReceive = incubatorEnergyMaxReceive;
+        this.productionStatsExportMinutes = productionStatsExportMinutes;
+        this.incubatorBatchSize = incubatorBatchSize;
+        this.dousingBatchSize = dousingBatchSize;
+        this.collectorExportInterval = collectorExportInterval;
+        this.outputBufferCapacity = outputBufferCapacity;
+        this.machineLitDebounceTicks = machineLitDebounceTicks;
     }
 
     public int getSpawnProbability() {
@@ -250,4 +268,53 @@ public final class ChickensConfigValues {
     public int getIncubatorEnergyMaxReceive() {
         return incubatorEnergyMaxReceive;
     }
+
+    /**
+     * Minutes between production counter exports to {@code logs/}; zero
+     * disables the file while {@code /chickens stats} keeps working.
+     */
+    public int getProductionStatsExportMinutes() {
+        return productionStatsExportMinutes;
+    }
+
+    /**
+     * Eggs an incubator hatches per cycle, each charged the full energy cost;
+     * one keeps the legacy one-egg cycle.
+     */
+    public int getIncubatorBatchSize() {
+        return incubatorBatchSize;
+    }
+
+    /**
+     * Chickens the Avian Dousing Machine converts per cycle when reagent and
+     * energy for them are stored; one keeps the legacy one-chicken cycle.
+     */
+    public int getDousingBatchSize() {
+        return dousingBatchSize;
+    }
+
+    /**
+     * Ticks between collector pushes through its export face; zero turns
+     * exporting off.
+     */
+    public int getCollectorExportInterval() {
+        return collectorExportInterval;
+    }
+
+    /**
+     * Items a roost or collector can hold behind its output slots before it
+     * stalls; zero turns the overflow buffer off. The loader keeps it at or
+     * below {@link #MAX_OUTPUT_BUFFER_CAPACITY}.
+     */
+    public int getOutputBufferCapacity() {
+        return outputBufferCapacity;
+    }
+
+    /**
+     * Ticks an Avian machine or incubator must want a new lit state before its
+     * block state changes; zero applies changes at the end of the same tick.
+     */
+    public int getMachineLitDebounceTicks() {
+        return machineLitDebounceTicks;
+    }
 }
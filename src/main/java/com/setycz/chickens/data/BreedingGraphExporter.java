@@ -6,85 +6,335 @@ import net.neoforged.fml.loading.FMLPaths;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Optional;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  * Utility responsible for exporting the chicken breeding graph. The logic is
  * shared by both the bootstrap hook and the runtime command so the behaviour
  * stays consistent regardless of how the export is triggered.
+ *
+ * <p>The caller's thread only copies the registry into an immutable
+ * {@link Snapshot}; lineage analysis and the GML, DOT and JSON writers run on
+ * a single background thread, which also keeps two exports from writing the
+ * same files at once.</p>
  */
 public final class BreedingGraphExporter {
     private static final Logger LOGGER = LoggerFactory.getLogger(BreedingGraphExporter.class);
+    private static final String NETHER_FILL = "#FF6600";
+    private static final ExecutorService EXECUTOR = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "Chickens-BreedingGraphExport");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     private BreedingGraphExporter() {
     }
 
     /**
-     * Writes the supplied chicken collection to {@code logs/chickens.gml}.
+     * Snapshots the supplied chickens and writes {@code logs/chickens.gml},
+     * {@code logs/chickens.dot} and {@code logs/chickens.json} in the
+     * background.
      *
-     * @param chickens the registry snapshot to serialise.
-     * @return the path that was written on success or {@link Optional#empty()}
+     * @param chickens the registry entries to serialise.
+     * @return a future holding the written paths, completed exceptionally
      * when writing fails.
      */
-    public static Optional<Path> export(Collection<ChickensRegistryItem> chickens) {
+    public static CompletableFuture<List<Path>> exportAsync(Collection<ChickensRegistryItem> chickens) {
+        Snapshot snapshot = Snapshot.of(chickens);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return write(snapshot);
+            } catch (IOException e) {
+                LOGGER.warn("Failed to write chicken breeding graph", e);
+                throw new UncheckedIOException(e);
+            }
+        }, EXECUTOR);
+    }
+
+    private static List<Path> write(Snapshot snapshot) throws IOException {
+        long start = System.nanoTime();
+        Lineage lineage = Lineage.analyse(snapshot);
         Path logDir = FMLPaths.GAMEDIR.get().resolve("logs");
-        Path output = logDir.resolve("chickens.gml");
-        try {
-            Files.createDirectories(logDir);
-            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
-                writer.write("graph [\n");
-                writer.write("\tdirected 1\n");
-                for (ChickensRegistryItem chicken : chickens) {
-                    writer.write("\tnode [\n");
-                    writer.write("\t\tid " + chicken.getId() + "\n");
-                    writer.write("\t\tlabel \"" + chicken.getEntityName() + "\"\n");
-                    if (requiresVisitingNether(chicken)) {
-                        writer.write("\t\tgraphics [\n");
-                        writer.write("\t\t\tfill \"#FF6600\"\n");
-                        writer.write("\t\t]\n");
-                    }
-                    writer.write("\t]\n");
+        Files.createDirectories(logDir);
+        List<Path> written = new ArrayList<>(3);
+        Path gml = logDir.resolve("chickens.gml");
+        try (Writer writer = Files.newBufferedWriter(gml, StandardCharsets.UTF_8)) {
+            writeGml(writer, snapshot, lineage);
+        }
+        written.add(gml);
+        Path dot = logDir.resolve("chickens.dot");
+        try (Writer writer = Files.newBufferedWriter(dot, StandardCharsets.UTF_8)) {
+            writeDot(writer, snapshot, lineage);
+        }
+        written.add(dot);
+        Path json = logDir.resolve("chickens.json");
+        try (Writer writer = Files.newBufferedWriter(json, StandardCharsets.UTF_8)) {
+            writeJson(writer, snapshot, lineage);
+        }
+        written.add(json);
+        LOGGER.info("Wrote chicken breeding graph ({} chickens) to {} in {} ms", snapshot.exported,
+                logDir, (System.nanoTime() - start) / 1_000_000L);
+        return written;
+    }
+
+    private static void writeGml(Writer writer, Snapshot snapshot, Lineage lineage) throws IOException {
+        writer.write("graph [\n");
+        writer.write("\tdirected 1\n");
+        for (int i = 0; i < snapshot.exported; i++) {
+            writer.write("\tnode [\n\t\tid ");
+            writer.write(Integer.toString(snapshot.ids[i]));
+            writer.write("\n\t\tlabel \"");
+            writer.write(snapshot.names[i]);
+            writer.write("\"\n\t\ttier ");
+            writer.write(Integer.toString(lineage.tier[i]));
+            writer.write("\n\t\tdepth ");
+            writer.write(Integer.toString(lineage.depth[i]));
+            writer.write("\n");
+            if (lineage.nether[i]) {
+                writer.write("\t\tgraphics [\n\t\t\tfill \"" + NETHER_FILL + "\"\n\t\t]\n");
+            }
+            writer.write("\t]\n");
+        }
+        for (int i = 0; i < snapshot.exported; i++) {
+            writeGmlEdge(writer, snapshot, snapshot.parent1[i], i);
+            writeGmlEdge(writer, snapshot, snapshot.parent2[i], i);
+        }
+        writer.write("]\n");
+    }
+
+    private static void writeGmlEdge(Writer writer, Snapshot snapshot, int parent, int child) throws IOException {
+        if (parent < 0) {
+            return;
+        }
+        writer.write("\tedge [\n\t\tsource ");
+        writer.write(Integer.toString(snapshot.ids[parent]));
+        writer.write("\n\t\ttarget ");
+        writer.write(Integer.toString(snapshot.ids[child]));
+        writer.write("\n\t]\n");
+    }
+
+    private static void writeDot(Writer writer, Snapshot snapshot, Lineage lineage) throws IOException {
+        writer.write("digraph chickens {\n");
+        for (int i = 0; i < snapshot.exported; i++) {
+            writer.write("\t");
+            writer.write(Integer.toString(snapshot.ids[i]));
+            writer.write(" [label=\"");
+            writer.write(escape(snapshot.names[i]));
+            writer.write("\\ntier ");
+            writer.write(Integer.toString(lineage.tier[i]));
+            writer.write(lineage.nether[i] ? "\", style=filled, fillcolor=\"" + NETHER_FILL + "\"];\n" : "\"];\n");
+        }
+        for (int i = 0; i < snapshot.exported; i++) {
+            writeDotEdge(writer, snapshot, snapshot.parent1[i], i);
+            writeDotEdge(writer, snapshot, snapshot.parent2[i], i);
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeDotEdge(Writer writer, Snapshot snapshot, int parent, int child) throws IOException {
+        if (parent < 0) {
+            return;
+        }
+        writer.write("\t");
+        writer.write(Integer.toString(snapshot.ids[parent]));
+        writer.write(" -> ");
+        writer.write(Integer.toString(snapshot.ids[child]));
+        writer.write(";\n");
+    }
+
+    private static void writeJson(Writer writer, Snapshot snapshot, Lineage lineage) throws IOException {
+        writer.write("{\n  \"chickens\": [");
+        for (int i = 0; i < snapshot.exported; i++) {
+            writer.write(i == 0 ? "\n    {\"id\": " : ",\n    {\"id\": ");
+            writer.write(Integer.toString(snapshot.ids[i]));
+            writer.write(", \"name\": \"");
+            writer.write(escape(snapshot.names[i]));
+            writer.write("\", \"spawnType\": \"");
+            writer.write(snapshot.spawnTypes[i].name().toLowerCase(Locale.ROOT));
+            writer.write("\", \"parents\": [");
+            writeJsonParent(writer, snapshot, snapshot.parent1[i], false);
+            writeJsonParent(writer, snapshot, snapshot.parent2[i], snapshot.parent1[i] >= 0);
+            writer.write("], \"tier\": ");
+            writer.write(Integer.toString(lineage.tier[i]));
+            writer.write(", \"depth\": ");
+            writer.write(Integer.toString(lineage.depth[i]));
+            writer.write(", \"requiresNether\": ");
+            writer.write(Boolean.toString(lineage.nether[i]));
+            writer.write("}");
+        }
+        writer.write(snapshot.exported == 0 ? "]\n}\n" : "\n  ]\n}\n");
+    }
+
+    private static void writeJsonParent(Writer writer, Snapshot snapshot, int parent, boolean separator)
+            throws IOException {
+        if (parent < 0) {
+            return;
+        }
+        if (separator) {
+            writer.write(", ");
+        }
+        writer.write(Integer.toString(snapshot.ids[parent]));
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Immutable copy of the fields the export reads, in flat arrays indexed
+     * by position. The first {@code exported} entries are the requested
+     * chickens in iteration order; any parents outside that collection (for
+     * example disabled chickens) follow so lineage still resolves through
+     * them. Parent slots hold an index, or {@code -1} for none.
+     */
+    private static final class Snapshot {
+        private final int exported;
+        private final int[] ids;
+        private final String[] names;
+        private final SpawnType[] spawnTypes;
+        private final int[] tierOverrides;
+        private final int[] parent1;
+        private final int[] parent2;
+
+        private Snapshot(int exported, int size) {
+            this.exported = exported;
+            this.ids = new int[size];
+            this.names = new String[size];
+            this.spawnTypes = new SpawnType[size];
+            this.tierOverrides = new int[size];
+            this.parent1 = new int[size];
+            this.parent2 = new int[size];
+        }
+
+        private static Snapshot of(Collection<ChickensRegistryItem> chickens) {
+            List<ChickensRegistryItem> order = new ArrayList<>(chickens);
+            Map<ChickensRegistryItem, Integer> index = new IdentityHashMap<>();
+            for (ChickensRegistryItem chicken : order) {
+                index.putIfAbsent(chicken, index.size());
+            }
+            int exported = order.size();
+            // Pull in parents that are not part of the exported set.
+            for (int i = 0; i < order.size(); i++) {
+                include(order, index, order.get(i).getParent1());
+                include(order, index, order.get(i).getParent2());
+            }
+            Snapshot snapshot = new Snapshot(exported, order.size());
+            for (int i = 0; i < order.size(); i++) {
+                ChickensRegistryItem chicken = order.get(i);
+                snapshot.ids[i] = chicken.getId();
+                snapshot.names[i] = chicken.getEntityName();
+                snapshot.spawnTypes[i] = chicken.getSpawnType();
+                snapshot.tierOverrides[i] = chicken.getTierOverride();
+                snapshot.parent1[i] = chicken.getParent1() != null ? index.get(chicken.getParent1()) : -1;
+                snapshot.parent2[i] = chicken.getParent2() != null ? index.get(chicken.getParent2()) : -1;
+            }
+            return snapshot;
+        }
+
+        private static void include(List<ChickensRegistryItem> order, Map<ChickensRegistryItem, Integer> index,
+                                    @Nullable ChickensRegistryItem parent) {
+            if (parent != null && !index.containsKey(parent)) {
+                index.put(parent, order.size());
+                order.add(parent);
+            }
+        }
+    }
+
+    /**
+     * Nether requirement, tier and depth for every snapshot entry, filled in
+     * one post-order walk so each chicken is resolved exactly once however
+     * many descendants share it. Tier follows {@link ChickensRegistryItem#getTier()};
+     * depth is the number of breeding steps from the nearest spawnable
+     * ancestors along the longest path.
+     */
+    private static final class Lineage {
+        private static final byte UNVISITED = 0;
+        private static final byte VISITING = 1;
+        private static final byte DONE = 2;
+
+        private final boolean[] nether;
+        private final int[] tier;
+        private final int[] depth;
+
+        private Lineage(int size) {
+            this.nether = new boolean[size];
+            this.tier = new int[size];
+            this.depth = new int[size];
+        }
+
+        private static Lineage analyse(Snapshot snapshot) {
+            int size = snapshot.ids.length;
+            Lineage lineage = new Lineage(size);
+            byte[] state = new byte[size];
+            Deque<Integer> stack = new ArrayDeque<>();
+            for (int root = 0; root < size; root++) {
+                if (state[root] != UNVISITED) {
+                    continue;
                 }
-                for (ChickensRegistryItem chicken : chickens) {
-                    ChickensRegistryItem parent1 = chicken.getParent1();
-                    ChickensRegistryItem parent2 = chicken.getParent2();
-                    if (parent1 != null) {
-                        writer.write("\tedge [\n");
-                        writer.write("\t\tsource " + parent1.getId() + "\n");
-                        writer.write("\t\ttarget " + chicken.getId() + "\n");
-                        writer.write("\t]\n");
+                stack.push(root);
+                while (!stack.isEmpty()) {
+                    int node = stack.peek();
+                    if (state[node] == UNVISITED) {
+                        state[node] = VISITING;
+                        pushParent(snapshot, state, stack, snapshot.parent1[node], node);
+                        pushParent(snapshot, state, stack, snapshot.parent2[node], node);
+                        continue;
                     }
-                    if (parent2 != null) {
-                        writer.write("\tedge [\n");
-                        writer.write("\t\tsource " + parent2.getId() + "\n");
-                        writer.write("\t\ttarget " + chicken.getId() + "\n");
-                        writer.write("\t]\n");
+                    stack.pop();
+                    if (state[node] == VISITING) {
+                        lineage.resolve(snapshot, state, node);
+                        state[node] = DONE;
                     }
                 }
-                writer.write("]\n");
             }
-            LOGGER.info("Wrote chicken breeding graph to {}", output);
-            return Optional.of(output);
-        } catch (IOException e) {
-            LOGGER.warn("Failed to write chicken breeding graph", e);
-            return Optional.empty();
+            return lineage;
         }
-    }
 
-    private static boolean requiresVisitingNether(ChickensRegistryItem chicken) {
-        if (chicken == null) {
-            return false;
+        private static void pushParent(Snapshot snapshot, byte[] state, Deque<Integer> stack, int parent, int child) {
+            if (parent < 0 || state[parent] == DONE) {
+                return;
+            }
+            if (state[parent] == VISITING) {
+                // Misconfigured parent loop; resolve() treats the back edge as a missing parent.
+                LOGGER.warn("Breeding loop between {} and {}", snapshot.names[parent], snapshot.names[child]);
+                return;
+            }
+            stack.push(parent);
         }
-        if (!chicken.isBreedable()) {
-            return chicken.getSpawnType() == SpawnType.HELL;
+
+        private void resolve(Snapshot snapshot, byte[] state, int node) {
+            int p1 = snapshot.parent1[node];
+            int p2 = snapshot.parent2[node];
+            boolean breedable = p1 >= 0 && p2 >= 0 && state[p1] == DONE && state[p2] == DONE;
+            if (breedable) {
+                nether[node] = nether[p1] || nether[p2];
+                tier[node] = Math.max(tier[p1], tier[p2]) + 1;
+                depth[node] = Math.max(depth[p1], depth[p2]) + 1;
+            } else {
+                nether[node] = snapshot.spawnTypes[node] == SpawnType.HELL;
+                tier[node] = 1;
+                depth[node] = 0;
+            }
+            if (snapshot.tierOverrides[node] > 0) {
+                tier[node] = snapshot.tierOverrides[node];
+            }
         }
-        return requiresVisitingNether(chicken.getParent1()) || requiresVisitingNether(chicken.getParent2());
     }
 }
-
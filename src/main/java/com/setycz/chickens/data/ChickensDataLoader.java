@@ -28,11 +28,13 @@ import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.Reader;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -87,21 +89,31 @@ public final class ChickensDataLoader {
         ChickensConfigValues values = readGeneralSettings(props);
         ChickensConfigHolder.set(values);
 
+        // Mekanism's chemical registry is read once, off-thread, and shared by the
+        // chemical and gas stages while the fluid scan runs on this thread.
+        DiscoveryPipeline pipeline = new DiscoveryPipeline(LOGGER, "Egg discovery");
+        boolean chemicalScan = (values.isChemicalChickensEnabled() || values.isGasChickensEnabled())
+                && MekanismChemicalHelper.isAvailable();
+        Supplier<Collection<MekanismChemicalHelper.ChemicalData>> chemicals = chemicalScan
+                ? pipeline.fork("chemical scan", MekanismChemicalHelper::getChemicals)
+                : List::of;
+
         if (values.isFluidChickensEnabled()) {
-            registerLiquidEggs();
+            registerLiquidEggs(pipeline);
         } else {
             LOGGER.info("Skipping fluid egg registration because general.enableFluidChickens is false");
         }
         if (values.isChemicalChickensEnabled()) {
-            registerChemicalEggs();
+            pipeline.stage("chemical register", () -> registerChemicalEggs(chemicals));
         } else {
             LOGGER.info("Skipping chemical egg registration because general.enableChemicalChickens is false");
         }
         if (values.isGasChickensEnabled()) {
-            registerGasEggs();
+            pipeline.stage("gas register", () -> registerGasEggs(chemicals));
         } else {
             LOGGER.info("Skipping gas egg registration because general.enableGasChickens is false");
         }
+        pipeline.finish();
         // Persist only the non-chicken-specific settings back to the legacy cfg.
         LegacyConfigBridge.export(props, List.of(), values);
 
@@ -109,7 +121,7 @@ public final class ChickensDataLoader {
         ChickensSpawnManager.refreshFromRegistry();
     }
 
-    private static void registerLiquidEggs() {
+    private static void registerLiquidEggs(DiscoveryPipeline pipeline) {
         Set<ResourceLocation> predefinedFluids = new HashSet<>();
         int highestId = -1;
 
@@ -137,20 +149,20 @@ public final class ChickensDataLoader {
             highestId = Math.max(highestId, definition.id());
         }
 
-        registerDynamicLiquidEggs(predefinedFluids, highestId);
+        List<FluidCandidate> candidates = pipeline.stage("fluid scan", ChickensDataLoader::scanFluids);
+        pipeline.stage("fluid register", () -> registerDynamicLiquidEggs(candidates, predefinedFluids, highestId));
     }
 
-    private static void registerChemicalEggs() {
+    private static void registerChemicalEggs(Supplier<Collection<MekanismChemicalHelper.ChemicalData>> chemicals) {
         if (!MekanismChemicalHelper.isAvailable()) {
             LOGGER.info("Skipping chemical egg registration because Mekanism API bridge is unavailable");
             ChemicalEggRegistry.clear();
             return;
         }
         ChemicalEggRegistry.clear();
-        Collection<MekanismChemicalHelper.ChemicalData> chemicals = MekanismChemicalHelper.getChemicals();
         Set<Integer> usedIds = new HashSet<>();
         int registered = 0;
-        for (MekanismChemicalHelper.ChemicalData chemical : chemicals) {
+        for (MekanismChemicalHelper.ChemicalData chemical : chemicals.get()) {
             if (chemical.gaseous()) {
                 continue;
             }
@@ -174,17 +186,16 @@ public final class ChickensDataLoader {
                 registered == 0 ? " (no Mekanism chemicals were discoverable)" : "");
     }
 
-    private static void registerGasEggs() {
+    private static void registerGasEggs(Supplier<Collection<MekanismChemicalHelper.ChemicalData>> chemicals) {
         if (!MekanismChemicalHelper.isAvailable()) {
             LOGGER.info("Skipping gas egg registration because Mekanism API bridge is unavailable");
             GasEggRegistry.clear();
             return;
         }
         GasEggRegistry.clear();
-        Collection<MekanismChemicalHelper.ChemicalData> chemicals = MekanismChemicalHelper.getChemicals();
         Set<Integer> usedIds = new HashSet<>();
         int registered = 0;
-        for (MekanismChemicalHelper.ChemicalData chemical : chemicals) {
+        for (MekanismChemicalHelper.ChemicalData chemical : chemicals.get()) {
             if (!chemical.gaseous()) {
                 continue;
             }
@@ -208,60 +219,77 @@ public final class ChickensDataLoader {
                 registered == 0 ? " (no Mekanism gases were discoverable)" : "");
     }
 
-    private static void registerDynamicLiquidEggs(Set<ResourceLocation> excludedFluids, int highestId) {
+    /**
+     * Probes every registered fluid for a bucket and derives its egg colour,
+     * block and hazards. Probes only read the frozen fluid registry, so they
+     * run in parallel; results keep registry order for the merge.
+     */
+    private static List<FluidCandidate> scanFluids() {
+        List<Fluid> fluids = new ArrayList<>();
+        for (Fluid fluid : BuiltInRegistries.FLUID) {
+            fluids.add(fluid);
+        }
+        return DiscoveryPipeline.map(fluids, ChickensDataLoader::probeFluid);
+    }
+
+    @Nullable
+    private static FluidCandidate probeFluid(Fluid fluid) {
+        if (fluid == Fluids.EMPTY) {
+            return null;
+        }
+        ResourceLocation fluidId = BuiltInRegistries.FLUID.getKey(fluid);
+        if (fluidId == null) {
+            return null;
+        }
+        Item bucket = fluid.getBucket();
+        if (bucket == null || bucket == Items.AIR) {
+            return null;
+        }
+        String path = fluidId.getPath();
+        if (path.startsWith("flowing_") || path.endsWith("_flowing")) {
+            // Flowing variants never get an egg but still claim their bucket
+            // during the merge, exactly as the sequential scan did.
+            return new FluidCandidate(fluid, fluidId, bucket, false, 0, null, null);
+        }
+        return new FluidCandidate(fluid, fluidId, bucket, true, deriveFluidColor(fluid, fluidId),
+                resolveFluidBlock(fluid), deriveFluidHazards(fluid));
+    }
+
+    private static void registerDynamicLiquidEggs(List<FluidCandidate> candidates,
+                                                  Set<ResourceLocation> excludedFluids,
+                                                  int highestId) {
         int nextId = Math.max(highestId + 1, 100);
         Set<Item> encounteredBuckets = new HashSet<>();
 
-        for (Fluid fluid : BuiltInRegistries.FLUID) {
-            if (fluid == Fluids.EMPTY) {
+        for (FluidCandidate candidate : candidates) {
+            if (candidate == null) {
                 continue;
             }
-            ResourceLocation fluidId = BuiltInRegistries.FLUID.getKey(fluid);
-            if (fluidId == null || excludedFluids.contains(fluidId)) {
+            ResourceLocation fluidId = candidate.fluidId();
+            if (excludedFluids.contains(fluidId)) {
                 continue;
             }
             if (LiquidEggRegistry.findByFluid(fluidId) != null) {
                 excludedFluids.add(fluidId);
                 continue;
             }
-            if (!shouldGenerateLiquidEgg(fluid, fluidId, encounteredBuckets)) {
+            if (!encounteredBuckets.add(candidate.bucket()) || !candidate.generate()) {
                 continue;
             }
 
-            int eggColor = deriveFluidColor(fluid, fluidId);
-            Supplier<BlockState> blockSupplier = resolveFluidBlock(fluid);
-            EnumSet<LiquidEggRegistryItem.HazardFlag> hazards = deriveFluidHazards(fluid);
-            Fluid targetFluid = fluid;
-
+            Fluid targetFluid = candidate.fluid();
             LiquidEggRegistry.register(new LiquidEggRegistryItem(
                     nextId,
-                    blockSupplier,
-                    eggColor,
+                    candidate.block(),
+                    candidate.eggColor(),
                     () -> targetFluid,
                     FluidType.BUCKET_VOLUME,
-                    hazards));
+                    candidate.hazards()));
             excludedFluids.add(fluidId);
             nextId++;
         }
     }
 
-    private static boolean shouldGenerateLiquidEgg(Fluid fluid,
-                                                   ResourceLocation fluidId,
-                                                   Set<Item> encounteredBuckets) {
-        Item bucket = fluid.getBucket();
-        if (bucket == null || bucket == Items.AIR) {
-            return false;
-        }
-        if (!encounteredBuckets.add(bucket)) {
-            return false;
-        }
-        String path = fluidId.getPath();
-        if (path.startsWith("flowing_") || path.endsWith("_flowing")) {
-            return false;
-        }
-        return true;
-    }
-
     private static Supplier<BlockState> resolveFluidBlock(Fluid fluid) {
         BlockState state = fluid.defaultFluidState().createLegacyBlock();
         if (state == null || state.isAir()) {
@@ -303,6 +331,15 @@ public final class ChickensDataLoader {
         return candidate;
     }
 
+    private record FluidCandidate(Fluid fluid,
+                                  ResourceLocation fluidId,
+                                  Item bucket,
+                                  boolean generate,
+                                  int eggColor,
+                                  @Nullable Supplier<BlockState> block,
+                                  @Nullable EnumSet<LiquidEggRegistryItem.HazardFlag> hazards) {
+    }
+
     private record LiquidEggDefinition(int id,
                                        ResourceLocation fluidId,
                                        Optional<ResourceLocation> blockId,
@@ -681,6 +718,20 @@ public final class ChickensDataLoader {
                 readInt(props, "general.incubatorMaxReceive", 4_000), 1);
         int incubatorEnergyCost = ensurePositive(props, "general.incubatorEnergyCost",
                 readInt(props, "general.incubatorEnergyCost", 10_000), 1);
+        int productionStatsExportMinutes = ensureNonNegative(props, "general.productionStatsExportMinutes",
+                readInt(props, "general.productionStatsExportMinutes", 5));
+        int incubatorBatchSize = ensurePositive(props, "general.incubatorBatchSize",
+                readInt(props, "general.incubatorBatchSize", 1), 1);
+        int dousingBatchSize = ensurePositive(props, "general.dousingBatchSize",
+                readInt(props, "general.dousingBatchSize", 1), 1);
+        int collectorExportInterval = ensureNonNegative(props, "general.collectorExportInterval",
+                readInt(props, "general.collectorExportInterval", 20));
+        int outputBufferCapacity = ensureAtMost(props, "general.outputBufferCapacity",
+                ensureNonNegative(props, "general.outputBufferCapacity",
+                        readInt(props, "general.outputBufferCapacity", 0)),
+                ChickensConfigValues.MAX_OUTPUT_BUFFER_CAPACITY);
+        int machineLitDebounceTicks = ensureNonNegative(props, "general.machineLitDebounceTicks",
+                readInt(props, "general.machineLitDebounceTicks", 20));
         return new ChickensConfigValues(spawnProbability, minBroodSize, maxBroodSize, multiplier,
                 overworldChance, netherChance, endChance, alwaysShowStats,
                 roostSpeed, breederSpeed, roosterAuraMultiplier, roosterAuraRange,
@@ -691,7 +742,8 @@ public final class ChickensDataLoader {
                 avianChemicalCapacity, avianChemicalTransfer, avianChemicalEffects,
                 liquidEggHazards,
                 fluidChickensEnabled, chemicalChickensEnabled, gasChickensEnabled, incubatorEnergyCost,
-                incubatorCapacity, incubatorMaxReceive);
+                incubatorCapacity, incubatorMaxReceive, productionStatsExportMinutes, incubatorBatchSize,
+                dousingBatchSize, collectorExportInterval, outputBufferCapacity, machineLitDebounceTicks);
     }
 
     private static String readString(Properties props, String key, String defaultValue) {
@@ -783,6 +835,14 @@ public final class ChickensDataLoader {
         return value;
     }
 
+    private static int ensureAtMost(Properties props, String key, int value, int maxValue) {
+        if (value > maxValue) {
+            props.setProperty(key, Integer.toString(maxValue));
+            return maxValue;
+        }
+        return value;
+    }
+
     private static Properties loadLegacyProperties() {
         Properties props = new Properties();
         Path legacyProps = FMLPaths.CONFIGDIR.get().resolve(LEGACY_PROPERTIES_FILE);
@@ -800,7 +860,8 @@ public final class ChickensDataLoader {
     public static void onTagsUpdated(TagsUpdatedEvent event) {
         if (event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD
                 || event.getUpdateCause() == TagsUpdatedEvent.UpdateCause.CLIENT_PACKET_RECEIVED) {
-            // Rebuild spawn plans on tag reloads while leaving chicken data to KubeJS.
+            // Rebuild spawn plans and biome classifications on tag reloads while leaving chicken data to KubeJS.
+            ChickensSpawnManager.rebuildBiomeDecisions(event.getRegistryAccess());
             ChickensSpawnManager.refreshFromRegistry();
         }
     }
@@ -311,10 +311,7 @@ public final class DefaultChickens {
         byName.put(netheriteChicken.getEntityName().toLowerCase(Locale.ROOT), netheriteChicken);
 
 
-        DynamicMaterialChickens.register(chickens, byName);
-        DynamicFluidChickens.register(chickens, byName);
-        DynamicChemicalChickens.register(chickens, byName);
-        DynamicGasChickens.register(chickens, byName);
+        DiscoveryPipeline.registerDynamicChickens(chickens, byName);
 
 
 
@@ -0,0 +1,255 @@
+package com.setycz.chickens.data;
+
+import com.setycz.chickens.ChemicalEggRegistry;
+import com.setycz.chickens.ChemicalEggRegistryItem;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.GasEggRegistry;
+import com.setycz.chickens.LiquidEggRegistry;
+import com.setycz.chickens.LiquidEggRegistryItem;
+import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.config.ChickensConfigValues;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.resources.ResourceLocation;
+import net.neoforged.fml.ModList;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforgespi.language.IModInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Binary cache of the dynamic chicken discovery output, stored as
+ * {@code config/chickens_discovery.bin}. Discovery is a pure function of the
+ * loaded mods, the material tags, the egg registries and the chickens that
+ * already exist, so the file is keyed by a fingerprint of exactly those
+ * inputs. A matching fingerprint lets startup rebuild the chickens from the
+ * cached records without scanning anything; a stale file still supplies the
+ * ids it allocated so chickens keep their ids when the mod set changes.
+ */
+final class DiscoveryCache {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensDynamic");
+    private static final String FILE_NAME = "chickens_discovery.bin";
+    private static final int MAGIC = 0x43484B44;
+    // Bump whenever the record layout or any family's naming, colour or id
+    // rules change so older files are ignored rather than replayed.
+    private static final int FORMAT_VERSION = 1;
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private DiscoveryCache() {
+    }
+
+    enum Family {
+        MATERIAL, FLUID, CHEMICAL, GAS
+    }
+
+    /**
+     * One generated chicken. {@code key} is the family's unique discovery key,
+     * {@code source} the item, fluid or chemical it lays, and
+     * {@code displayName} the resolved name for families that do not derive it
+     * from an egg registry entry.
+     */
+    record Entry(Family family, String key, ResourceLocation source, int id, String entityName,
+            int primaryColor, int accentColor, String displayName) {
+    }
+
+    record Contents(long fingerprint, List<Entry> entries) {
+    }
+
+    /**
+     * Hashes every input that discovery reads. Tags are folded in by content
+     * rather than by mod version so datapack tag edits also invalidate the file.
+     */
+    static long fingerprint(Map<String, ChickensRegistryItem> byName, Collection<Integer> usedIds) {
+        long hash = FNV_OFFSET;
+        hash = mix(hash, FORMAT_VERSION);
+
+        List<IModInfo> mods = new ArrayList<>(ModList.get().getMods());
+        mods.sort(Comparator.comparing(IModInfo::getModId));
+        for (IModInfo mod : mods) {
+            hash = mix(hash, mod.getModId());
+            hash = mix(hash, mod.getVersion().toString());
+        }
+
+        ChickensConfigValues config = ChickensConfigHolder.get();
+        hash = mix(hash, config.isChemicalChickensEnabled() ? 1 : 0);
+        hash = mix(hash, config.isGasChickensEnabled() ? 1 : 0);
+
+        TreeMap<String, List<String>> materialTags = new TreeMap<>();
+        BuiltInRegistries.ITEM.getTags()
+                .filter(pair -> DynamicMaterialChickens.isMaterialTag(pair.getFirst().location()))
+                .forEach(pair -> {
+                    List<String> members = new ArrayList<>();
+                    for (Holder<?> holder : pair.getSecond()) {
+                        holder.unwrapKey().ifPresent(key -> members.add(key.location().toString()));
+                    }
+                    materialTags.put(pair.getFirst().location().toString(), members);
+                });
+        for (Map.Entry<String, List<String>> tag : materialTags.entrySet()) {
+            hash = mix(hash, tag.getKey());
+            for (String member : tag.getValue()) {
+                hash = mix(hash, member);
+            }
+        }
+
+        for (LiquidEggRegistryItem egg : LiquidEggRegistry.getAll()) {
+            hash = mix(hash, egg.getId());
+            hash = mix(hash, String.valueOf(BuiltInRegistries.FLUID.getKey(egg.getFluid())));
+            hash = mix(hash, egg.getEggColor());
+        }
+        hash = mixChemicals(hash, ChemicalEggRegistry.getAll());
+        hash = mixChemicals(hash, GasEggRegistry.getAll());
+
+        for (Map.Entry<String, ChickensRegistryItem> chicken : new TreeMap<>(byName).entrySet()) {
+            hash = mix(hash, chicken.getKey());
+            hash = mix(hash, chicken.getValue().getId());
+        }
+        for (int id : usedIds.stream().sorted().toList()) {
+            hash = mix(hash, id);
+        }
+        return hash;
+    }
+
+    private static long mixChemicals(long hash, Collection<ChemicalEggRegistryItem> eggs) {
+        for (ChemicalEggRegistryItem egg : eggs) {
+            hash = mix(hash, egg.getId());
+            hash = mix(hash, egg.getChemicalId().toString());
+            hash = mix(hash, egg.getEggColor());
+            for (LiquidEggRegistryItem.HazardFlag hazard : egg.getHazards()) {
+                hash = mix(hash, hazard.ordinal());
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Reads the cache file, returning {@code null} when it is missing, was
+     * written by another format version or cannot be parsed.
+     */
+    @Nullable
+    static Contents read() {
+        Path path = path();
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+                return null;
+            }
+            long fingerprint = in.readLong();
+            int count = in.readInt();
+            if (count < 0) {
+                return null;
+            }
+            Family[] families = Family.values();
+            List<Entry> entries = new ArrayList<>(Math.min(count, 4096));
+            for (int i = 0; i < count; i++) {
+                int family = in.readUnsignedByte();
+                if (family >= families.length) {
+                    return null;
+                }
+                String key = in.readUTF();
+                ResourceLocation source = ResourceLocation.tryParse(in.readUTF());
+                int id = in.readInt();
+                String entityName = in.readUTF();
+                int primaryColor = in.readInt();
+                int accentColor = in.readInt();
+                String displayName = in.readUTF();
+                if (source == null) {
+                    return null;
+                }
+                entries.add(new Entry(families[family], key, source, id, entityName, primaryColor, accentColor,
+                        displayName));
+            }
+            return new Contents(fingerprint, entries);
+        } catch (IOException | RuntimeException ex) {
+            LOGGER.warn("Ignoring unreadable dynamic chicken cache {}", path, ex);
+            return null;
+        }
+    }
+
+    /**
+     * Replaces the cache file. The records are written to a sibling file first
+     * and moved into place so an interrupted launch never leaves a torn cache.
+     */
+    static void write(long fingerprint, List<Entry> entries) {
+        Path path = path();
+        Path temp = path.resolveSibling(FILE_NAME + ".tmp");
+        try {
+            Files.createDirectories(path.getParent());
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeLong(fingerprint);
+                out.writeInt(entries.size());
+                for (Entry entry : entries) {
+                    out.writeByte(entry.family().ordinal());
+                    out.writeUTF(entry.key());
+                    out.writeUTF(entry.source().toString());
+                    out.writeInt(entry.id());
+                    out.writeUTF(entry.entityName());
+                    out.writeInt(entry.primaryColor());
+                    out.writeInt(entry.accentColor());
+                    out.writeUTF(entry.displayName());
+                }
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException ex) {
+            LOGGER.warn("Failed to write dynamic chicken cache {}", path, ex);
+        }
+    }
+
+    /**
+     * Returns the cached ids by discovery key so a rerun can hand out the same
+     * ids wherever they are still free.
+     */
+    static Map<String, Integer> idsByKey(List<Entry> entries) {
+        Map<String, Integer> ids = new HashMap<>();
+        for (Entry entry : entries) {
+            ids.put(idKey(entry.family(), entry.key()), entry.id());
+        }
+        return ids;
+    }
+
+    static String idKey(Family family, String key) {
+        return family.name() + '|' + key;
+    }
+
+    private static Path path() {
+        return FMLPaths.CONFIGDIR.get().resolve(FILE_NAME);
+    }
+
+    private static long mix(long hash, String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        for (byte b : bytes) {
+            hash = (hash ^ (b & 0xFF)) * FNV_PRIME;
+        }
+        // Terminate each string so adjacent values cannot run together.
+        return (hash ^ 0xFF) * FNV_PRIME;
+    }
+
+    private static long mix(long hash, int value) {
+        for (int shift = 0; shift < 32; shift += 8) {
+            hash = (hash ^ ((value >>> shift) & 0xFF)) * FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,248 @@
+package com.setycz.chickens.data;
+
+import com.setycz.chickens.ChickensRegistryItem;
+import net.minecraft.resources.ResourceLocation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Staged startup discovery. Read-only scans of frozen registries fan out on
+ * the common fork-join pool and return their results in input order, while
+ * id allocation and registration stay on the calling thread and walk those
+ * results sequentially. Ids therefore come out exactly as they would from a
+ * single-threaded scan, however the workers happen to be scheduled. Each
+ * stage's wall time is collected and logged as one summary line.
+ */
+final class DiscoveryPipeline {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensDynamic");
+    // Below this many inputs the fork/join overhead outweighs the scan itself.
+    private static final int PARALLEL_THRESHOLD = 64;
+
+    private final Logger logger;
+    private final String label;
+    private final long start = System.nanoTime();
+    private final Map<String, Long> timings = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    DiscoveryPipeline(Logger logger, String label) {
+        this.logger = logger;
+        this.label = label;
+    }
+
+    /**
+     * Runs a stage on the calling thread and records how long it took.
+     */
+    <T> T stage(String name, Supplier<T> work) {
+        long stageStart = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            record(name, stageStart);
+        }
+    }
+
+    void stage(String name, Runnable work) {
+        stage(name, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    /**
+     * Starts a read-only stage on the common pool and returns a handle that
+     * blocks until its result is ready. The stage must not touch any registry
+     * that is still being written to.
+     */
+    <T> Supplier<T> fork(String name, Supplier<T> work) {
+        CompletableFuture<T> future = CompletableFuture.supplyAsync(() -> stage(name, work), ForkJoinPool.commonPool());
+        return future::join;
+    }
+
+    /**
+     * Logs the total and per-stage timings collected so far.
+     */
+    void finish() {
+        StringBuilder stages = new StringBuilder();
+        synchronized (timings) {
+            timings.forEach((name, nanos) -> {
+                if (!stages.isEmpty()) {
+                    stages.append(", ");
+                }
+                stages.append(name).append(' ').append(millis(nanos)).append(" ms");
+            });
+        }
+        logger.info("{} finished in {} ms [{}]", label, millis(System.nanoTime() - start), stages);
+    }
+
+    private void record(String name, long stageStart) {
+        timings.merge(name, System.nanoTime() - stageStart, Long::sum);
+    }
+
+    /**
+     * Applies {@code mapper} to every input, in parallel for larger inputs, and
+     * returns the results at the same indices. Null results are kept so callers
+     * can use them to mark skipped inputs.
+     */
+    static <T, R> List<R> map(List<T> inputs, Function<? super T, ? extends R> mapper) {
+        Object[] results = new Object[inputs.size()];
+        IntStream indices = IntStream.range(0, results.length);
+        (results.length >= PARALLEL_THRESHOLD ? indices.parallel() : indices)
+                .forEach(i -> results[i] = mapper.apply(inputs.get(i)));
+        @SuppressWarnings("unchecked")
+        List<R> mapped = (List<R>) Arrays.asList(results);
+        return mapped;
+    }
+
+    private static long millis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Generates every dynamic chicken family into a chicken list that is still
+     * being assembled. The material scan, the expensive one, runs on the pool
+     * while the used-id index is built once and shared by all four families.
+     * When the {@link DiscoveryCache} fingerprint matches, the scans are
+     * skipped and the cached chickens are replayed instead.
+     */
+    static void registerDynamicChickens(List<ChickensRegistryItem> chickens, Map<String, ChickensRegistryItem> byName) {
+        run(new Target(chickens, byName, collectUsedIds(chickens, byName)));
+    }
+
+    private static void run(Target target) {
+        DiscoveryPipeline pipeline = new DiscoveryPipeline(LOGGER, "Dynamic chicken discovery");
+        long fingerprint = pipeline.stage("fingerprint", () -> DiscoveryCache.fingerprint(target.byName, target.usedIds));
+        DiscoveryCache.Contents cached = pipeline.stage("cache read", DiscoveryCache::read);
+        if (cached != null && cached.fingerprint() == fingerprint
+                && pipeline.stage("cache replay", () -> replay(target, cached.entries()))) {
+            LOGGER.info("Restored {} dynamic chickens from the discovery cache", cached.entries().size());
+            pipeline.finish();
+            return;
+        }
+        if (cached != null) {
+            // Stale cache: rediscover, but keep handing out the ids chickens had last launch.
+            target.preferredIds.putAll(DiscoveryCache.idsByKey(cached.entries()));
+        }
+
+        Supplier<List<DynamicMaterialChickens.MaterialCandidate>> materials =
+                pipeline.fork("material scan", DynamicMaterialChickens::discoverMaterials);
+        // Families merge in a fixed order so later ones see the ids and names
+        // claimed by earlier ones, exactly as the sequential registration did.
+        pipeline.stage("material merge", () -> DynamicMaterialChickens.register(target, materials.get()));
+        pipeline.stage("fluid merge", () -> DynamicFluidChickens.register(target));
+        pipeline.stage("chemical merge", () -> DynamicChemicalChickens.register(target));
+        pipeline.stage("gas merge", () -> DynamicGasChickens.register(target));
+        pipeline.stage("cache write", () -> DiscoveryCache.write(fingerprint, target.discovered));
+        pipeline.finish();
+    }
+
+    /**
+     * Rebuilds every cached chicken, committing nothing unless all of them
+     * still resolve and none of their ids or names has been taken since.
+     */
+    private static boolean replay(Target target, List<DiscoveryCache.Entry> entries) {
+        List<ChickensRegistryItem> restored = new ArrayList<>(entries.size());
+        Set<Integer> ids = new HashSet<>();
+        for (DiscoveryCache.Entry entry : entries) {
+            if (target.usedIds.contains(entry.id()) || !ids.add(entry.id())
+                    || target.byName.containsKey(entry.entityName().toLowerCase(Locale.ROOT))) {
+                return false;
+            }
+            ChickensRegistryItem chicken = switch (entry.family()) {
+                case MATERIAL -> DynamicMaterialChickens.restore(entry, target.byName);
+                case FLUID -> DynamicFluidChickens.restore(entry);
+                case CHEMICAL -> DynamicChemicalChickens.restore(entry);
+                case GAS -> DynamicGasChickens.restore(entry, target.byName);
+            };
+            if (chicken == null) {
+                return false;
+            }
+            restored.add(chicken);
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            DiscoveryCache.Entry entry = entries.get(i);
+            target.usedIds.add(entry.id());
+            target.accept(entry.family(), entry.key(), entry.source(), entry.displayName(), restored.get(i));
+        }
+        return true;
+    }
+
+    private static Set<Integer> collectUsedIds(List<ChickensRegistryItem> chickens,
+            Map<String, ChickensRegistryItem> byName) {
+        Set<Integer> ids = new HashSet<>();
+        for (ChickensRegistryItem chicken : chickens) {
+            ids.add(chicken.getId());
+        }
+        for (ChickensRegistryItem chicken : byName.values()) {
+            ids.add(chicken.getId());
+        }
+        return ids;
+    }
+
+    /**
+     * Destination shared by the dynamic chicken families during one discovery
+     * run: the name index, the ids claimed so far and the chicken list being
+     * built.
+     */
+    static final class Target {
+        private final List<ChickensRegistryItem> collector;
+        private final Map<String, ChickensRegistryItem> byName;
+        private final Set<Integer> usedIds;
+        private final Map<String, Integer> preferredIds = new HashMap<>();
+        private final List<DiscoveryCache.Entry> discovered = new ArrayList<>();
+
+        private Target(List<ChickensRegistryItem> collector, Map<String, ChickensRegistryItem> byName,
+                Set<Integer> usedIds) {
+            this.collector = collector;
+            this.byName = byName;
+            this.usedIds = usedIds;
+        }
+
+        Map<String, ChickensRegistryItem> byName() {
+            return byName;
+        }
+
+        /**
+         * Claims the id this key held in the previous discovery cache when it
+         * is still free, otherwise the first free id at or after
+         * {@code base + floorMod(seed, span)}.
+         */
+        int allocateId(DiscoveryCache.Family family, String key, int seed, int base, int span) {
+            Integer preferred = preferredIds.get(DiscoveryCache.idKey(family, key));
+            if (preferred != null && usedIds.add(preferred)) {
+                return preferred;
+            }
+            int candidate = base + Math.floorMod(seed, span);
+            while (!usedIds.add(candidate)) {
+                candidate++;
+            }
+            return candidate;
+        }
+
+        /**
+         * Publishes a generated chicken and records it for the discovery cache.
+         */
+        void accept(DiscoveryCache.Family family, String key, ResourceLocation source, String displayName,
+                ChickensRegistryItem chicken) {
+            byName.put(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+            collector.add(chicken);
+            discovered.add(new DiscoveryCache.Entry(family, key, source, chicken.getId(), chicken.getEntityName(),
+                    chicken.getBgColor(), chicken.getFgColor(), displayName));
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.setycz.chickens.data;
 import com.setycz.chickens.ChemicalEggRegistry;
 import com.setycz.chickens.ChemicalEggRegistryItem;
 import com.setycz.chickens.ChickensMod;
-import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import com.setycz.chickens.config.ChickensConfigHolder;
@@ -15,9 +14,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -37,25 +34,11 @@ final class DynamicChemicalChickens {
     private DynamicChemicalChickens() {
     }
 
-    static void register(List<ChickensRegistryItem> chickens, Map<String, ChickensRegistryItem> byName) {
+    static void register(DiscoveryPipeline.Target target) {
         if (!ChickensConfigHolder.get().isChemicalChickensEnabled()) {
             return;
         }
-        attemptRegistration(chickens, byName, false);
-    }
-
-    static void refresh() {
-        if (!ChickensConfigHolder.get().isChemicalChickensEnabled()) {
-            return;
-        }
-        Map<String, ChickensRegistryItem> index = buildRegistryIndex();
-        attemptRegistration(null, index, true);
-    }
-
-    private static void attemptRegistration(@Nullable List<ChickensRegistryItem> collector,
-                                            Map<String, ChickensRegistryItem> byName,
-                                            boolean registerImmediately) {
-        Set<Integer> usedIds = collectUsedIds(collector, byName);
+        Map<String, ChickensRegistryItem> byName = target.byName();
         int created = 0;
         Set<String> registeredKeys = new HashSet<>();
         for (ChemicalEggRegistryItem entry : ChemicalEggRegistry.getAll()) {
@@ -76,27 +59,11 @@ final class DynamicChemicalChickens {
             }
 
             int primaryColor = entry.getEggColor();
-            int accentColor = accentColor(primaryColor);
-
-            ChickensRegistryItem chicken = new ChickensRegistryItem(
-                    allocateId(entry.getChemicalId(), usedIds),
-                    entityName,
-                    PLACEHOLDER_TEXTURE,
-                    layStack,
-                    primaryColor,
-                    accentColor);
-            chicken.setGeneratedTexture(true);
-            chicken.setSpawnType(SpawnType.NONE);
-            chicken.setDisplayName(buildDisplayName(entry));
-            chicken.setNoParents();
-
-            byName.put(nameKey, chicken);
-            if (collector != null) {
-                collector.add(chicken);
-            }
-            if (registerImmediately) {
-                ChickensRegistry.register(chicken);
-            }
+            int id = target.allocateId(DiscoveryCache.Family.CHEMICAL, uniqueKey,
+                    entry.getChemicalId().hashCode(), ID_BASE, ID_SPAN);
+            ChickensRegistryItem chicken = create(entry, id, entityName, layStack, primaryColor,
+                    accentColor(primaryColor));
+            target.accept(DiscoveryCache.Family.CHEMICAL, uniqueKey, entry.getChemicalId(), "", chicken);
             created++;
         }
 
@@ -105,36 +72,38 @@ final class DynamicChemicalChickens {
         }
     }
 
-    private static Map<String, ChickensRegistryItem> buildRegistryIndex() {
-        Map<String, ChickensRegistryItem> map = new HashMap<>();
-        for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-            map.put(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+    /**
+     * Rebuilds a chicken from its cache record, or returns {@code null} when
+     * the chemical egg it lays is no longer registered.
+     */
+    @Nullable
+    static ChickensRegistryItem restore(DiscoveryCache.Entry cached) {
+        ChemicalEggRegistryItem entry = ChemicalEggRegistry.findByChemical(cached.source());
+        if (entry == null) {
+            return null;
         }
-        for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-            map.putIfAbsent(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+        ItemStack layStack = ChemicalEggItem.createFor(entry);
+        if (layStack.isEmpty()) {
+            return null;
         }
-        return map;
+        return create(entry, cached.id(), cached.entityName(), layStack, cached.primaryColor(),
+                cached.accentColor());
     }
 
-    private static Set<Integer> collectUsedIds(@Nullable List<ChickensRegistryItem> collector,
-                                               Map<String, ChickensRegistryItem> byName) {
-        Set<Integer> ids = new HashSet<>();
-        if (collector != null) {
-            for (ChickensRegistryItem chicken : collector) {
-                ids.add(chicken.getId());
-            }
-        } else {
-            for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-                ids.add(chicken.getId());
-            }
-            for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-                ids.add(chicken.getId());
-            }
-        }
-        for (ChickensRegistryItem chicken : byName.values()) {
-            ids.add(chicken.getId());
-        }
-        return ids;
+    private static ChickensRegistryItem create(ChemicalEggRegistryItem entry, int id, String entityName,
+                                               ItemStack layStack, int primaryColor, int accentColor) {
+        ChickensRegistryItem chicken = new ChickensRegistryItem(
+                id,
+                entityName,
+                PLACEHOLDER_TEXTURE,
+                layStack,
+                primaryColor,
+                accentColor);
+        chicken.setGeneratedTexture(true);
+        chicken.setSpawnType(SpawnType.NONE);
+        chicken.setDisplayName(buildDisplayName(entry));
+        chicken.setNoParents();
+        return chicken;
     }
 
     private static boolean alreadyRepresents(Iterable<ChickensRegistryItem> chickens, ItemStack layStack) {
@@ -153,16 +122,6 @@ final class DynamicChemicalChickens {
         return entry.getDisplayName().copy().append(Component.literal(" Chemical Chicken"));
     }
 
-    private static int allocateId(ResourceLocation chemicalId, Set<Integer> usedIds) {
-        int seed = Math.floorMod(chemicalId.hashCode(), ID_SPAN);
-        int candidate = ID_BASE + seed;
-        while (usedIds.contains(candidate)) {
-            candidate++;
-        }
-        usedIds.add(candidate);
-        return candidate;
-    }
-
     private static String buildEntityName(ResourceLocation chemicalId,
                                           Map<String, ChickensRegistryItem> byName) {
         String baseName = buildBaseName(chemicalId);
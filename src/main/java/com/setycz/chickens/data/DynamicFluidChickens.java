@@ -1,7 +1,6 @@
 package com.setycz.chickens.data;
 
 import com.setycz.chickens.ChickensMod;
-import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.LiquidEggRegistry;
 import com.setycz.chickens.LiquidEggRegistryItem;
@@ -17,11 +16,9 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Locale;
 import java.util.Map;
-import java.util.List;
 import java.util.Set;
 
 /**
@@ -41,19 +38,8 @@ final class DynamicFluidChickens {
     private DynamicFluidChickens() {
     }
 
-    static void register(List<ChickensRegistryItem> chickens, Map<String, ChickensRegistryItem> byName) {
-        attemptRegistration(chickens, byName, false);
-    }
-
-    static void refresh() {
-        Map<String, ChickensRegistryItem> index = buildRegistryIndex();
-        attemptRegistration(null, index, true);
-    }
-
-    private static void attemptRegistration(@Nullable List<ChickensRegistryItem> collector,
-                                            Map<String, ChickensRegistryItem> byName,
-                                            boolean registerImmediately) {
-        Set<Integer> usedIds = collectUsedIds(collector, byName);
+    static void register(DiscoveryPipeline.Target target) {
+        Map<String, ChickensRegistryItem> byName = target.byName();
         int created = 0;
         Set<String> registeredKeys = new HashSet<>();
         for (LiquidEggRegistryItem entry : LiquidEggRegistry.getAll()) {
@@ -79,27 +65,10 @@ final class DynamicFluidChickens {
             }
 
             int primaryColor = sanitizeColor(entry.getEggColor());
-            int accentColor = accentColor(primaryColor);
-
-            ChickensRegistryItem chicken = new ChickensRegistryItem(
-                    allocateId(fluidId, usedIds),
-                    entityName,
-                    PLACEHOLDER_TEXTURE,
-                    layStack,
-                    primaryColor,
-                    accentColor);
-            chicken.setGeneratedTexture(true);
-            chicken.setSpawnType(SpawnType.NONE);
-            chicken.setDisplayName(buildDisplayName(entry));
-            chicken.setNoParents();
-
-            byName.put(nameKey, chicken);
-            if (collector != null) {
-                collector.add(chicken);
-            }
-            if (registerImmediately) {
-                ChickensRegistry.register(chicken);
-            }
+            int id = target.allocateId(DiscoveryCache.Family.FLUID, uniqueKey, uniqueKey.hashCode(), ID_BASE, ID_SPAN);
+            ChickensRegistryItem chicken = create(entry, id, entityName, layStack, primaryColor,
+                    accentColor(primaryColor));
+            target.accept(DiscoveryCache.Family.FLUID, uniqueKey, fluidId, "", chicken);
             created++;
         }
 
@@ -108,36 +77,38 @@ final class DynamicFluidChickens {
         }
     }
 
-    private static Map<String, ChickensRegistryItem> buildRegistryIndex() {
-        Map<String, ChickensRegistryItem> map = new HashMap<>();
-        for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-            map.put(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+    /**
+     * Rebuilds a chicken from its cache record, or returns {@code null} when
+     * the liquid egg it lays is no longer registered.
+     */
+    @Nullable
+    static ChickensRegistryItem restore(DiscoveryCache.Entry cached) {
+        LiquidEggRegistryItem entry = LiquidEggRegistry.findByFluid(cached.source());
+        if (entry == null) {
+            return null;
         }
-        for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-            map.putIfAbsent(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+        ItemStack layStack = LiquidEggItem.createFor(entry);
+        if (layStack.isEmpty()) {
+            return null;
         }
-        return map;
+        return create(entry, cached.id(), cached.entityName(), layStack, cached.primaryColor(),
+                cached.accentColor());
     }
 
-    private static Set<Integer> collectUsedIds(@Nullable List<ChickensRegistryItem> collector,
-                                               Map<String, ChickensRegistryItem> byName) {
-        Set<Integer> ids = new HashSet<>();
-        if (collector != null) {
-            for (ChickensRegistryItem chicken : collector) {
-                ids.add(chicken.getId());
-            }
-        } else {
-            for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-                ids.add(chicken.getId());
-            }
-            for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-                ids.add(chicken.getId());
-            }
-        }
-        for (ChickensRegistryItem chicken : byName.values()) {
-            ids.add(chicken.getId());
-        }
-        return ids;
+    private static ChickensRegistryItem create(LiquidEggRegistryItem entry, int id, String entityName,
+                                               ItemStack layStack, int primaryColor, int accentColor) {
+        ChickensRegistryItem chicken = new ChickensRegistryItem(
+                id,
+                entityName,
+                PLACEHOLDER_TEXTURE,
+                layStack,
+                primaryColor,
+                accentColor);
+        chicken.setGeneratedTexture(true);
+        chicken.setSpawnType(SpawnType.NONE);
+        chicken.setDisplayName(buildDisplayName(entry));
+        chicken.setNoParents();
+        return chicken;
     }
 
     private static boolean alreadyRepresents(Collection<ChickensRegistryItem> chickens, ItemStack layStack) {
@@ -157,16 +128,6 @@ final class DynamicFluidChickens {
         return fluidName.copy().append(Component.literal(" Chicken"));
     }
 
-    private static int allocateId(ResourceLocation fluidId, Set<Integer> usedIds) {
-        int seed = Math.floorMod(fluidId.toString().hashCode(), ID_SPAN);
-        int candidate = ID_BASE + seed;
-        while (usedIds.contains(candidate)) {
-            candidate++;
-        }
-        usedIds.add(candidate);
-        return candidate;
-    }
-
     private static String buildEntityName(ResourceLocation fluidId) {
         String combined = fluidId.getNamespace() + "_" + fluidId.getPath();
         String[] parts = combined.split("[^a-z0-9]+");
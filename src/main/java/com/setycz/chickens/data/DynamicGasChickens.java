@@ -2,7 +2,6 @@ package com.setycz.chickens.data;
 
 import com.setycz.chickens.ChemicalEggRegistryItem;
 import com.setycz.chickens.ChickensMod;
-import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.GasEggRegistry;
 import com.setycz.chickens.LiquidEggRegistryItem;
@@ -16,9 +15,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
@@ -36,29 +33,11 @@ final class DynamicGasChickens {
     private DynamicGasChickens() {
     }
 
-    static void register(List<ChickensRegistryItem> chickens, Map<String, ChickensRegistryItem> byName) {
+    static void register(DiscoveryPipeline.Target target) {
         if (!ChickensConfigHolder.get().isGasChickensEnabled()) {
             return;
         }
-        attemptRegistration(chickens, byName, false);
-    }
-
-    static void refresh() {
-        if (!ChickensConfigHolder.get().isGasChickensEnabled()) {
-            return;
-        }
-        Map<String, ChickensRegistryItem> index = buildRegistryIndex();
-        attemptRegistration(null, index, true);
-    }
-
-    private static void attemptRegistration(@Nullable List<ChickensRegistryItem> collector,
-                                            Map<String, ChickensRegistryItem> byName,
-                                            boolean registerImmediately) {
-        Set<Integer> usedIds = collectUsedIds(collector, byName);
-        ChickensRegistryItem smartChicken = byName.get("smartchicken");
-        ChickensRegistryItem waterChicken = byName.get("waterchicken");
-        ChickensRegistryItem lavaChicken = byName.get("lavachicken");
-
+        Map<String, ChickensRegistryItem> byName = target.byName();
         int created = 0;
         Set<String> registeredKeys = new HashSet<>();
         for (ChemicalEggRegistryItem entry : GasEggRegistry.getAll()) {
@@ -79,32 +58,11 @@ final class DynamicGasChickens {
             }
 
             int primaryColor = entry.getEggColor();
-            int accentColor = accentColor(primaryColor);
-
-            ChickensRegistryItem chicken = new ChickensRegistryItem(
-                    allocateId(entry.getChemicalId(), usedIds),
-                    entityName,
-                    PLACEHOLDER_TEXTURE,
-                    layStack,
-                    primaryColor,
-                    accentColor);
-            chicken.setGeneratedTexture(true);
-            chicken.setSpawnType(SpawnType.NONE);
-            chicken.setDisplayName(buildDisplayName(entry));
-
-            ChickensRegistryItem parentA = choosePrimaryParent(entry, waterChicken, lavaChicken);
-            ChickensRegistryItem parentB = smartChicken != null ? smartChicken : parentA;
-            if (parentA != null && parentB != null) {
-                chicken.setParentsNew(parentA, parentB);
-            }
-
-            byName.put(nameKey, chicken);
-            if (collector != null) {
-                collector.add(chicken);
-            }
-            if (registerImmediately) {
-                ChickensRegistry.register(chicken);
-            }
+            int id = target.allocateId(DiscoveryCache.Family.GAS, uniqueKey,
+                    entry.getChemicalId().hashCode(), ID_BASE, ID_SPAN);
+            ChickensRegistryItem chicken = create(entry, id, entityName, layStack, primaryColor,
+                    accentColor(primaryColor), byName);
+            target.accept(DiscoveryCache.Family.GAS, uniqueKey, entry.getChemicalId(), "", chicken);
             created++;
         }
 
@@ -113,36 +71,45 @@ final class DynamicGasChickens {
         }
     }
 
-    private static Map<String, ChickensRegistryItem> buildRegistryIndex() {
-        Map<String, ChickensRegistryItem> map = new HashMap<>();
-        for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-            map.put(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+    /**
+     * Rebuilds a chicken from its cache record, or returns {@code null} when
+     * the gas egg it lays is no longer registered.
+     */
+    @Nullable
+    static ChickensRegistryItem restore(DiscoveryCache.Entry cached, Map<String, ChickensRegistryItem> byName) {
+        ChemicalEggRegistryItem entry = GasEggRegistry.findByChemical(cached.source());
+        if (entry == null) {
+            return null;
         }
-        for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-            map.putIfAbsent(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
+        ItemStack layStack = GasEggItem.createFor(entry);
+        if (layStack.isEmpty()) {
+            return null;
         }
-        return map;
+        return create(entry, cached.id(), cached.entityName(), layStack, cached.primaryColor(),
+                cached.accentColor(), byName);
     }
 
-    private static Set<Integer> collectUsedIds(@Nullable List<ChickensRegistryItem> collector,
+    private static ChickensRegistryItem create(ChemicalEggRegistryItem entry, int id, String entityName,
+                                               ItemStack layStack, int primaryColor, int accentColor,
                                                Map<String, ChickensRegistryItem> byName) {
-        Set<Integer> ids = new HashSet<>();
-        if (collector != null) {
-            for (ChickensRegistryItem chicken : collector) {
-                ids.add(chicken.getId());
-            }
-        } else {
-            for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-                ids.add(chicken.getId());
-            }
-            for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-                ids.add(chicken.getId());
-            }
-        }
-        for (ChickensRegistryItem chicken : byName.values()) {
-            ids.add(chicken.getId());
+        ChickensRegistryItem chicken = new ChickensRegistryItem(
+                id,
+                entityName,
+                PLACEHOLDER_TEXTURE,
+                layStack,
+                primaryColor,
+                accentColor);
+        chicken.setGeneratedTexture(true);
+        chicken.setSpawnType(SpawnType.NONE);
+        chicken.setDisplayName(buildDisplayName(entry));
+
+        ChickensRegistryItem smartChicken = byName.get("smartchicken");
+        ChickensRegistryItem parentA = choosePrimaryParent(entry, byName.get("waterchicken"), byName.get("lavachicken"));
+        ChickensRegistryItem parentB = smartChicken != null ? smartChicken : parentA;
+        if (parentA != null && parentB != null) {
+            chicken.setParentsNew(parentA, parentB);
         }
-        return ids;
+        return chicken;
     }
 
     private static boolean alreadyRepresents(Iterable<ChickensRegistryItem> chickens, ItemStack layStack) {
@@ -171,16 +138,6 @@ final class DynamicGasChickens {
         return waterChicken != null ? waterChicken : lavaChicken;
     }
 
-    private static int allocateId(ResourceLocation chemicalId, Set<Integer> usedIds) {
-        int seed = Math.floorMod(chemicalId.hashCode(), ID_SPAN);
-        int candidate = ID_BASE + seed;
-        while (usedIds.contains(candidate)) {
-            candidate++;
-        }
-        usedIds.add(candidate);
-        return candidate;
-    }
-
     private static String buildEntityName(ResourceLocation chemicalId,
                                           Map<String, ChickensRegistryItem> byName) {
         String baseName = buildBaseName(chemicalId);
@@ -1,7 +1,6 @@
 package com.setycz.chickens.data;
 
 import com.setycz.chickens.ChickensMod;
-import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -16,9 +15,6 @@ import org.slf4j.LoggerFactory;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Collection;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -40,75 +36,56 @@ final class DynamicMaterialChickens {
             ChickensMod.MOD_ID, "textures/entity/unknownchicken.png");
     private static final int ID_BASE = 2000;
     private static final int ID_SPAN = 1_000_000;
-    private static final Set<String> REGISTERED_KEYS = new HashSet<>();
 
     private DynamicMaterialChickens() {
     }
 
-    static void register(List<ChickensRegistryItem> chickens, Map<String, ChickensRegistryItem> byName) {
-        attemptRegistration(chickens, byName, false);
-    }
-
-    static void refresh() {
-        Map<String, ChickensRegistryItem> index = buildRegistryIndex();
-        attemptRegistration(null, index, true);
-    }
-
-    private static void attemptRegistration(@Nullable List<ChickensRegistryItem> collector,
-            Map<String, ChickensRegistryItem> byName, boolean registerImmediately) {
-        REGISTERED_KEYS.clear();
-        Set<Integer> usedIds = collectUsedIds(collector, byName);
+    /**
+     * Merges the discovered candidates into the target on the calling thread.
+     * Candidates arrive in registry order, so ids and names are claimed in the
+     * same order on every run.
+     */
+    static void register(DiscoveryPipeline.Target target, List<MaterialCandidate> candidates) {
+        Map<String, ChickensRegistryItem> byName = target.byName();
         ChickensRegistryItem smartChicken = byName.get("smartchicken");
-        registerExistingKeys(byName.values());
+        Set<String> registeredKeys = new HashSet<>();
+        Set<Item> representedItems = new HashSet<>();
+        for (ChickensRegistryItem chicken : byName.values()) {
+            registerStackKeys(chicken.createLayItem(), registeredKeys, representedItems);
+            registerStackKeys(chicken.createDropItem(), registeredKeys, representedItems);
+        }
 
-        List<MaterialCandidate> candidates = discoverMaterials();
         int created = 0;
         for (MaterialCandidate candidate : candidates) {
             MaterialKey key = candidate.key();
-            if (REGISTERED_KEYS.contains(key.uniqueKey())) {
+            if (registeredKeys.contains(key.uniqueKey())) {
                 continue;
             }
             ItemStack stack = new ItemStack(candidate.item());
             if (stack.isEmpty() || stack.getItem() == Items.AIR) {
                 continue;
             }
-            if (alreadyRepresents(byName.values(), stack)) {
-                REGISTERED_KEYS.add(key.uniqueKey());
+            if (representedItems.contains(stack.getItem())) {
+                registeredKeys.add(key.uniqueKey());
                 continue;
             }
 
             String entityName = key.entityName();
             String nameKey = entityName.toLowerCase(Locale.ROOT);
             if (byName.containsKey(nameKey)) {
-                REGISTERED_KEYS.add(key.uniqueKey());
+                registeredKeys.add(key.uniqueKey());
                 continue;
             }
 
-            int id = allocateId(key, usedIds);
-            int primary = primaryColor(key);
-            int accent = accentColor(key);
-
-            ChickensRegistryItem chicken = new ChickensRegistryItem(
-                    id,
-                    entityName,
-                    PLACEHOLDER_TEXTURE,
-                    stack,
-                    primary,
-                    accent);
-            chicken.setSpawnType(SpawnType.NONE);
-            if (smartChicken != null) {
-                chicken.setParentsNew(smartChicken, smartChicken);
-            }
-            chicken.setDisplayName(buildDisplayName(stack, key)).setGeneratedTexture(true);
-
-            byName.put(nameKey, chicken);
-            if (collector != null) {
-                collector.add(chicken);
-            }
-            if (registerImmediately) {
-                ChickensRegistry.register(chicken);
-            }
-            REGISTERED_KEYS.add(key.uniqueKey());
+            int id = target.allocateId(DiscoveryCache.Family.MATERIAL, key.uniqueKey(),
+                    key.uniqueKey().hashCode(), ID_BASE, ID_SPAN);
+            String displayName = buildDisplayName(stack, key);
+            ChickensRegistryItem chicken = create(id, entityName, stack, primaryColor(key), accentColor(key),
+                    displayName, smartChicken);
+            target.accept(DiscoveryCache.Family.MATERIAL, key.uniqueKey(),
+                    BuiltInRegistries.ITEM.getKey(stack.getItem()), displayName, chicken);
+            representedItems.add(stack.getItem());
+            registeredKeys.add(key.uniqueKey());
             created++;
         }
 
@@ -117,48 +94,89 @@ final class DynamicMaterialChickens {
         }
     }
 
-    private static Set<Integer> collectUsedIds(@Nullable List<ChickensRegistryItem> collector,
-            Map<String, ChickensRegistryItem> byName) {
-        Set<Integer> ids = new HashSet<>();
-        if (collector != null) {
-            for (ChickensRegistryItem chicken : collector) {
-                ids.add(chicken.getId());
-            }
-        } else {
-            for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-                ids.add(chicken.getId());
-            }
-            for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-                ids.add(chicken.getId());
+    /**
+     * Rebuilds a chicken from its cache record, or returns {@code null} when
+     * the item it lays is no longer registered.
+     */
+    @Nullable
+    static ChickensRegistryItem restore(DiscoveryCache.Entry entry, Map<String, ChickensRegistryItem> byName) {
+        Item item = BuiltInRegistries.ITEM.getOptional(entry.source()).orElse(Items.AIR);
+        if (item == Items.AIR) {
+            return null;
+        }
+        return create(entry.id(), entry.entityName(), new ItemStack(item), entry.primaryColor(),
+                entry.accentColor(), entry.displayName(), byName.get("smartchicken"));
+    }
+
+    private static ChickensRegistryItem create(int id, String entityName, ItemStack stack, int primary, int accent,
+            String displayName, @Nullable ChickensRegistryItem smartChicken) {
+        ChickensRegistryItem chicken = new ChickensRegistryItem(
+                id,
+                entityName,
+                PLACEHOLDER_TEXTURE,
+                stack,
+                primary,
+                accent);
+        chicken.setSpawnType(SpawnType.NONE);
+        if (smartChicken != null) {
+            chicken.setParentsNew(smartChicken, smartChicken);
+        }
+        chicken.setDisplayName(Component.literal(displayName)).setGeneratedTexture(true);
+        return chicken;
+    }
+
+    /**
+     * Whether a tag feeds material discovery, so the discovery cache can
+     * fingerprint exactly the tags that matter.
+     */
+    static boolean isMaterialTag(ResourceLocation tagId) {
+        for (MaterialCategory category : MaterialCategory.values()) {
+            if (category.extractFromTag(tagId).isPresent()) {
+                return true;
             }
         }
+        return false;
+    }
 
-        for (ChickensRegistryItem chicken : byName.values()) {
-            ids.add(chicken.getId());
+    /**
+     * Walks every item's tags and name for material keys. Items are probed in
+     * parallel; the merge below keeps the first item seen for each key in
+     * registry order, matching what a sequential walk would pick.
+     */
+    static List<MaterialCandidate> discoverMaterials() {
+        List<Item> items = new ArrayList<>();
+        for (Item item : BuiltInRegistries.ITEM) {
+            items.add(item);
         }
-        return ids;
-    }
+        List<List<MaterialKey>> keysByItem = DiscoveryPipeline.map(items, DynamicMaterialChickens::scanItem);
 
-    private static List<MaterialCandidate> discoverMaterials() {
         Map<String, MaterialCandidate> unique = new LinkedHashMap<>();
-        for (Item item : BuiltInRegistries.ITEM) {
-            ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
-            if (itemId == null || item == Items.AIR || item == Items.NETHERITE_INGOT) {
-                continue;
-            }
-            // Prevent auto-generating a generic neutronium ingot chicken; we gate neutronium
-            // through the curated neutron_pile definition instead.
-            if (itemId.getNamespace().equals("avaritia") && itemId.getPath().equals("neutronium_ingot")) {
-                continue;
+        for (int i = 0; i < items.size(); i++) {
+            for (MaterialKey key : keysByItem.get(i)) {
+                unique.putIfAbsent(key.uniqueKey(), new MaterialCandidate(key, items.get(i)));
             }
+        }
+        return new ArrayList<>(unique.values());
+    }
+
+    private static List<MaterialKey> scanItem(Item item) {
+        ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
+        if (itemId == null || item == Items.AIR || item == Items.NETHERITE_INGOT) {
+            return List.of();
+        }
+        // Prevent auto-generating a generic neutronium ingot chicken; we gate neutronium
+        // through the curated neutron_pile definition instead.
+        if (itemId.getNamespace().equals("avaritia") && itemId.getPath().equals("neutronium_ingot")) {
+            return List.of();
+        }
 
-            for (MaterialKey key : collectKeys(item, itemId)) {
-                if (key.isValid()) {
-                    unique.putIfAbsent(key.uniqueKey(), new MaterialCandidate(key, item));
-                }
+        List<MaterialKey> keys = new ArrayList<>();
+        for (MaterialKey key : collectKeys(item, itemId)) {
+            if (key.isValid()) {
+                keys.add(key);
             }
         }
-        return new ArrayList<>(unique.values());
+        return keys;
     }
 
     private static List<MaterialKey> collectKeys(Item item, ResourceLocation itemId) {
@@ -178,29 +196,6 @@ final class DynamicMaterialChickens {
         return keys;
     }
 
-    private static boolean alreadyRepresents(Collection<ChickensRegistryItem> chickens, ItemStack stack) {
-        Item target = stack.getItem();
-        for (ChickensRegistryItem chicken : chickens) {
-            if (chicken.createLayItem().getItem() == target) {
-                return true;
-            }
-            if (chicken.createDropItem().getItem() == target) {
-                return true;
-            }
-        }
-        return false;
-    }
-
-    private static int allocateId(MaterialKey key, Set<Integer> usedIds) {
-        int seed = Math.floorMod(key.uniqueKey().hashCode(), ID_SPAN);
-        int candidate = ID_BASE + seed;
-        while (usedIds.contains(candidate)) {
-            candidate++;
-        }
-        usedIds.add(candidate);
-        return candidate;
-    }
-
     private static int primaryColor(MaterialKey key) {
         long seed = Integer.toUnsignedLong(key.uniqueKey().hashCode());
         float hue = ((seed & 0xFFL) / 255.0f);
@@ -284,44 +279,27 @@ final class DynamicMaterialChickens {
         return (ri << 16) | (gi << 8) | bi;
     }
 
-    private static Map<String, ChickensRegistryItem> buildRegistryIndex() {
-        Map<String, ChickensRegistryItem> map = new HashMap<>();
-        for (ChickensRegistryItem chicken : ChickensRegistry.getItems()) {
-            map.put(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
-        }
-        for (ChickensRegistryItem chicken : ChickensRegistry.getDisabledItems()) {
-            map.putIfAbsent(chicken.getEntityName().toLowerCase(Locale.ROOT), chicken);
-        }
-        return map;
-    }
-
-    private record MaterialCandidate(MaterialKey key, Item item) {
-    }
-
-    private static void registerExistingKeys(Collection<ChickensRegistryItem> chickens) {
-        for (ChickensRegistryItem chicken : chickens) {
-            registerStackKeys(chicken.createLayItem());
-            registerStackKeys(chicken.createDropItem());
-        }
+    record MaterialCandidate(MaterialKey key, Item item) {
     }
 
-    private static void registerStackKeys(ItemStack stack) {
+    private static void registerStackKeys(ItemStack stack, Set<String> registeredKeys, Set<Item> representedItems) {
         if (stack.isEmpty()) {
             return;
         }
         Item item = stack.getItem();
+        representedItems.add(item);
         ResourceLocation itemId = BuiltInRegistries.ITEM.getKey(item);
         if (itemId == null) {
             return;
         }
         for (MaterialKey key : collectKeys(item, itemId)) {
             if (key.isValid()) {
-                REGISTERED_KEYS.add(key.uniqueKey());
+                registeredKeys.add(key.uniqueKey());
             }
         }
     }
 
-    private static Component buildDisplayName(ItemStack stack, MaterialKey key) {
+    private static String buildDisplayName(ItemStack stack, MaterialKey key) {
         String resolved = stack.getHoverName().getString().trim();
         String descriptionId = stack.getDescriptionId();
 
@@ -334,7 +312,7 @@ final class DynamicMaterialChickens {
                 baseName = friendlyMaterialName(key);
             }
         }
-        return Component.literal(baseName + " Chicken");
+        return baseName + " Chicken";
     }
 
     private static String stripSuffix(String input, String suffix) {
@@ -118,7 +118,10 @@ public final class LegacyConfigBridge {
             writer.write(String.format(Locale.ROOT, "    I:nestSeedDurationTicks=%d%n", general.getNestSeedDurationTicks()));
             writer.write(String.format(Locale.ROOT, "    B:disableEggLaying=%s%n", general.isVanillaEggLayingDisabled()));
             writer.write(String.format(Locale.ROOT, "    I:collectorScanRange=%d%n", general.getCollectorScanRange()));
+            writer.write(String.format(Locale.ROOT, "    I:collectorExportInterval=%d%n", general.getCollectorExportInterval()));
+            writer.write(String.format(Locale.ROOT, "    I:outputBufferCapacity=%d%n", general.getOutputBufferCapacity()));
             writer.write(String.format(Locale.ROOT, "    B:avianFluxEffectsEnabled=%s%n", general.isAvianFluxEffectsEnabled()));
+            writer.write(String.format(Locale.ROOT, "    I:machineLitDebounceTicks=%d%n", general.getMachineLitDebounceTicks()));
             writer.write(String.format(Locale.ROOT, "    D:fluxEggCapacityMultiplier=%.3f%n", general.getFluxEggCapacityMultiplier()));
             writer.write(String.format(Locale.ROOT, "    I:avianFluxCapacity=%d%n", general.getAvianFluxCapacity()));
             writer.write(String.format(Locale.ROOT, "    I:avianFluxMaxReceive=%d%n", general.getAvianFluxMaxReceive()));
@@ -134,9 +137,12 @@ public final class LegacyConfigBridge {
             writer.write(String.format(Locale.ROOT, "    I:incubatorEnergyCost=%d%n", general.getIncubatorEnergyCost()));
             writer.write(String.format(Locale.ROOT, "    I:incubatorCapacity=%d%n", general.getIncubatorEnergyCapacity()));
             writer.write(String.format(Locale.ROOT, "    I:incubatorMaxReceive=%d%n", general.getIncubatorEnergyMaxReceive()));
+            writer.write(String.format(Locale.ROOT, "    I:incubatorBatchSize=%d%n", general.getIncubatorBatchSize()));
+            writer.write(String.format(Locale.ROOT, "    I:dousingBatchSize=%d%n", general.getDousingBatchSize()));
             writer.write(String.format(Locale.ROOT, "    B:enableFluidChickens=%s%n", general.isFluidChickensEnabled()));
             writer.write(String.format(Locale.ROOT, "    B:enableChemicalChickens=%s%n", general.isChemicalChickensEnabled()));
             writer.write(String.format(Locale.ROOT, "    B:enableGasChickens=%s%n", general.isGasChickensEnabled()));
+            writer.write(String.format(Locale.ROOT, "    I:productionStatsExportMinutes=%d%n", general.getProductionStatsExportMinutes()));
             writer.write("}\n\n");
 
             for (ChickensRegistryItem chicken : ordered) {
@@ -179,7 +185,10 @@ public final class LegacyConfigBridge {
             case "nestSeedDurationTicks" -> props.setProperty("general.nestSeedDurationTicks", value);
             case "disableEggLaying" -> props.setProperty("general.disableVanillaEggLaying", value);
             case "collectorScanRange" -> props.setProperty("general.collectorScanRange", value);
+            case "collectorExportInterval" -> props.setProperty("general.collectorExportInterval", value);
+            case "outputBufferCapacity" -> props.setProperty("general.outputBufferCapacity", value);
             case "avianFluxEffectsEnabled" -> props.setProperty("general.avianFluxEffectsEnabled", value);
+            case "machineLitDebounceTicks" -> props.setProperty("general.machineLitDebounceTicks", value);
             case "fluxEggCapacityMultiplier" -> props.setProperty("general.fluxEggCapacityMultiplier", value);
             case "avianFluxCapacity" -> props.setProperty("general.avianFluxCapacity", value);
             case "avianFluxMaxReceive" -> props.setProperty("general.avianFluxMaxReceive", value);
@@ -194,9 +203,12 @@ public final class LegacyConfigBridge {
             case "incubatorEnergyCost" -> props.setProperty("general.incubatorEnergyCost", value);
             case "incubatorCapacity" -> props.setProperty("general.incubatorCapacity", value);
             case "incubatorMaxReceive" -> props.setProperty("general.incubatorMaxReceive", value);
+            case "incubatorBatchSize" -> props.setProperty("general.incubatorBatchSize", value);
+            case "dousingBatchSize" -> props.setProperty("general.dousingBatchSize", value);
             case "enableFluidChickens" -> props.setProperty("general.enableFluidChickens", value);
             case "enableChemicalChickens" -> props.setProperty("general.enableChemicalChickens", value);
             case "enableGasChickens" -> props.setProperty("general.enableGasChickens", value);
+            case "productionStatsExportMinutes" -> props.setProperty("general.productionStatsExportMinutes", value);
             default -> {
             }
         }
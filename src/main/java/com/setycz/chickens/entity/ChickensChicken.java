@@ -6,6 +6,9 @@ import com.setycz.chickens.SpawnType;
 import com.setycz.chickens.blockentity.HenhouseBlockEntity;
 import com.setycz.chickens.item.ChickenStats;
 import com.setycz.chickens.item.FluxEggItem;
+import com.setycz.chickens.profile.ProductionStats;
+import com.setycz.chickens.profile.TickSource;
+import com.setycz.chickens.profile.TickTimings;
 import com.setycz.chickens.registry.ModEntityTypes;
 import com.setycz.chickens.spawn.ChickensSpawnManager;
 import com.setycz.chickens.spawn.ChickensSpawnDebug;
@@ -67,6 +70,11 @@ public class ChickensChicken extends Chicken {
     private static final String TAG_STRENGTH = "Strength";
 
     private int layTime;
+    // Last resolved descriptor; see getChickenDescription().
+    @Nullable
+    private ChickensRegistryItem cachedDescription;
+    private int cachedType;
+    private int cachedVersion = -1;
 
     public ChickensChicken(EntityType<? extends Chicken> type, Level level) {
         super(type, level);
@@ -155,9 +163,21 @@ public class ChickensChicken extends Chicken {
         this.setLayTime(adjusted * 2);
     }
 
+    /**
+     * Resolves this chicken's descriptor, reusing the last result until the
+     * type or the registry version changes. Called from per-tick paths such as
+     * {@link #fireImmune()}, so the common case is two int compares.
+     */
     @Nullable
-    private ChickensRegistryItem getChickenDescription() {
-        return ChickensRegistry.getByType(this.getChickenType());
+    public ChickensRegistryItem getChickenDescription() {
+        int type = this.getChickenType();
+        int version = ChickensRegistry.version();
+        if (type != this.cachedType || version != this.cachedVersion) {
+            this.cachedDescription = ChickensRegistry.getByType(type);
+            this.cachedType = type;
+            this.cachedVersion = version;
+        }
+        return this.cachedDescription;
     }
 
     public int getTier() {
@@ -178,6 +198,17 @@ public class ChickensChicken extends Chicken {
         return description.getDisplayName();
     }
 
+    @Override
+    public void tick() {
+        if (this.level().isClientSide) {
+            super.tick();
+            return;
+        }
+        long start = TickTimings.start();
+        super.tick();
+        TickTimings.stop(TickSource.CHICKEN, this.level(), this.blockPosition(), start);
+    }
+
     @Override
     public void aiStep() {
         // Keep the vanilla egg timer out of range so only the custom resource
@@ -204,7 +235,9 @@ public class ChickensChicken extends Chicken {
         this.flap += this.flapping * 2.0F;
 
         if (!this.level().isClientSide && this.isAlive() && !this.isBaby() && !this.isChickenJockey()) {
+            long start = TickTimings.start();
             this.tickResourceLaying();
+            TickTimings.stop(TickSource.LAYING, this.level(), this.blockPosition(), start);
         }
     }
 
@@ -219,30 +252,30 @@ public class ChickensChicken extends Chicken {
 
         ChickensRegistryItem description = this.getChickenDescription();
         if (description != null) {
-            ItemStack toLay = description.createLayItem();
             // Deliver eggs to nearby henhouses before falling back to
             // item drops so long-running automation setups continue to work.
-            this.spawnEggStack(toLay, description);
+            this.spawnEggStack(description);
         }
         this.resetTimeUntilNextEgg();
     }
 
-    private void spawnEggStack(ItemStack stack, ChickensRegistryItem description) {
-        if (stack.isEmpty()) {
+    private void spawnEggStack(ChickensRegistryItem description) {
+        // depositOrDrop copies the shared template, so each egg costs one stack.
+        ItemStack template = description.getLayTemplate();
+        if (template.isEmpty()) {
             return;
         }
-        depositOrDrop(stack);
         int gain = this.getGain();
-        if (gain >= 5) {
-            depositOrDrop(description.createLayItem());
-        }
-        if (gain >= 10) {
-            depositOrDrop(description.createLayItem());
+        int eggs = gain >= 10 ? 3 : gain >= 5 ? 2 : 1;
+        for (int i = 0; i < eggs; i++) {
+            depositOrDrop(template);
         }
+        ProductionStats.record(ProductionStats.Channel.FREE_RANGE_LAY, description.getId(), eggs * template.getCount());
         this.playSound(SoundEvents.CHICKEN_EGG, 1.0F, (this.random.nextFloat() - this.random.nextFloat()) * 0.2F + 1.0F);
         this.gameEvent(GameEvent.ENTITY_PLACE, this);
     }
 
+    // Never modifies the argument, which may be a shared registry template.
     private void depositOrDrop(ItemStack stack) {
         if (stack.isEmpty()) {
             return;
@@ -320,7 +353,7 @@ public class ChickensChicken extends Chicken {
         child.setStrength(calculateNewStat(strength1, strength2, strength1, strength2, random));
     }
 
-    private static int calculateNewStat(int strength1, int strength2, int stat1, int stat2, RandomSource random) {
+    static int calculateNewStat(int strength1, int strength2, int stat1, int stat2, RandomSource random) {
         int mutation = random.nextInt(2) + 1;
         int weighted = (stat1 * strength1 + stat2 * strength2) / Math.max(strength1 + strength2, 1);
         int value = weighted + mutation;
@@ -438,7 +471,7 @@ public class ChickensChicken extends Chicken {
             this.setAge(-24000);
         }
         if (!level.isClientSide() && (spawnType == MobSpawnType.NATURAL || spawnType == MobSpawnType.CHUNK_GENERATION)) {
-            ChickensRegistryItem descriptor = ChickensRegistry.getByType(this.getChickenType());
+            ChickensRegistryItem descriptor = this.getChickenDescription();
             if (descriptor != null) {
                 ChickensSpawnDebug.broadcastSpawn(level, this.blockPosition(), descriptor);
             }
@@ -466,20 +499,16 @@ public class ChickensChicken extends Chicken {
     }
 
     public static boolean checkSpawnRules(net.minecraft.world.entity.EntityType<ChickensChicken> type, LevelAccessor level, MobSpawnType reason, BlockPos pos, RandomSource random) {
-        Holder<Biome> biome = level.getBiome(pos);
-        SpawnType spawnType = ChickensRegistry.getSpawnType(biome);
-        boolean netherEnabled = ChickensSpawnManager.hasPlan(SpawnType.HELL);
-        boolean overworldEnabled = ChickensSpawnManager.hasPlan(SpawnType.NORMAL) || ChickensSpawnManager.hasPlan(SpawnType.SNOW) || ChickensSpawnManager.hasPlan(SpawnType.END);
-        if (spawnType == SpawnType.HELL && netherEnabled) {
-            return canSpawnOnSolid(type, level, pos);
-        }
-        if (spawnType == SpawnType.END && ChickensSpawnManager.hasPlan(SpawnType.END)) {
-            return canSpawnOnSolid(type, level, pos);
-        }
-        if (spawnType != SpawnType.HELL && spawnType != SpawnType.END && overworldEnabled) {
-            return net.minecraft.world.entity.animal.Animal.checkAnimalSpawnRules(type, level, reason, pos, random);
-        }
-        return false;
+        // Biome classification and plan availability are both precomputed by the spawn manager, so the
+        // per-attempt cost is a cached key lookup plus the actual placement check.
+        SpawnType spawnType = ChickensSpawnManager.spawnTypeFor(level.getBiome(pos));
+        boolean accepted = switch (ChickensSpawnManager.ruleFor(spawnType)) {
+            case SOLID_GROUND -> canSpawnOnSolid(type, level, pos);
+            case ANIMAL -> net.minecraft.world.entity.animal.Animal.checkAnimalSpawnRules(type, level, reason, pos, random);
+            case REJECT -> false;
+        };
+        ChickensSpawnManager.recordSpawnCheck(spawnType, accepted);
+        return accepted;
     }
 
     private static boolean canSpawnOnSolid(net.minecraft.world.entity.EntityType<ChickensChicken> type, LevelAccessor level, BlockPos pos) {
@@ -1,6 +1,5 @@
 package com.setycz.chickens.entity;
 
-import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import com.setycz.chickens.config.ChickensConfigHolder;
@@ -94,7 +93,7 @@ public final class OverworldPopulationHandler {
         if (origin == null) {
             return;
         }
-        SpawnType spawnType = ChickensRegistry.getSpawnType(level.getBiome(origin));
+        SpawnType spawnType = ChickensSpawnManager.spawnTypeFor(level.getBiome(origin));
         if (isEnd) {
             spawnType = SpawnType.END;
         }
@@ -2,7 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.network.chat.Component;
 import snownee.jade.api.BlockAccessor;
@@ -21,13 +23,21 @@ enum AvianDousingMachineDataProvider implements IServerDataProvider<BlockAccesso
         if (!(accessor.getBlockEntity() instanceof AvianDousingMachineBlockEntity machine)) {
             return;
         }
+        long fingerprint = HudStateTracker.mix(
+                HudStateTracker.mix(machine.getEnergyStored(), machine.getLiquidAmount()), machine.getProgress());
+        HudStateTracker.Snapshot<Tag> snapshot = machine.getHudState()
+                .snapshot(INSTANCE, fingerprint, () -> HudData.encode(build(machine)));
+        HudData.write(data, snapshot);
+    }
+
+    private static HudData build(AvianDousingMachineBlockEntity machine) {
         HudData.Builder builder = HudData.builder();
         builder.addFluid(machine.getFluid().copy(), machine.getLiquidCapacity());
         builder.addEnergy(machine.getEnergyStored(), machine.getEnergyCapacity());
         int maxProgress = Math.max(machine.getMaxProgress(), 1);
         int percent = Math.max(machine.getProgress(), 0) * 100 / maxProgress;
         builder.addText(Component.translatable("tooltip.chickens.avian_dousing_machine.progress", percent));
-        HudData.write(data, builder.build());
+        return builder.build();
     }
 
     @Override
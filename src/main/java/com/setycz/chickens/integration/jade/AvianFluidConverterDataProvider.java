@@ -2,7 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import snownee.jade.api.BlockAccessor;
 import snownee.jade.api.IServerDataProvider;
@@ -20,9 +22,16 @@ enum AvianFluidConverterDataProvider implements IServerDataProvider<BlockAccesso
         if (!(accessor.getBlockEntity() instanceof AvianFluidConverterBlockEntity converter)) {
             return;
         }
+        long fingerprint = converter.getFluidAmount();
+        HudStateTracker.Snapshot<Tag> snapshot = converter.getHudState()
+                .snapshot(INSTANCE, fingerprint, () -> HudData.encode(build(converter)));
+        HudData.write(data, snapshot);
+    }
+
+    private static HudData build(AvianFluidConverterBlockEntity converter) {
         HudData.Builder builder = HudData.builder();
         builder.addFluid(converter.getFluid().copy(), converter.getTankCapacity());
-        HudData.write(data, builder.build());
+        return builder.build();
     }
 
     @Override
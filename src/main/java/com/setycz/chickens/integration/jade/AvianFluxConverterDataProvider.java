@@ -2,7 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AvianFluxConverterBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.resources.ResourceLocation;
 import snownee.jade.api.BlockAccessor;
 import snownee.jade.api.IServerDataProvider;
@@ -20,9 +22,16 @@ enum AvianFluxConverterDataProvider implements IServerDataProvider<BlockAccessor
         if (!(accessor.getBlockEntity() instanceof AvianFluxConverterBlockEntity converter)) {
             return;
         }
+        long fingerprint = converter.getEnergyStored();
+        HudStateTracker.Snapshot<Tag> snapshot = converter.getHudState()
+                .snapshot(INSTANCE, fingerprint, () -> HudData.encode(build(converter)));
+        HudData.write(data, snapshot);
+    }
+
+    private static HudData build(AvianFluxConverterBlockEntity converter) {
         HudData.Builder builder = HudData.builder();
         builder.addEnergy(converter.getEnergyStored(), converter.getEnergyCapacity());
-        HudData.write(data, builder.build());
+        return builder.build();
     }
 
     @Override
@@ -2,7 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.Mth;
@@ -29,6 +31,13 @@ enum ChickenContainerDataProvider implements IServerDataProvider<BlockAccessor>
         if (!(accessor.getBlockEntity() instanceof AbstractChickenContainerBlockEntity container)) {
             return;
         }
+        long fingerprint = container.getHudFingerprint();
+        HudStateTracker.Snapshot<Tag> snapshot = container.getHudState()
+                .snapshot(INSTANCE, fingerprint, () -> HudData.encode(build(container)));
+        HudData.write(data, snapshot);
+    }
+
+    private static HudData build(AbstractChickenContainerBlockEntity container) {
         CompoundTag tag = new CompoundTag();
         container.storeTooltipData(tag);
         tag.putInt(ETA_KEY, container.getRemainingLayTimeTicks());
@@ -49,7 +58,7 @@ enum ChickenContainerDataProvider implements IServerDataProvider<BlockAccessor>
             builder.addText(Component.translatable("tooltip.chickens.wthit.eta",
                     describeEta(normaliseRemainingTicks(etaTicks, step))));
         }
-        HudData.write(data, builder.build());
+        return builder.build();
     }
 
     @Override
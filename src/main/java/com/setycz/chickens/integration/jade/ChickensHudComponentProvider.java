@@ -34,7 +34,7 @@ final class ChickensHudComponentProvider implements IBlockComponentProvider {
 
     @Override
     public void appendTooltip(ITooltip tooltip, BlockAccessor accessor, IPluginConfig config) {
-        HudData hud = HudData.read(accessor.getServerData());
+        HudData hud = HudData.readCached(accessor.getServerData());
         if (hud.isEmpty()) {
             return;
         }
@@ -2,7 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.HenhouseBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.world.item.ItemStack;
@@ -24,6 +26,13 @@ enum HenhouseDataProvider implements IServerDataProvider<BlockAccessor> {
         if (!(accessor.getBlockEntity() instanceof HenhouseBlockEntity henhouse)) {
             return;
         }
+        long fingerprint = henhouse.getEnergy();
+        HudStateTracker.Snapshot<Tag> snapshot = henhouse.getHudState()
+                .snapshot(INSTANCE, fingerprint, () -> HudData.encode(build(henhouse)));
+        HudData.write(data, snapshot);
+    }
+
+    private static HudData build(HenhouseBlockEntity henhouse) {
         HudData.Builder builder = HudData.builder();
         builder.addEnergy(henhouse.getEnergy(), HenhouseBlockEntity.HAY_BALE_ENERGY * HenhouseBlockEntity.SLOT_COUNT);
         ItemStack hayStack = henhouse.getItem(HenhouseBlockEntity.HAY_SLOT);
@@ -31,7 +40,7 @@ enum HenhouseDataProvider implements IServerDataProvider<BlockAccessor> {
         if (hayCount > 0) {
             builder.addText(Component.translatable("tooltip.chickens.henhouse.hay", hayCount));
         }
-        HudData.write(data, builder.build());
+        return builder.build();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.setycz.chickens.integration.jade;
 
 import com.google.common.collect.ImmutableList;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
@@ -11,6 +12,7 @@ import net.minecraft.network.chat.ComponentSerialization;
 import net.minecraft.resources.ResourceLocation;
 import net.neoforged.neoforge.fluids.FluidStack;
 
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
@@ -23,6 +25,11 @@ import java.util.Objects;
  */
 final class HudData {
     static final String NBT_KEY = "ChickensHud";
+    static final String SERIAL_KEY = "ChickensHudSerial";
+
+    // Client-side memo of the last decoded payload, keyed by snapshot serial.
+    private static long decodedSerial;
+    private static HudData decoded;
 
     private final List<Entry> entries;
 
@@ -115,12 +122,42 @@ final class HudData {
         return entries.isEmpty() ? empty() : new HudData(ImmutableList.copyOf(entries));
     }
 
-    static void write(CompoundTag root, HudData data) {
-        if (data == null || data.isEmpty()) {
+    /**
+     * Like {@link #read(CompoundTag)}, but reuses the previous result when the
+     * server answered with the same cached snapshot, so an unchanged block does
+     * not re-parse its text components on every Jade refresh.
+     */
+    static HudData readCached(CompoundTag data) {
+        if (!data.contains(SERIAL_KEY, Tag.TAG_LONG)) {
+            return read(data);
+        }
+        long serial = data.getLong(SERIAL_KEY);
+        if (decoded != null && serial == decodedSerial) {
+            return decoded;
+        }
+        HudData result = read(data);
+        decodedSerial = serial;
+        decoded = result;
+        return result;
+    }
+
+    /**
+     * Writes a cached payload built by {@link #encode(HudData)}. The tag is
+     * shared between requests and must not be modified by callers.
+     */
+    static void write(CompoundTag root, HudStateTracker.Snapshot<Tag> snapshot) {
+        if (snapshot.payload() == null) {
             root.remove(NBT_KEY);
+            root.remove(SERIAL_KEY);
             return;
         }
-        root.put(NBT_KEY, data.toTag());
+        root.put(NBT_KEY, snapshot.payload());
+        root.putLong(SERIAL_KEY, snapshot.serial());
+    }
+
+    @Nullable
+    static Tag encode(HudData data) {
+        return data.isEmpty() ? null : data.toTag();
     }
 
     static HudData empty() {
@@ -2,7 +2,9 @@ package com.setycz.chickens.integration.jade;
 
 import com.setycz.chickens.ChickensMod;
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
 import net.minecraft.network.chat.Component;
 import net.minecraft.resources.ResourceLocation;
 import snownee.jade.api.BlockAccessor;
@@ -21,13 +23,20 @@ enum IncubatorDataProvider implements IServerDataProvider<BlockAccessor> {
         if (!(accessor.getBlockEntity() instanceof IncubatorBlockEntity incubator)) {
             return;
         }
+        long fingerprint = HudStateTracker.mix(incubator.getEnergyStored(), incubator.getProgress());
+        HudStateTracker.Snapshot<Tag> snapshot = incubator.getHudState()
+                .snapshot(INSTANCE, fingerprint, () -> HudData.encode(build(incubator)));
+        HudData.write(data, snapshot);
+    }
+
+    private static HudData build(IncubatorBlockEntity incubator) {
         HudData.Builder builder = HudData.builder();
         builder.addEnergy(incubator.getEnergyStored(), incubator.getEnergyCapacity());
         int maxProgress = Math.max(incubator.getMaxProgress(), 1);
         int percent = Math.max(0, incubator.getProgress()) * 100 / maxProgress;
         builder.addText(Component.translatable("tooltip.chickens.incubator.progress", percent));
         builder.addText(Component.translatable("tooltip.chickens.incubator.cost", incubator.getEnergyCost()));
-        HudData.write(data, builder.build());
+        return builder.build();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package com.setycz.chickens.integration.wthit;
 
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import com.setycz.chickens.integration.wthit.overlay.HudOverlayHelper;
 import mcp.mobius.waila.api.IDataProvider;
 import mcp.mobius.waila.api.IDataWriter;
@@ -21,12 +22,19 @@ final class AvianDousingMachineProvider implements IDataProvider<AvianDousingMac
         if (machine == null) {
             return;
         }
+        long fingerprint = HudStateTracker.mix(
+                HudStateTracker.mix(machine.getEnergyStored(), machine.getLiquidAmount()), machine.getProgress());
+        HudOverlayHelper helper = machine.getHudState().snapshot(this, fingerprint, () -> build(machine)).payload();
+        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+    }
+
+    private static HudOverlayHelper build(AvianDousingMachineBlockEntity machine) {
         HudOverlayHelper helper = new HudOverlayHelper();
         helper.addFluid(machine.getFluid().copy(), machine.getLiquidCapacity());
         helper.addEnergy(machine.getEnergyStored(), machine.getEnergyCapacity());
         int maxProgress = Math.max(machine.getMaxProgress(), 1);
         int percent = Math.max(machine.getProgress(), 0) * 100 / maxProgress;
         helper.addText(Component.translatable("tooltip.chickens.avian_dousing_machine.progress", percent));
-        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+        return helper;
     }
 }
@@ -19,8 +19,14 @@ final class AvianFluidConverterProvider implements IDataProvider<AvianFluidConve
         if (blockEntity == null) {
             return;
         }
+        long fingerprint = blockEntity.getFluidAmount();
+        HudOverlayHelper helper = blockEntity.getHudState().snapshot(this, fingerprint, () -> build(blockEntity)).payload();
+        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+    }
+
+    private static HudOverlayHelper build(AvianFluidConverterBlockEntity blockEntity) {
         HudOverlayHelper helper = new HudOverlayHelper();
         helper.addFluid(blockEntity.getFluid().copy(), blockEntity.getTankCapacity());
-        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+        return helper;
     }
 }
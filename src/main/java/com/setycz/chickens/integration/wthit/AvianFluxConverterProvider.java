@@ -19,8 +19,14 @@ final class AvianFluxConverterProvider implements IDataProvider<AvianFluxConvert
         if (blockEntity == null) {
             return;
         }
+        long fingerprint = blockEntity.getEnergyStored();
+        HudOverlayHelper helper = blockEntity.getHudState().snapshot(this, fingerprint, () -> build(blockEntity)).payload();
+        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+    }
+
+    private static HudOverlayHelper build(AvianFluxConverterBlockEntity blockEntity) {
         HudOverlayHelper helper = new HudOverlayHelper();
         helper.addEnergy(blockEntity.getEnergyStored(), blockEntity.getEnergyCapacity());
-        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+        return helper;
     }
 }
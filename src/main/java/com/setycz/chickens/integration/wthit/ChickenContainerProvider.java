@@ -31,6 +31,12 @@ final class ChickenContainerProvider<T extends AbstractChickenContainerBlockEnti
         if (container == null) {
             return;
         }
+        long fingerprint = container.getHudFingerprint();
+        HudOverlayHelper helper = container.getHudState().snapshot(this, fingerprint, () -> build(container)).payload();
+        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+    }
+
+    private static HudOverlayHelper build(AbstractChickenContainerBlockEntity container) {
         CompoundTag tag = new CompoundTag();
         container.storeTooltipData(tag);
         tag.putInt(ETA_KEY, container.getRemainingLayTimeTicks());
@@ -51,7 +57,7 @@ final class ChickenContainerProvider<T extends AbstractChickenContainerBlockEnti
             helper.addText(Component.translatable("tooltip.chickens.wthit.eta",
                     describeEta(normaliseRemainingTicks(etaTicks, step))));
         }
-        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+        return helper;
     }
 
     private static int normaliseRemainingTicks(int remaining, int step) {
@@ -23,6 +23,12 @@ final class HenhouseProvider implements IDataProvider<HenhouseBlockEntity> {
         if (blockEntity == null) {
             return;
         }
+        long fingerprint = blockEntity.getEnergy();
+        HudOverlayHelper helper = blockEntity.getHudState().snapshot(this, fingerprint, () -> build(blockEntity)).payload();
+        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+    }
+
+    private static HudOverlayHelper build(HenhouseBlockEntity blockEntity) {
         HudOverlayHelper helper = new HudOverlayHelper();
         helper.addEnergy(blockEntity.getEnergy(), HenhouseBlockEntity.HAY_BALE_ENERGY * HenhouseBlockEntity.SLOT_COUNT);
         ItemStack hayStack = blockEntity.getItem(HenhouseBlockEntity.HAY_SLOT);
@@ -30,7 +36,7 @@ final class HenhouseProvider implements IDataProvider<HenhouseBlockEntity> {
         if (hayCount > 0) {
             helper.addText(Component.translatable("tooltip.chickens.henhouse.hay", hayCount));
         }
-        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+        return helper;
     }
 
     private static boolean isHayFuel(ItemStack stack) {
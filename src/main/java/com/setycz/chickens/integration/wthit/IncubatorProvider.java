@@ -1,6 +1,7 @@
 package com.setycz.chickens.integration.wthit;
 
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
+import com.setycz.chickens.blockentity.HudStateTracker;
 import com.setycz.chickens.integration.wthit.overlay.HudOverlayHelper;
 import mcp.mobius.waila.api.IDataProvider;
 import mcp.mobius.waila.api.IDataWriter;
@@ -19,12 +20,18 @@ final class IncubatorProvider implements IDataProvider<IncubatorBlockEntity> {
         if (incubator == null) {
             return;
         }
+        long fingerprint = HudStateTracker.mix(incubator.getEnergyStored(), incubator.getProgress());
+        HudOverlayHelper helper = incubator.getHudState().snapshot(this, fingerprint, () -> build(incubator)).payload();
+        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+    }
+
+    private static HudOverlayHelper build(IncubatorBlockEntity incubator) {
         HudOverlayHelper helper = new HudOverlayHelper();
         helper.addEnergy(incubator.getEnergyStored(), incubator.getEnergyCapacity());
         int maxProgress = Math.max(incubator.getMaxProgress(), 1);
         int percent = Math.max(0, incubator.getProgress()) * 100 / maxProgress;
         helper.addText(Component.translatable("tooltip.chickens.incubator.progress", percent));
         helper.addText(Component.translatable("tooltip.chickens.incubator.cost", incubator.getEnergyCost()));
-        writer.add(HudOverlayHelper.TYPE, result -> result.add(helper));
+        return helper;
     }
 }
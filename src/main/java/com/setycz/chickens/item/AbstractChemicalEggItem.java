@@ -23,6 +23,11 @@ abstract class AbstractChemicalEggItem extends Item {
         this.tooltipTranslationKey = tooltipKey;
     }
 
+    @Override
+    public void verifyComponentsAfterLoad(ItemStack stack) {
+        ChickenItemHelper.migrateLegacyData(stack);
+    }
+
     @Override
     public Component getName(ItemStack stack) {
         ChemicalEggRegistryItem entry = resolve(stack);
@@ -2,6 +2,7 @@ package com.setycz.chickens.item;
 
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.blockentity.BreederBlockEntity;
+import com.setycz.chickens.blockentity.CoopControllerBlockEntity;
 import com.setycz.chickens.blockentity.RoostBlockEntity;
 import com.setycz.chickens.entity.ChickensChicken;
 import com.setycz.chickens.entity.Rooster;
@@ -41,6 +42,11 @@ public class ChickenItem extends Item {
         return stack;
     }
 
+    @Override
+    public void verifyComponentsAfterLoad(ItemStack stack) {
+        ChickenItemHelper.migrateLegacyData(stack);
+    }
+
     @Override
     public Component getName(ItemStack stack) {
         if (ChickenItemHelper.isRooster(stack)) {
@@ -78,6 +84,12 @@ public class ChickenItem extends Item {
             }
             return InteractionResult.SUCCESS;
         }
+        if (blockEntity instanceof CoopControllerBlockEntity coop) {
+            if (!level.isClientSide && coop.putChicken(stack)) {
+                return InteractionResult.CONSUME;
+            }
+            return InteractionResult.SUCCESS;
+        }
         if (blockEntity instanceof BreederBlockEntity breeder) {
             if (!level.isClientSide && breeder.insertChicken(stack)) {
                 return InteractionResult.CONSUME;
@@ -3,6 +3,7 @@ package com.setycz.chickens.item;
 import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.entity.ChickensChicken;
+import com.setycz.chickens.registry.ModDataComponents;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.item.ItemStack;
@@ -28,23 +29,59 @@ public final class ChickenItemHelper {
     }
 
     public static void setChickenType(ItemStack stack, int type) {
-        CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> tag.putInt(TAG_CHICKEN_TYPE, type));
+        if (carriesEggPayload(stack)) {
+            stack.set(ModDataComponents.EGG_PAYLOAD.get(), new EggPayload(type));
+        } else {
+            CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> tag.putInt(TAG_CHICKEN_TYPE, type));
+        }
         stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(type));
     }
 
+    @SuppressWarnings("deprecation")
     public static int getChickenType(ItemStack stack) {
+        // Only egg items carry the payload, so other stacks skip the component lookup.
+        EggPayload payload = carriesEggPayload(stack) ? stack.get(ModDataComponents.EGG_PAYLOAD.get()) : null;
+        if (payload != null) {
+            return payload.id();
+        }
+        // Read-only fallback; migrateLegacyData moves the key when the stack loads.
         CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        if (data.contains(TAG_CHICKEN_TYPE)) {
-            int type = data.copyTag().getInt(TAG_CHICKEN_TYPE);
-            CustomModelData modelData = stack.get(DataComponents.CUSTOM_MODEL_DATA);
-            if (modelData == null || modelData.value() != type) {
-                // Ensure the item displays with the correct baked model, even if an older stack
-                // or command-generated item forgot to sync the model data component.
-                stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(type));
-            }
-            return type;
+        return data.contains(TAG_CHICKEN_TYPE) ? data.getUnsafe().getInt(TAG_CHICKEN_TYPE) : 0;
+    }
+
+    /**
+     * Brings a stack saved by an older version up to the current layout. The
+     * chicken and egg items call this from
+     * {@link net.minecraft.world.item.Item#verifyComponentsAfterLoad}, so the
+     * getters never have to write to the stack they are reading.
+     */
+    @SuppressWarnings("deprecation")
+    public static void migrateLegacyData(ItemStack stack) {
+        CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
+        if (!data.contains(TAG_CHICKEN_TYPE)) {
+            return;
+        }
+        int type = data.getUnsafe().getInt(TAG_CHICKEN_TYPE);
+        if (carriesEggPayload(stack)) {
+            // Liquid, chemical, and gas eggs saved before the payload component
+            // existed are moved onto it.
+            CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> tag.remove(TAG_CHICKEN_TYPE));
+            stack.set(ModDataComponents.EGG_PAYLOAD.get(), new EggPayload(type));
         }
-        return 0;
+        CustomModelData modelData = stack.get(DataComponents.CUSTOM_MODEL_DATA);
+        if (modelData == null || modelData.value() != type) {
+            // Ensure the item displays with the correct baked model, even if an older stack
+            // or command-generated item forgot to sync the model data component.
+            stack.set(DataComponents.CUSTOM_MODEL_DATA, new CustomModelData(type));
+        }
+    }
+
+    /**
+     * Liquid, chemical, and gas eggs keep their registry id in the typed
+     * {@link EggPayload} component rather than in custom data.
+     */
+    public static boolean carriesEggPayload(ItemStack stack) {
+        return stack.getItem() instanceof LiquidEggItem || stack.getItem() instanceof AbstractChemicalEggItem;
     }
 
     /**
@@ -62,9 +99,12 @@ public final class ChickenItemHelper {
         });
     }
 
+    @SuppressWarnings("deprecation")
     public static boolean isRooster(ItemStack stack) {
         CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        return data.contains(TAG_ROOSTER) && data.copyTag().getBoolean(TAG_ROOSTER);
+        // Read through the shared tag instead of copying it; this runs for
+        // every chicken item the client renders.
+        return data.contains(TAG_ROOSTER) && data.getUnsafe().getBoolean(TAG_ROOSTER);
     }
 
     @Nullable
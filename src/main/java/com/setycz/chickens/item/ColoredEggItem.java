@@ -35,6 +35,11 @@ public class ColoredEggItem extends Item {
         return stack;
     }
 
+    @Override
+    public void verifyComponentsAfterLoad(ItemStack stack) {
+        ChickenItemHelper.migrateLegacyData(stack);
+    }
+
     @Override
     public Component getName(ItemStack stack) {
         ChickensRegistryItem chicken = ChickenItemHelper.resolve(stack);
@@ -0,0 +1,17 @@
+package com.setycz.chickens.item;
+
+import com.mojang.serialization.Codec;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Registry id of the fluid, chemical, or gas sealed inside a liquid, chemical,
+ * or gas egg. Kept as a dedicated component so converters and fluid handlers
+ * read the id directly and stacks compare by value rather than by NBT.
+ */
+public record EggPayload(int id) {
+    public static final Codec<EggPayload> CODEC = Codec.INT.xmap(EggPayload::new, EggPayload::id);
+    public static final StreamCodec<ByteBuf, EggPayload> STREAM_CODEC =
+            ByteBufCodecs.VAR_INT.map(EggPayload::new, EggPayload::id);
+}
@@ -0,0 +1,32 @@
+package com.setycz.chickens.item;
+
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+
+/**
+ * Redstone Flux payload carried by a {@link FluxEggItem}. Stored as its own
+ * data component so draining an egg swaps one small immutable value instead of
+ * copying and rewriting the stack's custom NBT every tick.
+ */
+public record FluxCharge(int stored, int capacity) {
+    public static final Codec<FluxCharge> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+            Codec.INT.fieldOf("stored").forGetter(FluxCharge::stored),
+            Codec.INT.fieldOf("capacity").forGetter(FluxCharge::capacity)
+    ).apply(instance, FluxCharge::new));
+    public static final StreamCodec<ByteBuf, FluxCharge> STREAM_CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT, FluxCharge::stored,
+            ByteBufCodecs.VAR_INT, FluxCharge::capacity,
+            FluxCharge::new);
+
+    public FluxCharge {
+        capacity = Math.max(0, capacity);
+        stored = Math.max(0, Math.min(stored, capacity));
+    }
+
+    public FluxCharge withStored(int stored) {
+        return new FluxCharge(stored, capacity);
+    }
+}
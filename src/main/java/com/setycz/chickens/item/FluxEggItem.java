@@ -1,6 +1,7 @@
 package com.setycz.chickens.item;
 
 import com.setycz.chickens.config.ChickensConfigHolder;
+import com.setycz.chickens.registry.ModDataComponents;
 import com.setycz.chickens.registry.ModRegistry;
 import net.minecraft.ChatFormatting;
 import net.minecraft.core.component.DataComponents;
@@ -13,6 +14,7 @@ import net.minecraft.world.item.TooltipFlag;
 import net.minecraft.world.item.component.CustomData;
 import net.minecraft.world.item.Item.TooltipContext;
 
+import javax.annotation.Nullable;
 import java.util.List;
 
 /**
@@ -22,6 +24,7 @@ import java.util.List;
  * the capacity every tick.
  */
 public class FluxEggItem extends Item {
+    // Legacy custom data keys, only read to migrate stacks saved before the flux charge component.
     private static final String TAG_ENERGY = "FluxEnergy";
     private static final String TAG_CAPACITY = "FluxCapacity";
 
@@ -68,44 +71,73 @@ public class FluxEggItem extends Item {
     }
 
     /**
-     * Writes both the stored energy and capacity into the custom data component
+     * Writes both the stored energy and capacity into the flux charge component
      * so stacks retain their charge even after being partially drained or moved
      * between inventories.
      */
     public static void setEnergy(ItemStack stack, int stored, int capacity) {
         int safeCapacity = Math.max(getMinimumCapacity(), capacity);
-        int clampedEnergy = Mth.clamp(stored, 0, safeCapacity);
-        CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> {
-            tag.putInt(TAG_CAPACITY, safeCapacity);
-            tag.putInt(TAG_ENERGY, clampedEnergy);
-        });
+        stack.set(ModDataComponents.FLUX_CHARGE.get(), new FluxCharge(stored, safeCapacity));
     }
 
     /**
      * Convenience setter that reuses the current capacity stored on the stack.
      */
     public static void setStoredEnergy(ItemStack stack, int stored) {
-        int capacity = getCapacity(stack);
-        setEnergy(stack, stored, capacity);
+        setEnergy(stack, stored, getCapacity(stack));
     }
 
     public static int getStoredEnergy(ItemStack stack) {
-        CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        if (data.contains(TAG_ENERGY)) {
-            CompoundTag tag = data.copyTag();
-            return Mth.clamp(tag.getInt(TAG_ENERGY), 0, getCapacity(stack));
+        FluxCharge charge = getCharge(stack);
+        if (charge == null) {
+            return getMinimumCapacity();
         }
-        return getMinimumCapacity();
+        return Mth.clamp(charge.stored(), 0, Math.max(getMinimumCapacity(), charge.capacity()));
     }
 
     public static int getCapacity(ItemStack stack) {
+        FluxCharge charge = getCharge(stack);
+        return charge != null ? Math.max(getMinimumCapacity(), charge.capacity()) : getMinimumCapacity();
+    }
+
+    /**
+     * Returns the stack's flux charge, or {@code null} for an egg that was never
+     * imprinted. Eggs saved before the component existed are read from their
+     * legacy custom data keys until {@link #verifyComponentsAfterLoad} migrates them.
+     */
+    @Nullable
+    public static FluxCharge getCharge(ItemStack stack) {
+        FluxCharge charge = stack.get(ModDataComponents.FLUX_CHARGE.get());
+        return charge != null ? charge : readLegacyCharge(stack);
+    }
+
+    @Override
+    public void verifyComponentsAfterLoad(ItemStack stack) {
+        if (stack.has(ModDataComponents.FLUX_CHARGE.get())) {
+            return;
+        }
+        FluxCharge legacy = readLegacyCharge(stack);
+        if (legacy == null) {
+            return;
+        }
+        CustomData.update(DataComponents.CUSTOM_DATA, stack, tag -> {
+            tag.remove(TAG_ENERGY);
+            tag.remove(TAG_CAPACITY);
+        });
+        stack.set(ModDataComponents.FLUX_CHARGE.get(), legacy);
+    }
+
+    @Nullable
+    @SuppressWarnings("deprecation")
+    private static FluxCharge readLegacyCharge(ItemStack stack) {
         CustomData data = stack.getOrDefault(DataComponents.CUSTOM_DATA, CustomData.EMPTY);
-        if (data.contains(TAG_CAPACITY)) {
-            CompoundTag tag = data.copyTag();
-            int capacity = tag.getInt(TAG_CAPACITY);
-            return Math.max(getMinimumCapacity(), capacity);
+        if (!data.contains(TAG_ENERGY) && !data.contains(TAG_CAPACITY)) {
+            return null;
         }
-        return getMinimumCapacity();
+        CompoundTag tag = data.getUnsafe();
+        int capacity = Math.max(getMinimumCapacity(), tag.getInt(TAG_CAPACITY));
+        int stored = tag.contains(TAG_ENERGY) ? tag.getInt(TAG_ENERGY) : getMinimumCapacity();
+        return new FluxCharge(stored, capacity);
     }
 
     @Override
@@ -52,6 +52,11 @@ public class LiquidEggItem extends Item {
         return stack;
     }
 
+    @Override
+    public void verifyComponentsAfterLoad(ItemStack stack) {
+        ChickenItemHelper.migrateLegacyData(stack);
+    }
+
     @Override
     public Component getName(ItemStack stack) {
         LiquidEggRegistryItem liquid = resolve(stack);
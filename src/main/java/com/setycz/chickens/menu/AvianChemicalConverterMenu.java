@@ -13,7 +13,6 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -28,11 +27,12 @@ import java.util.Objects;
  * the GUI can reuse the same slot layout while synchronising the buffered
  * chemical information back to the client.
  */
-public class AvianChemicalConverterMenu extends AbstractContainerMenu {
+public class AvianChemicalConverterMenu extends AbstractContainerMenu implements MenuSyncChannel.Host {
     private static final int INVENTORY_SIZE = AvianChemicalConverterBlockEntity.SLOT_COUNT;
 
     private final AvianChemicalConverterBlockEntity converter;
     private final ContainerLevelAccess access;
+    private final MenuSyncChannel sync;
     private int clientAmount;
     private int clientCapacity;
     private int clientEntryId = -1;
@@ -63,72 +63,19 @@ public class AvianChemicalConverterMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerAmount() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerAmount() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEntryId();
-            }
-
-            @Override
-            public void set(int value) {
-                clientEntryId = value;
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return converter.isStoredGaseous() ? 1 : 0;
-            }
-
-            @Override
-            public void set(int value) {
-                clientGaseous = value != 0;
-            }
-        });
+        this.sync = new MenuSyncChannel(this, playerInventory.player, 4,
+                values -> {
+                    values[0] = getServerAmount();
+                    values[1] = getServerCapacity();
+                    values[2] = getServerEntryId();
+                    values[3] = converter.isStoredGaseous() ? 1 : 0;
+                },
+                values -> {
+                    clientAmount = values[0];
+                    clientCapacity = values[1];
+                    clientEntryId = values[2];
+                    clientGaseous = values[3] != 0;
+                });
     }
 
     private static AvianChemicalConverterBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -173,6 +120,23 @@ public class AvianChemicalConverterMenu extends AbstractContainerMenu {
         return original;
     }
 
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        sync.broadcast(false);
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcast(true);
+    }
+
+    @Override
+    public MenuSyncChannel syncChannel() {
+        return sync;
+    }
+
     public ContainerLevelAccess getAccess() {
         return access;
     }
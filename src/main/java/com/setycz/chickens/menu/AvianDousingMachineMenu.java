@@ -2,7 +2,6 @@ package com.setycz.chickens.menu;
 
 import com.setycz.chickens.ChemicalEggRegistry;
 import com.setycz.chickens.ChemicalEggRegistryItem;
-import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity.InfusionMode;
 import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity.SpecialInfusion;
@@ -17,7 +16,6 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -33,11 +31,12 @@ import java.util.Objects;
  * energy, liquid, and chemical buffers back to the client so the GUI can render
  * live progress and gauge information.
  */
-public class AvianDousingMachineMenu extends AbstractContainerMenu {
+public class AvianDousingMachineMenu extends AbstractContainerMenu implements MenuSyncChannel.Host {
     private static final int MACHINE_SLOTS = AvianDousingMachineBlockEntity.SLOT_COUNT;
 
     private final AvianDousingMachineBlockEntity machine;
     private final ContainerLevelAccess access;
+    private final MenuSyncChannel sync;
 
     private int clientEnergy;
     private int clientEnergyCapacity;
@@ -58,6 +57,16 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
     private int clientChemicalEnergyCost;
     private InfusionMode clientMode = InfusionMode.NONE;
 
+    // Server-side cost plan, keyed by the inputs the dousing costs depend on.
+    private boolean planned;
+    private int planChickenType;
+    private int planFluidId;
+    private int planChemicalId;
+    private int planLiquidCost;
+    private int planLiquidEnergyCost;
+    private int planChemicalCost;
+    private int planChemicalEnergyCost;
+
     public AvianDousingMachineMenu(int id, Inventory playerInventory, RegistryFriendlyByteBuf buffer) {
         this(id, playerInventory, resolveBlockEntity(playerInventory, buffer));
     }
@@ -102,165 +111,73 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        // Energy stored
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEnergy() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerEnergy() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-
-        // Energy capacity
-        this.addDataSlot(splitGetter(
-                () -> getServerEnergyCapacity(),
-                value -> clientEnergyCapacity = (clientEnergyCapacity & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerEnergyCapacity() >>> 16,
-                value -> clientEnergyCapacity = (clientEnergyCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Progress
-        this.addDataSlot(splitGetter(
-                () -> getServerProgress(),
-                value -> clientProgress = (clientProgress & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerProgress() >>> 16,
-                value -> clientProgress = (clientProgress & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Fluid amount and capacity
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidAmount(),
-                value -> {
-                    clientFluidAmount = (clientFluidAmount & 0xFFFF0000) | (value & 0xFFFF);
-                    updateClientFluid();
-                }));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidAmount() >>> 16,
-                value -> {
-                    clientFluidAmount = (clientFluidAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                    updateClientFluid();
-                }));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidCapacity(),
-                value -> clientFluidCapacity = (clientFluidCapacity & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidCapacity() >>> 16,
-                value -> clientFluidCapacity = (clientFluidCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Special infusion amount and type
-        this.addDataSlot(splitGetter(
-                () -> getServerSpecialAmount(),
-                value -> clientSpecialAmount = (clientSpecialAmount & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerSpecialAmount() >>> 16,
-                value -> clientSpecialAmount = (clientSpecialAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerSpecialType();
-            }
-
-            @Override
-            public void set(int value) {
-                clientSpecialType = Math.max(0, Math.min(value, SpecialInfusion.values().length - 1));
-            }
-        });
-
-        // Fluid id
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidId(),
-                value -> {
-                    clientFluidId = (clientFluidId & 0xFFFF0000) | (value & 0xFFFF);
-                    updateClientFluid();
-                }));
-        this.addDataSlot(splitGetter(
-                () -> getServerFluidId() >>> 16,
-                value -> {
-                    clientFluidId = (clientFluidId & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                    updateClientFluid();
-                }));
-
-        // Liquid dousing cost (per stored fluid/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidCost(),
-                value -> clientLiquidCost = (clientLiquidCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidCost() >>> 16,
-                value -> clientLiquidCost = (clientLiquidCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Liquid dousing energy cost (per stored fluid/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidEnergyCost(),
-                value -> clientLiquidEnergyCost = (clientLiquidEnergyCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerLiquidEnergyCost() >>> 16,
-                value -> clientLiquidEnergyCost = (clientLiquidEnergyCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical dousing cost (per stored chemical/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCost(),
-                value -> clientChemicalCost = (clientChemicalCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCost() >>> 16,
-                value -> clientChemicalCost = (clientChemicalCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical dousing energy cost (per stored chemical/chicken)
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEnergyCost(),
-                value -> clientChemicalEnergyCost = (clientChemicalEnergyCost & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEnergyCost() >>> 16,
-                value -> clientChemicalEnergyCost = (clientChemicalEnergyCost & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical amount and capacity
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalAmount(),
-                value -> clientChemicalAmount = (clientChemicalAmount & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalAmount() >>> 16,
-                value -> clientChemicalAmount = (clientChemicalAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCapacity(),
-                value -> clientChemicalCapacity = (clientChemicalCapacity & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalCapacity() >>> 16,
-                value -> clientChemicalCapacity = (clientChemicalCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Chemical entry id
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEntryId(),
-                value -> clientChemicalEntryId = (clientChemicalEntryId & 0xFFFF0000) | (value & 0xFFFF)));
-        this.addDataSlot(splitGetter(
-                () -> getServerChemicalEntryId() >>> 16,
-                value -> clientChemicalEntryId = (clientChemicalEntryId & 0x0000FFFF) | ((value & 0xFFFF) << 16)));
-
-        // Mode
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerMode();
-            }
-
-            @Override
-            public void set(int value) {
-                clientMode = InfusionMode.values()[Math.max(0, Math.min(value, InfusionMode.values().length - 1))];
-            }
-        });
+        this.sync = new MenuSyncChannel(this, playerInventory.player, 16, this::writeSnapshot, this::readSnapshot);
+    }
+
+    private void writeSnapshot(int[] values) {
+        int fluidId = getServerFluidId();
+        int chemicalId = getServerChemicalEntryId();
+        refreshPlanCosts(fluidId, chemicalId);
+        values[0] = getServerEnergy();
+        values[1] = getServerEnergyCapacity();
+        values[2] = getServerProgress();
+        values[3] = getServerFluidAmount();
+        values[4] = getServerFluidCapacity();
+        values[5] = fluidId;
+        values[6] = getServerSpecialAmount();
+        values[7] = getServerSpecialType();
+        values[8] = getServerChemicalAmount();
+        values[9] = getServerChemicalCapacity();
+        values[10] = chemicalId;
+        values[11] = getServerMode();
+        values[12] = planLiquidCost;
+        values[13] = planLiquidEnergyCost;
+        values[14] = planChemicalCost;
+        values[15] = planChemicalEnergyCost;
+    }
+
+    private void readSnapshot(int[] values) {
+        clientEnergy = values[0];
+        clientEnergyCapacity = values[1];
+        clientProgress = values[2];
+        clientFluidAmount = values[3];
+        clientFluidCapacity = values[4];
+        clientFluidId = values[5];
+        clientSpecialAmount = values[6];
+        clientSpecialType = Math.max(0, Math.min(values[7], SpecialInfusion.values().length - 1));
+        clientChemicalAmount = values[8];
+        clientChemicalCapacity = values[9];
+        clientChemicalEntryId = values[10];
+        clientMode = InfusionMode.values()[Math.max(0, Math.min(values[11], InfusionMode.values().length - 1))];
+        clientLiquidCost = values[12];
+        clientLiquidEnergyCost = values[13];
+        clientChemicalCost = values[14];
+        clientChemicalEnergyCost = values[15];
+        updateClientFluid();
+    }
+
+    /**
+     * The dousing costs walk the custom recipe registry, so they are only
+     * recomputed when the input chicken, stored fluid, or stored chemical
+     * changes rather than on every sync tick.
+     */
+    private void refreshPlanCosts(int fluidId, int chemicalId) {
+        if (machine == null) {
+            return;
+        }
+        ItemStack input = machine.getItem(0);
+        int chickenType = input.isEmpty() ? -1 : ChickenItemHelper.getChickenType(input);
+        if (planned && chickenType == planChickenType && fluidId == planFluidId && chemicalId == planChemicalId) {
+            return;
+        }
+        planned = true;
+        planChickenType = chickenType;
+        planFluidId = fluidId;
+        planChemicalId = chemicalId;
+        planLiquidCost = machine.getLiquidCostForStoredFluid();
+        planLiquidEnergyCost = machine.getLiquidEnergyCostForStoredFluid();
+        planChemicalCost = machine.getChemicalCostForStoredChemical();
+        planChemicalEnergyCost = machine.getChemicalEnergyCostForStoredChemical();
     }
 
     private static AvianDousingMachineBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -305,6 +222,23 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
         return original;
     }
 
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        sync.broadcast(false);
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcast(true);
+    }
+
+    @Override
+    public MenuSyncChannel syncChannel() {
+        return sync;
+    }
+
     public ContainerLevelAccess getAccess() {
         return access;
     }
@@ -400,24 +334,6 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
         return clientSpecialAmount > 0 && clientSpecialType != SpecialInfusion.NONE.ordinal();
     }
 
-    private static DataSlot splitGetter(IntSupplier supplier, IntConsumer consumer) {
-        return new DataSlot() {
-            private int cached;
-
-            @Override
-            public int get() {
-                cached = supplier.getAsInt() & 0xFFFF;
-                return cached;
-            }
-
-            @Override
-            public void set(int value) {
-                cached = value & 0xFFFF;
-                consumer.accept(cached);
-            }
-        };
-    }
-
     private void updateClientFluid() {
         if (clientFluidId < 0 || clientFluidAmount <= 0) {
             clientFluid = FluidStack.EMPTY;
@@ -486,30 +402,6 @@ public class AvianDousingMachineMenu extends AbstractContainerMenu {
         return machine != null ? machine.getMode().ordinal() : 0;
     }
 
-    private int getServerLiquidCost() {
-        return machine != null ? machine.getLiquidCostForStoredFluid() : ChickensRegistryItem.DEFAULT_LIQUID_DOUSING_COST;
-    }
-
-    private int getServerLiquidEnergyCost() {
-        return machine != null ? machine.getLiquidEnergyCostForStoredFluid() : AvianDousingMachineBlockEntity.LIQUID_ENERGY_COST;
-    }
-
-    private int getServerChemicalCost() {
-        return machine != null ? machine.getChemicalCostForStoredChemical() : AvianDousingMachineBlockEntity.CHEMICAL_COST;
-    }
-
-    private int getServerChemicalEnergyCost() {
-        return machine != null ? machine.getChemicalEnergyCostForStoredChemical() : AvianDousingMachineBlockEntity.CHEMICAL_ENERGY_COST;
-    }
-
-    private interface IntSupplier {
-        int getAsInt();
-    }
-
-    private interface IntConsumer {
-        void accept(int value);
-    }
-
     private static class SmartChickenSlot extends Slot {
         private final AvianDousingMachineBlockEntity machine;
 
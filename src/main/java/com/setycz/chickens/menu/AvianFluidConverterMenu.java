@@ -10,7 +10,6 @@ import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
 import net.minecraft.world.inventory.ContainerLevelAccess;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
 import net.minecraft.world.level.Level;
@@ -26,11 +25,12 @@ import java.util.Objects;
  * while syncing the tank contents back to the client so the GUI can render
  * fluid gauges without polling the world every frame.
  */
-public class AvianFluidConverterMenu extends AbstractContainerMenu {
+public class AvianFluidConverterMenu extends AbstractContainerMenu implements MenuSyncChannel.Host {
     private static final int INVENTORY_SIZE = AvianFluidConverterBlockEntity.SLOT_COUNT;
 
     private final AvianFluidConverterBlockEntity converter;
     private final ContainerLevelAccess access;
+    private final MenuSyncChannel sync;
     private FluidStack clientFluid = FluidStack.EMPTY;
     private int clientAmount;
     private int clientCapacity;
@@ -62,76 +62,18 @@ public class AvianFluidConverterMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerAmount() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0xFFFF0000) | (value & 0xFFFF);
-                updateClientFluid();
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerAmount() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientAmount = (clientAmount & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                updateClientFluid();
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerFluidId() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientFluidId = (clientFluidId & 0xFFFF0000) | (value & 0xFFFF);
-                updateClientFluid();
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerFluidId() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientFluidId = (clientFluidId & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-                updateClientFluid();
-            }
-        });
+        this.sync = new MenuSyncChannel(this, playerInventory.player, 3,
+                values -> {
+                    values[0] = getServerAmount();
+                    values[1] = getServerCapacity();
+                    values[2] = getServerFluidId();
+                },
+                values -> {
+                    clientAmount = values[0];
+                    clientCapacity = values[1];
+                    clientFluidId = values[2];
+                    updateClientFluid();
+                });
     }
 
     private static AvianFluidConverterBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -176,6 +118,23 @@ public class AvianFluidConverterMenu extends AbstractContainerMenu {
         return original;
     }
 
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        sync.broadcast(false);
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcast(true);
+    }
+
+    @Override
+    public MenuSyncChannel syncChannel() {
+        return sync;
+    }
+
     public ContainerLevelAccess getAccess() {
         return access;
     }
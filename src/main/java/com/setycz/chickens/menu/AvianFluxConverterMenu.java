@@ -8,7 +8,6 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.inventory.AbstractContainerMenu;
-import net.minecraft.world.inventory.DataSlot;
 import net.minecraft.world.inventory.ContainerLevelAccess;
 import net.minecraft.world.inventory.Slot;
 import net.minecraft.world.item.ItemStack;
@@ -22,11 +21,12 @@ import java.util.Objects;
  * with a single input slot followed by the player inventory, while syncing the
  * machine's energy buffer back to the screen for tooltip rendering.
  */
-public class AvianFluxConverterMenu extends AbstractContainerMenu {
+public class AvianFluxConverterMenu extends AbstractContainerMenu implements MenuSyncChannel.Host {
     private static final int INVENTORY_SIZE = AvianFluxConverterBlockEntity.SLOT_COUNT;
 
     private final AvianFluxConverterBlockEntity converter;
     private final ContainerLevelAccess access;
+    private final MenuSyncChannel sync;
     private int clientEnergy;
     private int clientCapacity;
 
@@ -54,52 +54,15 @@ public class AvianFluxConverterMenu extends AbstractContainerMenu {
             this.addSlot(new Slot(playerInventory, hotbar, 8 + hotbar * 18, 142));
         }
 
-        // Split the 32-bit energy and capacity values across vanilla DataSlots so they
-        // synchronise to the client without truncation.
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerEnergy() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerEnergy() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientEnergy = (clientEnergy & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return getServerCapacity() & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0xFFFF0000) | (value & 0xFFFF);
-            }
-        });
-        this.addDataSlot(new DataSlot() {
-            @Override
-            public int get() {
-                return (getServerCapacity() >>> 16) & 0xFFFF;
-            }
-
-            @Override
-            public void set(int value) {
-                clientCapacity = (clientCapacity & 0x0000FFFF) | ((value & 0xFFFF) << 16);
-            }
-        });
+        this.sync = new MenuSyncChannel(this, playerInventory.player, 2,
+                values -> {
+                    values[0] = getServerEnergy();
+                    values[1] = getServerCapacity();
+                },
+                values -> {
+                    clientEnergy = values[0];
+                    clientCapacity = values[1];
+                });
     }
 
     private static AvianFluxConverterBlockEntity resolveBlockEntity(Inventory inventory, RegistryFriendlyByteBuf buffer) {
@@ -144,13 +107,30 @@ public class AvianFluxConverterMenu extends AbstractContainerMenu {
         return original;
     }
 
+    @Override
+    public void broadcastChanges() {
+        super.broadcastChanges();
+        sync.broadcast(false);
+    }
+
+    @Override
+    public void sendAllDataToRemote() {
+        super.sendAllDataToRemote();
+        sync.broadcast(true);
+    }
+
+    @Override
+    public MenuSyncChannel syncChannel() {
+        return sync;
+    }
+
     public ContainerLevelAccess getAccess() {
         return access;
     }
 
     public int getEnergy() {
         // Server reads straight from the block entity while the client consumes the
-        // values hydrated through the DataSlot callbacks above.
+        // values hydrated through the sync channel.
         return isServerSide() ? getServerEnergy() : clientEnergy;
     }
 
@@ -0,0 +1,83 @@
+package com.setycz.chickens.menu;
+
+import com.setycz.chickens.network.MenuSyncPayload;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.player.Player;
+import net.minecraft.world.inventory.AbstractContainerMenu;
+import net.neoforged.neoforge.network.PacketDistributor;
+
+import java.util.Arrays;
+
+/**
+ * Change-driven replacement for vanilla {@code DataSlot}s. Vanilla polls every
+ * slot of every open menu each tick and can only carry 16 bits per slot, which
+ * forced the machine menus to split energy and tank values across slot pairs.
+ * A channel instead snapshots all of a menu's fields into one int array and
+ * sends a single {@link MenuSyncPayload} only on ticks where something changed.
+ */
+public final class MenuSyncChannel {
+    private final AbstractContainerMenu menu;
+    private final Player player;
+    private final Writer writer;
+    private final Reader reader;
+    private final int[] current;
+    private int[] sent;
+    private int revision;
+    private int appliedRevision = -1;
+
+    public MenuSyncChannel(AbstractContainerMenu menu, Player player, int size, Writer writer, Reader reader) {
+        this.menu = menu;
+        this.player = player;
+        this.writer = writer;
+        this.reader = reader;
+        this.current = new int[size];
+    }
+
+    /**
+     * Samples the menu's fields and sends them when they differ from the last
+     * snapshot, or unconditionally when {@code force} is set (menu open or a
+     * full resync). Does nothing on the client.
+     */
+    public void broadcast(boolean force) {
+        if (!(player instanceof ServerPlayer serverPlayer)) {
+            return;
+        }
+        writer.write(current);
+        if (!force && sent != null && Arrays.equals(current, sent)) {
+            return;
+        }
+        sent = current.clone();
+        revision++;
+        PacketDistributor.sendToPlayer(serverPlayer, new MenuSyncPayload(menu.containerId, revision, sent));
+    }
+
+    /**
+     * Applies a snapshot received from the server, ignoring stale or malformed
+     * payloads.
+     */
+    public void receive(int revision, int[] values) {
+        if (values.length != current.length || revision <= appliedRevision) {
+            return;
+        }
+        appliedRevision = revision;
+        reader.read(values);
+    }
+
+    /**
+     * Implemented by menus that own a channel so the payload handler can find it
+     * on the player's open container.
+     */
+    public interface Host {
+        MenuSyncChannel syncChannel();
+    }
+
+    @FunctionalInterface
+    public interface Writer {
+        void write(int[] values);
+    }
+
+    @FunctionalInterface
+    public interface Reader {
+        void read(int[] values);
+    }
+}
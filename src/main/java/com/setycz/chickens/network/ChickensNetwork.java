@@ -0,0 +1,26 @@
+package com.setycz.chickens.network;
+
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.network.event.RegisterPayloadHandlersEvent;
+import net.neoforged.neoforge.network.registration.PayloadRegistrar;
+
+/**
+ * Registers the mod's custom play payloads. Bump {@link #PROTOCOL_VERSION}
+ * whenever a payload layout changes so mismatched clients are rejected at
+ * login instead of misreading packets.
+ */
+public final class ChickensNetwork {
+    private static final String PROTOCOL_VERSION = "1";
+
+    private ChickensNetwork() {
+    }
+
+    public static void init(IEventBus modBus) {
+        modBus.addListener(ChickensNetwork::onRegisterPayloads);
+    }
+
+    private static void onRegisterPayloads(RegisterPayloadHandlersEvent event) {
+        PayloadRegistrar registrar = event.registrar(PROTOCOL_VERSION);
+        registrar.playToClient(MenuSyncPayload.TYPE, MenuSyncPayload.STREAM_CODEC, MenuSyncPayload::handle);
+    }
+}
@@ -0,0 +1,49 @@
+package com.setycz.chickens.network;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.menu.MenuSyncChannel;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.entity.player.Player;
+import net.neoforged.neoforge.network.handling.IPayloadContext;
+
+/**
+ * Server-to-client snapshot of a machine menu's synced fields. Values travel
+ * as full-width var-ints in the order the owning {@link MenuSyncChannel}
+ * declares them, and the revision lets the client discard stale snapshots.
+ */
+public record MenuSyncPayload(int containerId, int revision, int[] values) implements CustomPacketPayload {
+    public static final Type<MenuSyncPayload> TYPE =
+            new Type<>(ResourceLocation.fromNamespaceAndPath(ChickensMod.MOD_ID, "menu_sync"));
+    public static final StreamCodec<FriendlyByteBuf, MenuSyncPayload> STREAM_CODEC =
+            CustomPacketPayload.codec(MenuSyncPayload::write, MenuSyncPayload::read);
+
+    private static MenuSyncPayload read(FriendlyByteBuf buffer) {
+        int containerId = buffer.readVarInt();
+        int revision = buffer.readVarInt();
+        return new MenuSyncPayload(containerId, revision, buffer.readVarIntArray());
+    }
+
+    private void write(FriendlyByteBuf buffer) {
+        buffer.writeVarInt(containerId);
+        buffer.writeVarInt(revision);
+        buffer.writeVarIntArray(values);
+    }
+
+    static void handle(MenuSyncPayload payload, IPayloadContext context) {
+        context.enqueueWork(() -> {
+            Player player = context.player();
+            if (player.containerMenu.containerId == payload.containerId()
+                    && player.containerMenu instanceof MenuSyncChannel.Host host) {
+                host.syncChannel().receive(payload.revision(), payload.values());
+            }
+        });
+    }
+
+    @Override
+    public Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+}
@@ -0,0 +1,308 @@
+package com.setycz.chickens.profile;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Operator-facing profiler behind {@code /chickens profile}. While running it
+ * listens to {@link TickTimings} and folds every timed section into per-source
+ * and per-chunk latency histograms plus per-block totals, so a dump can name
+ * the exact roost or collector that is eating tick time. Everything runs on
+ * the server thread; recording only allocates the first time a chunk or block
+ * is seen. A session still running when the server stops is discarded.
+ */
+public final class ChickensProfiler implements TickTimings.Listener {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensProfiler");
+    // Bucket i counts sections shorter than 2^i microseconds; the last bucket takes everything slower.
+    static final int BUCKETS = 16;
+    private static final int REPORT_LIMIT = 50;
+    private static final DateTimeFormatter FILE_STAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss", Locale.ROOT);
+
+    @Nullable
+    private static ChickensProfiler active;
+
+    private final long startedNanos = System.nanoTime();
+    private final int startedTick;
+    private final Stats[] sources = new Stats[TickSource.values().length];
+    private final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Stats>> chunks = new IdentityHashMap<>();
+    private final Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Stats>> blocks = new IdentityHashMap<>();
+
+    private ChickensProfiler(int startedTick) {
+        this.startedTick = startedTick;
+        for (TickSource source : TickSource.values()) {
+            sources[source.ordinal()] = new Stats(source, null, 0L);
+        }
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(ChickensProfiler::onServerStopping);
+    }
+
+    /**
+     * Drops a session left running so it does not carry its listener and
+     * level data into the next world.
+     */
+    private static void onServerStopping(ServerStoppingEvent event) {
+        stop();
+    }
+
+    /**
+     * Starts a new profiling session. Returns {@code false} when one is
+     * already running.
+     */
+    public static boolean start(int serverTick) {
+        if (active != null) {
+            return false;
+        }
+        active = new ChickensProfiler(serverTick);
+        TickTimings.addListener(active);
+        return true;
+    }
+
+    /**
+     * Stops the running session and returns it for a final dump.
+     */
+    public static Optional<ChickensProfiler> stop() {
+        ChickensProfiler profiler = active;
+        if (profiler == null) {
+            return Optional.empty();
+        }
+        TickTimings.removeListener(profiler);
+        active = null;
+        return Optional.of(profiler);
+    }
+
+    public static Optional<ChickensProfiler> current() {
+        return Optional.ofNullable(active);
+    }
+
+    @Override
+    public void record(TickSource source, Level level, BlockPos pos, long nanos) {
+        sources[source.ordinal()].add(nanos);
+        if (source.isNested()) {
+            // Already inside an enclosing source's chunk and block totals.
+            return;
+        }
+        ResourceKey<Level> dimension = level.dimension();
+        long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        Long2ObjectOpenHashMap<Stats> levelChunks = chunks.computeIfAbsent(dimension, key -> new Long2ObjectOpenHashMap<>());
+        Stats chunk = levelChunks.get(chunkKey);
+        if (chunk == null) {
+            chunk = new Stats(null, dimension, chunkKey);
+            levelChunks.put(chunkKey, chunk);
+        }
+        chunk.add(nanos);
+        if (source.kind() != TickSource.Kind.BLOCK_ENTITY) {
+            return;
+        }
+        long blockKey = pos.asLong();
+        Long2ObjectOpenHashMap<Stats> levelBlocks = blocks.computeIfAbsent(dimension, key -> new Long2ObjectOpenHashMap<>());
+        Stats block = levelBlocks.get(blockKey);
+        if (block == null) {
+            block = new Stats(source, dimension, blockKey);
+            levelBlocks.put(blockKey, block);
+        }
+        block.add(nanos);
+    }
+
+    public int elapsedTicks(int serverTick) {
+        return Math.max(serverTick - startedTick, 0);
+    }
+
+    /**
+     * Sources that recorded anything, most expensive first.
+     */
+    public List<Stats> sources() {
+        List<Stats> result = new ArrayList<>();
+        for (Stats stats : sources) {
+            if (stats.calls > 0) {
+                result.add(stats);
+            }
+        }
+        result.sort(Comparator.comparingLong(Stats::totalNanos).reversed());
+        return result;
+    }
+
+    /**
+     * The most expensive block entities, most expensive first.
+     */
+    public List<Stats> hotspots(int limit) {
+        return top(blocks, limit);
+    }
+
+    public List<Stats> chunks(int limit) {
+        return top(chunks, limit);
+    }
+
+    private static List<Stats> top(Map<ResourceKey<Level>, Long2ObjectOpenHashMap<Stats>> byLevel, int limit) {
+        List<Stats> all = new ArrayList<>();
+        for (Long2ObjectOpenHashMap<Stats> entries : byLevel.values()) {
+            all.addAll(entries.values());
+        }
+        all.sort(Comparator.comparingLong(Stats::totalNanos).reversed());
+        return all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+    }
+
+    /**
+     * Writes the session to {@code logs/chickens_profile_<timestamp>.json}.
+     *
+     * @return the written path, or {@link Optional#empty()} when writing fails.
+     */
+    public Optional<Path> writeReport(int serverTick) {
+        Path logDir = FMLPaths.GAMEDIR.get().resolve("logs");
+        Path output = logDir.resolve("chickens_profile_" + LocalDateTime.now().format(FILE_STAMP) + ".json");
+        try {
+            Files.createDirectories(logDir);
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                writer.write("{\n");
+                writer.write("  \"ticks\": " + elapsedTicks(serverTick) + ",\n");
+                writer.write("  \"wallMs\": " + format((System.nanoTime() - startedNanos) / 1_000_000.0D) + ",\n");
+                writer.write("  \"histogramBuckets\": \"bucket i counts sections under 2^i microseconds; the last is open-ended\",\n");
+                writer.write("  \"sources\": [");
+                writeList(writer, sources(), stats -> "\"source\": \"" + stats.sourceName() + "\"");
+                writer.write("],\n  \"chunks\": [");
+                writeList(writer, chunks(REPORT_LIMIT), stats -> {
+                    ChunkPos chunk = new ChunkPos(stats.key);
+                    return "\"dimension\": \"" + stats.dimension.location() + "\", \"x\": " + chunk.x + ", \"z\": " + chunk.z;
+                });
+                writer.write("],\n  \"hotspots\": [");
+                writeList(writer, hotspots(REPORT_LIMIT), stats -> {
+                    BlockPos pos = BlockPos.of(stats.key);
+                    return "\"dimension\": \"" + stats.dimension.location() + "\", \"source\": \"" + stats.sourceName()
+                            + "\", \"x\": " + pos.getX() + ", \"y\": " + pos.getY() + ", \"z\": " + pos.getZ();
+                });
+                writer.write("]\n}\n");
+            }
+            LOGGER.info("Wrote Modern Chickens profile to {}", output);
+            return Optional.of(output);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write Modern Chickens profile", e);
+            return Optional.empty();
+        }
+    }
+
+    private static void writeList(Writer writer, List<Stats> entries, Function<Stats, String> identity) throws IOException {
+        for (int i = 0; i < entries.size(); i++) {
+            Stats stats = entries.get(i);
+            writer.write(i == 0 ? "\n" : ",\n");
+            writer.write("    {" + identity.apply(stats)
+                    + ", \"calls\": " + stats.calls
+                    + ", \"totalMs\": " + format(stats.totalNanos / 1_000_000.0D)
+                    + ", \"meanUs\": " + format(stats.meanMicros())
+                    + ", \"p99Us\": " + stats.percentileMicros(0.99D)
+                    + ", \"maxUs\": " + format(stats.maxNanos / 1_000.0D)
+                    + ", \"histogram\": [");
+            for (int bucket = 0; bucket < BUCKETS; bucket++) {
+                if (bucket > 0) {
+                    writer.write(", ");
+                }
+                writer.write(Long.toString(stats.buckets[bucket]));
+            }
+            writer.write("]}");
+        }
+        if (!entries.isEmpty()) {
+            writer.write("\n  ");
+        }
+    }
+
+    static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    /**
+     * Totals and a log-scale latency histogram for one source, chunk or block.
+     */
+    public static final class Stats {
+        @Nullable
+        private final TickSource source;
+        @Nullable
+        private final ResourceKey<Level> dimension;
+        private final long key;
+        private final long[] buckets = new long[BUCKETS];
+        private long calls;
+        private long totalNanos;
+        private long maxNanos;
+
+        private Stats(@Nullable TickSource source, @Nullable ResourceKey<Level> dimension, long key) {
+            this.source = source;
+            this.dimension = dimension;
+            this.key = key;
+        }
+
+        private void add(long nanos) {
+            calls++;
+            totalNanos += nanos;
+            if (nanos > maxNanos) {
+                maxNanos = nanos;
+            }
+            int bucket = 64 - Long.numberOfLeadingZeros(Math.max(nanos, 0L) / 1_000L);
+            buckets[Math.min(bucket, BUCKETS - 1)]++;
+        }
+
+        public String sourceName() {
+            return source == null ? "" : source.name().toLowerCase(Locale.ROOT);
+        }
+
+        @Nullable
+        public ResourceKey<Level> dimension() {
+            return dimension;
+        }
+
+        public BlockPos blockPos() {
+            return BlockPos.of(key);
+        }
+
+        public long calls() {
+            return calls;
+        }
+
+        public long totalNanos() {
+            return totalNanos;
+        }
+
+        public double meanMicros() {
+            return calls == 0 ? 0.0D : totalNanos / (double) calls / 1_000.0D;
+        }
+
+        /**
+         * Upper bound, in microseconds, of the histogram bucket holding the
+         * given percentile. The open-ended last bucket reports the maximum.
+         */
+        public long percentileMicros(double percentile) {
+            long target = (long) Math.ceil(calls * percentile);
+            long seen = 0L;
+            for (int bucket = 0; bucket < BUCKETS - 1; bucket++) {
+                seen += buckets[bucket];
+                if (seen >= target) {
+                    return 1L << bucket;
+                }
+            }
+            return maxNanos / 1_000L;
+        }
+    }
+}
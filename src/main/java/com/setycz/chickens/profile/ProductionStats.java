@@ -0,0 +1,331 @@
+package com.setycz.chickens.profile;
+
+import com.setycz.chickens.ChickensRegistry;
+import com.setycz.chickens.ChickensRegistryItem;
+import com.setycz.chickens.config.ChickensConfigHolder;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.neoforged.fml.loading.FMLPaths;
+import net.neoforged.neoforge.common.NeoForge;
+import net.neoforged.neoforge.event.server.ServerStartingEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Server-wide production counters behind {@code /chickens stats}. Roosts,
+ * free-range chickens, breeders and the dousing machine count items per
+ * chicken type; the converters count the energy, fluid and chemical they
+ * extract from eggs. Recording is an int-keyed map lookup plus a
+ * {@link LongAdder} increment and allocates nothing once a chicken type has
+ * been seen, so the counters stay on permanently. Totals are sampled once a
+ * minute into a small ring, which is what the rolling rates are computed
+ * from, and every {@code productionStatsExportMinutes} they are written to
+ * {@code logs/chickens_production.prom} in Prometheus text format.
+ */
+public final class ProductionStats {
+    private static final Logger LOGGER = LoggerFactory.getLogger("ChickensProductionStats");
+    public static final int SAMPLE_TICKS = 20 * 60;
+    // One more sample than the longest rolling window so that window always has a base.
+    private static final int HISTORY = 16;
+    private static final Channel[] CHANNELS = Channel.values();
+    private static final String EXPORT_FILE = "chickens_production.prom";
+
+    private static final Counters CONVERTERS = new Counters("");
+    // Copy-on-write so lookups never lock; a new chicken type costs one copy.
+    private static volatile Int2ObjectOpenHashMap<Counters> byChicken = new Int2ObjectOpenHashMap<>();
+    private static final long[] sampleTicks = new long[HISTORY];
+    private static int samples;
+    private static long ticks;
+
+    private ProductionStats() {
+    }
+
+    public static void init() {
+        NeoForge.EVENT_BUS.addListener(ProductionStats::onServerStarting);
+        NeoForge.EVENT_BUS.addListener(ProductionStats::onServerTick);
+    }
+
+    public enum Channel {
+        ROOST_LAY("roost_lay", "items", true),
+        FREE_RANGE_LAY("free_range_lay", "items", true),
+        BREEDER_BIRTH("breeder_birth", "items", true),
+        DOUSING("dousing", "items", true),
+        FLUX_CONVERTER("flux_converter", "fe", false),
+        FLUID_CONVERTER("fluid_converter", "mb", false),
+        CHEMICAL_CONVERTER("chemical_converter", "mb", false);
+
+        private final String id;
+        private final String unit;
+        private final boolean perChicken;
+
+        Channel(String id, String unit, boolean perChicken) {
+            this.id = id;
+            this.unit = unit;
+            this.perChicken = perChicken;
+        }
+
+        public String id() {
+            return id;
+        }
+
+        public String unit() {
+            return unit;
+        }
+    }
+
+    /**
+     * Counts {@code count} items of the given chicken type on a per-chicken
+     * channel.
+     */
+    public static void record(Channel channel, int chickenType, int count) {
+        if (count <= 0) {
+            return;
+        }
+        Counters counters = byChicken.get(chickenType);
+        if (counters == null) {
+            counters = register(chickenType);
+        }
+        counters.totals[channel.ordinal()].add(count);
+    }
+
+    /**
+     * Counts converter output, in the channel's unit.
+     */
+    public static void record(Channel channel, int amount) {
+        if (amount > 0) {
+            CONVERTERS.totals[channel.ordinal()].add(amount);
+        }
+    }
+
+    private static synchronized Counters register(int chickenType) {
+        Counters existing = byChicken.get(chickenType);
+        if (existing != null) {
+            return existing;
+        }
+        ChickensRegistryItem chicken = ChickensRegistry.getByType(chickenType);
+        Counters counters = new Counters(chicken != null ? chicken.getEntityName() : "type_" + chickenType);
+        Int2ObjectOpenHashMap<Counters> copy = new Int2ObjectOpenHashMap<>(byChicken);
+        copy.put(chickenType, counters);
+        byChicken = copy;
+        return counters;
+    }
+
+    private static void onServerStarting(ServerStartingEvent event) {
+        // Integrated servers restart in the same JVM; never carry one world's totals into the next.
+        synchronized (ProductionStats.class) {
+            byChicken = new Int2ObjectOpenHashMap<>();
+        }
+        CONVERTERS.reset();
+        samples = 0;
+        ticks = 0L;
+    }
+
+    private static void onServerTick(ServerTickEvent.Post event) {
+        long tick = ++ticks;
+        if (tick % SAMPLE_TICKS != 0) {
+            return;
+        }
+        sample(tick);
+        int exportMinutes = ChickensConfigHolder.get().getProductionStatsExportMinutes();
+        if (exportMinutes > 0 && samples % exportMinutes == 0) {
+            export();
+        }
+    }
+
+    private static void sample(long tick) {
+        int slot = samples % HISTORY;
+        sampleTicks[slot] = tick;
+        CONVERTERS.sample(slot);
+        for (Counters counters : byChicken.values()) {
+            counters.sample(slot);
+        }
+        samples++;
+    }
+
+    /**
+     * Chicken types by combined item output per minute over the last five
+     * minutes, busiest first.
+     */
+    public static List<Rate> topChickens(int limit) {
+        List<Rate> rates = new ArrayList<>();
+        for (Counters counters : byChicken.values()) {
+            rates.add(counters.rate(counters.name, null));
+        }
+        rates.sort(Comparator.comparingDouble(Rate::perMinute5).reversed());
+        return rates.size() > limit ? new ArrayList<>(rates.subList(0, limit)) : rates;
+    }
+
+    /**
+     * Output rates for every channel, summed across chicken types.
+     */
+    public static List<Rate> channels() {
+        List<Rate> rates = new ArrayList<>();
+        for (Channel channel : CHANNELS) {
+            if (!channel.perChicken) {
+                rates.add(CONVERTERS.rate(channel.id, channel));
+                continue;
+            }
+            long total = 0L;
+            double perMinute1 = 0.0D;
+            double perMinute5 = 0.0D;
+            double perMinute15 = 0.0D;
+            for (Counters counters : byChicken.values()) {
+                Rate rate = counters.rate(channel.id, channel);
+                total += rate.total();
+                perMinute1 += rate.perMinute1();
+                perMinute5 += rate.perMinute5();
+                perMinute15 += rate.perMinute15();
+            }
+            rates.add(new Rate(channel.id, channel.unit, total, perMinute1, perMinute5, perMinute15));
+        }
+        return rates;
+    }
+
+    public static long minutesRecorded() {
+        return ticks / SAMPLE_TICKS;
+    }
+
+    /**
+     * Writes the current totals to {@code logs/chickens_production.prom}.
+     * The file is replaced atomically so a textfile collector never reads a
+     * half-written scrape.
+     *
+     * @return the written path, or {@link Optional#empty()} when writing fails.
+     */
+    public static Optional<Path> export() {
+        StringBuilder out = new StringBuilder(4096);
+        out.append("# HELP chickens_items_produced_total Items produced since server start by source and chicken type.\n");
+        out.append("# TYPE chickens_items_produced_total counter\n");
+        List<Counters> chickens = new ArrayList<>(byChicken.values());
+        chickens.sort(Comparator.comparing(counters -> counters.name));
+        for (Counters counters : chickens) {
+            for (Channel channel : CHANNELS) {
+                long total = counters.totals[channel.ordinal()].sum();
+                if (channel.perChicken && total > 0) {
+                    out.append("chickens_items_produced_total{source=\"").append(channel.id)
+                            .append("\",chicken=\"").append(escape(counters.name)).append("\"} ")
+                            .append(total).append('\n');
+                }
+            }
+        }
+        out.append("# HELP chickens_converter_output_total Energy (fe) or fluid and chemical (mb) extracted from eggs since server start.\n");
+        out.append("# TYPE chickens_converter_output_total counter\n");
+        for (Channel channel : CHANNELS) {
+            if (!channel.perChicken) {
+                out.append("chickens_converter_output_total{converter=\"").append(channel.id)
+                        .append("\",unit=\"").append(channel.unit).append("\"} ")
+                        .append(CONVERTERS.totals[channel.ordinal()].sum()).append('\n');
+            }
+        }
+        out.append("# HELP chickens_uptime_ticks Server ticks since the counters were last reset.\n");
+        out.append("# TYPE chickens_uptime_ticks counter\n");
+        out.append("chickens_uptime_ticks ").append(ticks).append('\n');
+
+        Path logDir = FMLPaths.GAMEDIR.get().resolve("logs");
+        Path output = logDir.resolve(EXPORT_FILE);
+        Path temp = logDir.resolve(EXPORT_FILE + ".tmp");
+        try {
+            Files.createDirectories(logDir);
+            Files.writeString(temp, out, StandardCharsets.UTF_8);
+            try {
+                Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return Optional.of(output);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to write Modern Chickens production stats", e);
+            return Optional.empty();
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Lifetime total and per-minute rates over the last one, five and fifteen
+     * minutes. Windows longer than the server has been up fall back to the
+     * rate since start.
+     */
+    public record Rate(String label, String unit, long total, double perMinute1, double perMinute5,
+                       double perMinute15) {
+    }
+
+    private static final class Counters {
+        private final String name;
+        private final LongAdder[] totals = new LongAdder[CHANNELS.length];
+        // Totals at each sample, HISTORY rows of one column per channel.
+        private final long[] history = new long[HISTORY * CHANNELS.length];
+
+        private Counters(String name) {
+            this.name = name;
+            for (int i = 0; i < totals.length; i++) {
+                totals[i] = new LongAdder();
+            }
+        }
+
+        private void sample(int slot) {
+            int row = slot * CHANNELS.length;
+            for (int i = 0; i < totals.length; i++) {
+                history[row + i] = totals[i].sum();
+            }
+        }
+
+        private void reset() {
+            for (LongAdder total : totals) {
+                total.reset();
+            }
+        }
+
+        /**
+         * Rate for one channel, or for all per-chicken channels combined when
+         * {@code channel} is {@code null}.
+         */
+        private Rate rate(String label, @Nullable Channel channel) {
+            long total = 0L;
+            for (Channel candidate : CHANNELS) {
+                if (channel == null ? candidate.perChicken : candidate == channel) {
+                    total += totals[candidate.ordinal()].sum();
+                }
+            }
+            String unit = channel != null ? channel.unit : "items";
+            return new Rate(label, unit, total, perMinute(channel, total, 1), perMinute(channel, total, 5),
+                    perMinute(channel, total, 15));
+        }
+
+        private double perMinute(@Nullable Channel channel, long total, int minutes) {
+            long baseTotal = 0L;
+            long baseTick = 0L;
+            // The sample taken just over the window ago; before the first one, fall back to "since start".
+            int index = samples - minutes - 1;
+            if (index >= 0) {
+                int row = (index % HISTORY) * CHANNELS.length;
+                for (Channel candidate : CHANNELS) {
+                    if (channel == null ? candidate.perChicken : candidate == channel) {
+                        baseTotal += history[row + candidate.ordinal()];
+                    }
+                }
+                baseTick = sampleTicks[index % HISTORY];
+            }
+            long elapsed = ticks - baseTick;
+            if (elapsed <= 0L) {
+                return 0.0D;
+            }
+            return (total - baseTotal) * (double) SAMPLE_TICKS / elapsed;
+        }
+    }
+}
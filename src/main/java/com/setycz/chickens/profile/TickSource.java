@@ -0,0 +1,53 @@
+package com.setycz.chickens.profile;
+
+/**
+ * Everything Modern Chickens runs every server tick. Timings are reported per
+ * source so farm reports can say whether roosts, collectors or free-range
+ * chickens are the expensive part.
+ */
+public enum TickSource {
+    ROOST(Kind.BLOCK_ENTITY),
+    BREEDER(Kind.BLOCK_ENTITY),
+    COLLECTOR(Kind.BLOCK_ENTITY),
+    NEST(Kind.BLOCK_ENTITY),
+    INCUBATOR(Kind.BLOCK_ENTITY),
+    FLUX_CONVERTER(Kind.BLOCK_ENTITY),
+    FLUID_CONVERTER(Kind.BLOCK_ENTITY),
+    CHEMICAL_CONVERTER(Kind.BLOCK_ENTITY),
+    DOUSING_MACHINE(Kind.BLOCK_ENTITY),
+    COOP(Kind.BLOCK_ENTITY),
+    CHICKEN(Kind.ENTITY),
+    // Resource laying inside a chicken's tick.
+    LAYING(Kind.SECTION),
+    // Henhouse search inside laying; the most expensive part of a lay.
+    HENHOUSE_LOOKUP(Kind.SECTION);
+
+    /**
+     * Block entity timings belong to a fixed position, entity timings to
+     * wherever the entity was, and sections run inside one of those and are
+     * already counted in its time.
+     */
+    public enum Kind {
+        BLOCK_ENTITY,
+        ENTITY,
+        SECTION
+    }
+
+    private final Kind kind;
+
+    TickSource(Kind kind) {
+        this.kind = kind;
+    }
+
+    public Kind kind() {
+        return kind;
+    }
+
+    /**
+     * Whether this source's time is already part of an enclosing source, so
+     * adding it to a tick total would count it twice.
+     */
+    public boolean isNested() {
+        return kind == Kind.SECTION;
+    }
+}
@@ -0,0 +1,81 @@
+package com.setycz.chickens.profile;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+import net.minecraft.world.level.block.entity.BlockEntityTicker;
+
+import java.util.Arrays;
+
+/**
+ * Times the mod's block entity tickers and chicken entity ticks for whoever is
+ * listening. With no listener registered a timed section costs one volatile
+ * read, so the wrappers stay in place on production servers.
+ */
+public final class TickTimings {
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final Listener[] NONE = new Listener[0];
+    private static volatile Listener[] listeners = NONE;
+
+    private TickTimings() {
+    }
+
+    /**
+     * Receives one timed section on the thread that ran it. Only server-side
+     * work may be timed, so listeners are always called on the server thread;
+     * callers that also run on the client must skip timing there.
+     */
+    @FunctionalInterface
+    public interface Listener {
+        void record(TickSource source, Level level, BlockPos pos, long nanos);
+    }
+
+    public static synchronized void addListener(Listener listener) {
+        Listener[] current = listeners;
+        Listener[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = listener;
+        listeners = updated;
+    }
+
+    public static synchronized void removeListener(Listener listener) {
+        Listener[] current = listeners;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i] == listener) {
+                Listener[] updated = new Listener[current.length - 1];
+                System.arraycopy(current, 0, updated, 0, i);
+                System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                listeners = updated.length == 0 ? NONE : updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Starts a timed section, returning a token for {@link #stop}. Nothing is
+     * measured unless a listener is registered.
+     */
+    public static long start() {
+        return listeners.length == 0 ? DISABLED : System.nanoTime();
+    }
+
+    public static void stop(TickSource source, Level level, BlockPos pos, long start) {
+        if (start == DISABLED) {
+            return;
+        }
+        long nanos = System.nanoTime() - start;
+        for (Listener listener : listeners) {
+            listener.record(source, level, pos, nanos);
+        }
+    }
+
+    /**
+     * Wraps a block entity ticker so each call is reported under {@code source}.
+     */
+    public static <T extends BlockEntity> BlockEntityTicker<T> wrap(TickSource source, BlockEntityTicker<T> ticker) {
+        return (level, pos, state, blockEntity) -> {
+            long start = start();
+            ticker.tick(level, pos, state, blockEntity);
+            stop(source, level, pos, start);
+        };
+    }
+}
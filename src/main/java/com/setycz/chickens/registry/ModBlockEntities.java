@@ -7,6 +7,7 @@ import com.setycz.chickens.blockentity.AvianDousingMachineBlockEntity;
 import com.setycz.chickens.blockentity.AvianFluidConverterBlockEntity;
 import com.setycz.chickens.blockentity.BreederBlockEntity;
 import com.setycz.chickens.blockentity.CollectorBlockEntity;
+import com.setycz.chickens.blockentity.CoopControllerBlockEntity;
 import com.setycz.chickens.blockentity.IncubatorBlockEntity;
 import com.setycz.chickens.blockentity.HenhouseBlockEntity;
 import com.setycz.chickens.blockentity.RoostBlockEntity;
@@ -67,6 +68,10 @@ public final class ModBlockEntities {
             .register("incubator", () -> BlockEntityType.Builder
                     .of(IncubatorBlockEntity::new, ModRegistry.INCUBATOR.get())
                     .build(null));
+    public static final DeferredHolder<BlockEntityType<?>, BlockEntityType<CoopControllerBlockEntity>> COOP_CONTROLLER = BLOCK_ENTITIES
+            .register("coop_controller", () -> BlockEntityType.Builder
+                    .of(CoopControllerBlockEntity::new, ModRegistry.COOP_CONTROLLER.get())
+                    .build(null));
 
     private ModBlockEntities() {
     }
@@ -1,5 +1,6 @@
 package com.setycz.chickens.registry;
 
+import com.setycz.chickens.blockentity.AbstractChickenContainerBlockEntity;
 import com.setycz.chickens.integration.mekanism.MekanismChemicalHelper;
 import com.setycz.chickens.liquidegg.LiquidEggFluidWrapper;
 import net.neoforged.bus.api.IEventBus;
@@ -31,15 +32,16 @@ public final class ModCapabilities {
         // Expose container inventories through the NeoForge capability bridge so
         // automation mods can interact with the roost-style blocks just like the
         // legacy item handler wrappers allowed.
-        registerContainerCapability(event, ModBlockEntities.ROOST.get());
+        registerBufferedCapability(event, ModBlockEntities.ROOST.get());
         registerContainerCapability(event, ModBlockEntities.BREEDER.get());
-        registerContainerCapability(event, ModBlockEntities.COLLECTOR.get());
+        registerBufferedCapability(event, ModBlockEntities.COLLECTOR.get());
         registerContainerCapability(event, ModBlockEntities.HENHOUSE.get());
         registerContainerCapability(event, ModBlockEntities.AVIAN_FLUX_CONVERTER.get());
         registerContainerCapability(event, ModBlockEntities.AVIAN_FLUID_CONVERTER.get());
         registerContainerCapability(event, ModBlockEntities.AVIAN_CHEMICAL_CONVERTER.get());
         registerContainerCapability(event, ModBlockEntities.AVIAN_DOUSING_MACHINE.get());
         registerContainerCapability(event, ModBlockEntities.INCUBATOR.get());
+        registerContainerCapability(event, ModBlockEntities.COOP_CONTROLLER.get());
 
         event.registerBlockEntity(
                 Capabilities.EnergyStorage.BLOCK,
@@ -83,4 +85,17 @@ public final class ModCapabilities {
                 type,
                 (blockEntity, direction) -> new SidedInvWrapper(blockEntity, direction));
     }
+
+    /**
+     * Same as {@link #registerContainerCapability} but also exposes the
+     * container's overflow buffer as extract-only slots.
+     */
+    private static <T extends AbstractChickenContainerBlockEntity> void registerBufferedCapability(
+            RegisterCapabilitiesEvent event,
+            BlockEntityType<T> type) {
+        event.registerBlockEntity(
+                Capabilities.ItemHandler.BLOCK,
+                type,
+                (blockEntity, direction) -> blockEntity.getItemHandler(direction));
+    }
 }
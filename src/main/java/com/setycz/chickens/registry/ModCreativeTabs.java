@@ -52,6 +52,8 @@ public final class ModCreativeTabs {
                         output.accept(ModRegistry.AVIAN_FLUX_CONVERTER_ITEM.get());
                         output.accept(ModRegistry.AVIAN_FLUID_CONVERTER_ITEM.get());
                         output.accept(ModRegistry.INCUBATOR_ITEM.get());
+                        output.accept(ModRegistry.COOP_CASING_ITEM.get());
+                        output.accept(ModRegistry.COOP_CONTROLLER_ITEM.get());
                         for (DeferredItem<BlockItem> item : ModRegistry.getHenhouseItems()) {
                             output.accept(item.get());
                         }
@@ -0,0 +1,38 @@
+package com.setycz.chickens.registry;
+
+import com.setycz.chickens.ChickensMod;
+import com.setycz.chickens.item.EggPayload;
+import com.setycz.chickens.item.FluxCharge;
+import net.minecraft.core.component.DataComponentType;
+import net.minecraft.core.registries.Registries;
+import net.neoforged.bus.api.IEventBus;
+import net.neoforged.neoforge.registries.DeferredHolder;
+import net.neoforged.neoforge.registries.DeferredRegister;
+
+/**
+ * Typed item data components. Values that machines read every tick live here
+ * rather than in {@code minecraft:custom_data} so reads avoid tag copies and
+ * writes replace a single immutable record.
+ */
+public final class ModDataComponents {
+    public static final DeferredRegister<DataComponentType<?>> DATA_COMPONENTS =
+            DeferredRegister.create(Registries.DATA_COMPONENT_TYPE, ChickensMod.MOD_ID);
+
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<FluxCharge>> FLUX_CHARGE =
+            DATA_COMPONENTS.register("flux_charge", () -> DataComponentType.<FluxCharge>builder()
+                    .persistent(FluxCharge.CODEC)
+                    .networkSynchronized(FluxCharge.STREAM_CODEC)
+                    .build());
+    public static final DeferredHolder<DataComponentType<?>, DataComponentType<EggPayload>> EGG_PAYLOAD =
+            DATA_COMPONENTS.register("egg_payload", () -> DataComponentType.<EggPayload>builder()
+                    .persistent(EggPayload.CODEC)
+                    .networkSynchronized(EggPayload.STREAM_CODEC)
+                    .build());
+
+    private ModDataComponents() {
+    }
+
+    public static void init(IEventBus modBus) {
+        DATA_COMPONENTS.register(modBus);
+    }
+}
@@ -14,6 +14,8 @@ import com.setycz.chickens.block.AvianDousingMachineBlock;
 import com.setycz.chickens.block.AvianFluidConverterBlock;
 import com.setycz.chickens.block.BreederBlock;
 import com.setycz.chickens.block.CollectorBlock;
+import com.setycz.chickens.block.CoopCasingBlock;
+import com.setycz.chickens.block.CoopControllerBlock;
 import com.setycz.chickens.block.IncubatorBlock;
 import com.setycz.chickens.block.HenhouseBlock;
 import com.setycz.chickens.block.RoostBlock;
@@ -56,6 +58,7 @@ public final class ModRegistry {
     }
 
     public static void init(IEventBus modBus) {
+        ModDataComponents.init(modBus);
         ITEMS.register(modBus);
         BLOCKS.register(modBus);
         ModEntityTypes.init(modBus);
@@ -92,6 +95,8 @@ public final class ModRegistry {
     public static final DeferredBlock<AvianDousingMachineBlock> AVIAN_DOUSING_MACHINE = BLOCKS.register("avian_dousing_machine",
             () -> new AvianDousingMachineBlock());
     public static final DeferredBlock<IncubatorBlock> INCUBATOR = BLOCKS.register("incubator", () -> new IncubatorBlock());
+    public static final DeferredBlock<CoopCasingBlock> COOP_CASING = BLOCKS.register("coop_casing", () -> new CoopCasingBlock());
+    public static final DeferredBlock<CoopControllerBlock> COOP_CONTROLLER = BLOCKS.register("coop_controller", () -> new CoopControllerBlock());
     // Register the henhouse block and its item form so players can place the storage structure.
     public static final DeferredBlock<HenhouseBlock> HENHOUSE = registerHenhouse("henhouse", MapColor.COLOR_BROWN);
     public static final DeferredBlock<HenhouseBlock> HENHOUSE_SPRUCE = registerHenhouse("henhouse_spruce", MapColor.COLOR_BROWN);
@@ -127,6 +132,10 @@ public final class ModRegistry {
             () -> new BlockItem(AVIAN_DOUSING_MACHINE.get(), new Item.Properties()));
     public static final DeferredItem<BlockItem> INCUBATOR_ITEM = ITEMS.register("incubator",
             () -> new BlockItem(INCUBATOR.get(), new Item.Properties()));
+    public static final DeferredItem<BlockItem> COOP_CASING_ITEM = ITEMS.register("coop_casing",
+            () -> new BlockItem(COOP_CASING.get(), new Item.Properties()));
+    public static final DeferredItem<BlockItem> COOP_CONTROLLER_ITEM = ITEMS.register("coop_controller",
+            () -> new BlockItem(COOP_CONTROLLER.get(), new Item.Properties()));
 
     private static final List<DeferredItem<BlockItem>> HENHOUSE_ITEMS = List.of(
             HENHOUSE_ITEM, HENHOUSE_SPRUCE_ITEM, HENHOUSE_BIRCH_ITEM,
@@ -168,6 +177,8 @@ public final class ModRegistry {
             event.accept(AVIAN_CHEMICAL_CONVERTER_ITEM.get());
             event.accept(AVIAN_DOUSING_MACHINE_ITEM.get());
             event.accept(INCUBATOR_ITEM.get());
+            event.accept(COOP_CASING_ITEM.get());
+            event.accept(COOP_CONTROLLER_ITEM.get());
         } else if (event.getTabKey() == CreativeModeTabs.INGREDIENTS) {
             event.accept(FLUX_EGG.get());
         } else if (event.getTabKey() == CreativeModeTabs.TOOLS_AND_UTILITIES) {
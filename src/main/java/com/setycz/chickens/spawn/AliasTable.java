@@ -0,0 +1,96 @@
+package com.setycz.chickens.spawn;
+
+import net.minecraft.util.RandomSource;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Immutable weighted sampler built with Vose's alias method. Construction is linear in the number of entries and
+ * every draw costs one bounded int and one float regardless of how many breeds share the spawn pool, which keeps
+ * natural spawning flat even when packs generate thousands of chickens.
+ */
+public final class AliasTable<T> {
+    private final Object[] values;
+    private final float[] probability;
+    private final int[] alias;
+
+    private AliasTable(Object[] values, float[] probability, int[] alias) {
+        this.values = values;
+        this.probability = probability;
+        this.alias = alias;
+    }
+
+    /**
+     * Builds a sampler from parallel value/weight lists. Entries with a non-positive weight are skipped so callers can
+     * pass raw tier-derived weights without pre-filtering.
+     */
+    public static <T> AliasTable<T> create(List<T> entries, int[] weights) {
+        if (entries.size() != weights.length) {
+            throw new IllegalArgumentException("Entry and weight counts differ: " + entries.size() + " vs " + weights.length);
+        }
+        int size = 0;
+        long total = 0L;
+        for (int weight : weights) {
+            if (weight > 0) {
+                size++;
+                total += weight;
+            }
+        }
+        Object[] values = new Object[size];
+        double[] scaled = new double[size];
+        int index = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] <= 0) {
+                continue;
+            }
+            values[index] = entries.get(i);
+            scaled[index] = (double) weights[i] * size / total;
+            index++;
+        }
+
+        float[] probability = new float[size];
+        int[] alias = new int[size];
+        Deque<Integer> small = new ArrayDeque<>();
+        Deque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < size; i++) {
+            (scaled[i] < 1.0D ? small : large).push(i);
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0D;
+            (scaled[more] < 1.0D ? small : large).push(more);
+        }
+        // Whatever remains is within rounding error of a full column.
+        while (!large.isEmpty()) {
+            probability[large.pop()] = 1.0F;
+        }
+        while (!small.isEmpty()) {
+            probability[small.pop()] = 1.0F;
+        }
+        return new AliasTable<>(values, probability, alias);
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return values.length == 0;
+    }
+
+    @SuppressWarnings("unchecked")
+    public Optional<T> sample(RandomSource random) {
+        if (values.length == 0) {
+            return Optional.empty();
+        }
+        int column = random.nextInt(values.length);
+        int chosen = random.nextFloat() < probability[column] ? column : alias[column];
+        return Optional.of((T) values[chosen]);
+    }
+}
@@ -1,6 +1,5 @@
 package com.setycz.chickens.spawn;
 
-import com.setycz.chickens.ChickensRegistry;
 import com.setycz.chickens.ChickensRegistryItem;
 import com.setycz.chickens.SpawnType;
 import net.minecraft.ChatFormatting;
@@ -45,7 +44,7 @@ public final class ChickensSpawnDebug {
             return;
         }
         Component name = chicken.getDisplayName();
-        SpawnType spawnType = ChickensRegistry.getSpawnType(level.getBiome(pos));
+        SpawnType spawnType = ChickensSpawnManager.spawnTypeFor(level.getBiome(pos));
         Component message = Component.translatable("debug.chickens.spawn",
                 name,
                 spawnType.name().toLowerCase(),
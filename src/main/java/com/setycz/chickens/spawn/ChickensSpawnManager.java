@@ -7,20 +7,24 @@ import com.setycz.chickens.config.ChickensConfigHolder;
 import com.setycz.chickens.config.ChickensConfigValues;
 import com.setycz.chickens.registry.ModEntityTypes;
 import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.RegistryAccess;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.util.RandomSource;
-import net.minecraft.util.random.WeightedEntry;
-import net.minecraft.util.random.WeightedRandomList;
 import net.minecraft.world.entity.MobCategory;
 import net.minecraft.world.level.biome.Biome;
 import net.minecraft.world.level.biome.MobSpawnSettings;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.ArrayList;
+import java.util.Collections;
 import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Central manager that owns all runtime spawn tuning for Modern Chickens. NeoForge 1.21 lets us keep
@@ -36,7 +40,14 @@ public final class ChickensSpawnManager {
     private static final double NETHER_CHARGE = 0.18D;
     private static final double NETHER_ENERGY = 0.45D;
 
-    private static final Map<SpawnType, SpawnPlan> PLANS = new EnumMap<>(SpawnType.class);
+    private static final SpawnType[] SPAWN_TYPES = SpawnType.values();
+
+    private static volatile Map<SpawnType, SpawnPlan> plans = Collections.emptyMap();
+    // Indexed by SpawnType ordinal so the per-attempt spawn check is a plain array read.
+    private static volatile SpawnRule[] rules = buildRules(Collections.emptyMap());
+    // Biome classification only changes when tags reload, so the three tag probes per attempt are cached per key.
+    private static final Map<ResourceKey<Biome>, SpawnType> BIOME_TYPES = new ConcurrentHashMap<>();
+    private static final SpawnCounters[] COUNTERS = createCounters();
 
     private ChickensSpawnManager() {
     }
@@ -57,14 +68,12 @@ public final class ChickensSpawnManager {
                 continue;
             }
 
-            List<WeightedEntry.Wrapper<ChickensRegistryItem>> weighted = new ArrayList<>();
-            for (ChickensRegistryItem chicken : candidates) {
-                int weight = spawnWeightFor(chicken);
-                if (weight > 0) {
-                    weighted.add(WeightedEntry.wrap(chicken, weight));
-                }
+            int[] weights = new int[candidates.size()];
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] = spawnWeightFor(candidates.get(i));
             }
-            if (weighted.isEmpty()) {
+            AliasTable<ChickensRegistryItem> sampler = AliasTable.create(candidates, weights);
+            if (sampler.isEmpty()) {
                 continue;
             }
 
@@ -104,12 +113,54 @@ public final class ChickensSpawnManager {
                     spawner,
                     charge,
                     energy,
-                    WeightedRandomList.create(weighted)));
+                    sampler));
+        }
+
+        plans = rebuilt;
+        rules = buildRules(rebuilt);
+        LOGGER.debug("Spawn tables rebuilt: {}", rebuilt.keySet());
+    }
+
+    /**
+     * Reclassifies every registered biome against the current tag snapshot. Called from the tag reload hook so the
+     * spawn checks never have to probe biome tags themselves; biomes missing from the registry (direct holders from
+     * worldgen datapacks) are classified lazily on first use.
+     */
+    public static void rebuildBiomeDecisions(RegistryAccess registryAccess) {
+        BIOME_TYPES.clear();
+        Optional<Registry<Biome>> registry = registryAccess.registry(Registries.BIOME);
+        if (registry.isEmpty()) {
+            return;
+        }
+        registry.get().holders().forEach(holder -> BIOME_TYPES.put(holder.key(), ChickensRegistry.getSpawnType(holder)));
+        LOGGER.debug("Classified {} biomes for chicken spawning", BIOME_TYPES.size());
+    }
+
+    private static SpawnRule[] buildRules(Map<SpawnType, SpawnPlan> plans) {
+        boolean overworldEnabled = plans.containsKey(SpawnType.NORMAL)
+                || plans.containsKey(SpawnType.SNOW)
+                || plans.containsKey(SpawnType.END);
+        SpawnRule[] built = new SpawnRule[SPAWN_TYPES.length];
+        for (SpawnType type : SPAWN_TYPES) {
+            SpawnRule rule;
+            if (type == SpawnType.HELL) {
+                rule = plans.containsKey(SpawnType.HELL) ? SpawnRule.SOLID_GROUND : SpawnRule.REJECT;
+            } else if (type == SpawnType.END) {
+                rule = plans.containsKey(SpawnType.END) ? SpawnRule.SOLID_GROUND : SpawnRule.REJECT;
+            } else {
+                rule = overworldEnabled ? SpawnRule.ANIMAL : SpawnRule.REJECT;
+            }
+            built[type.ordinal()] = rule;
         }
+        return built;
+    }
 
-        PLANS.clear();
-        PLANS.putAll(rebuilt);
-        LOGGER.debug("Spawn tables rebuilt: {}", PLANS.keySet());
+    private static SpawnCounters[] createCounters() {
+        SpawnCounters[] counters = new SpawnCounters[SPAWN_TYPES.length];
+        for (SpawnType type : SPAWN_TYPES) {
+            counters[type.ordinal()] = new SpawnCounters();
+        }
+        return counters;
     }
 
     private static int computeSpawnWeight(SpawnType type, ChickensConfigValues config) {
@@ -129,16 +180,66 @@ public final class ChickensSpawnManager {
         return Math.max(1, 8 - Math.min(7, chicken.getTier()));
     }
 
+    /**
+     * Cached equivalent of {@link ChickensRegistry#getSpawnType(Holder)}.
+     */
+    public static SpawnType spawnTypeFor(Holder<Biome> biome) {
+        Optional<ResourceKey<Biome>> key = biome.unwrapKey();
+        if (key.isEmpty()) {
+            return ChickensRegistry.getSpawnType(biome);
+        }
+        SpawnType cached = BIOME_TYPES.get(key.get());
+        if (cached == null) {
+            cached = ChickensRegistry.getSpawnType(biome);
+            BIOME_TYPES.put(key.get(), cached);
+        }
+        return cached;
+    }
+
+    /**
+     * Resolves which placement check applies to the given biome under the current spawn tables.
+     */
+    public static SpawnRule ruleFor(SpawnType type) {
+        return rules[type.ordinal()];
+    }
+
     public static Optional<SpawnPlan> planFor(Holder<Biome> biome) {
-        return planFor(ChickensRegistry.getSpawnType(biome));
+        return planFor(spawnTypeFor(biome));
     }
 
     public static Optional<SpawnPlan> planFor(SpawnType type) {
-        return Optional.ofNullable(PLANS.get(type));
+        return Optional.ofNullable(plans.get(type));
     }
 
     public static boolean hasPlan(SpawnType type) {
-        return PLANS.containsKey(type);
+        return plans.containsKey(type);
+    }
+
+    /**
+     * Records the outcome of a natural spawn placement check so operators can see how often each biome category
+     * accepts or rejects chickens.
+     */
+    public static void recordSpawnCheck(SpawnType type, boolean accepted) {
+        SpawnCounters counters = COUNTERS[type.ordinal()];
+        counters.attempts.increment();
+        (accepted ? counters.accepts : counters.rejects).increment();
+    }
+
+    public static Map<SpawnType, SpawnStats> getSpawnStats() {
+        Map<SpawnType, SpawnStats> snapshot = new EnumMap<>(SpawnType.class);
+        for (SpawnType type : SPAWN_TYPES) {
+            SpawnCounters counters = COUNTERS[type.ordinal()];
+            snapshot.put(type, new SpawnStats(counters.attempts.sum(), counters.accepts.sum(), counters.rejects.sum()));
+        }
+        return snapshot;
+    }
+
+    public static void resetSpawnStats() {
+        for (SpawnCounters counters : COUNTERS) {
+            counters.attempts.reset();
+            counters.accepts.reset();
+            counters.rejects.reset();
+        }
     }
 
     public static Optional<ChickensRegistryItem> pickChicken(Holder<Biome> biome, RandomSource random) {
@@ -154,16 +255,37 @@ public final class ChickensSpawnManager {
     }
 
     /**
-     * Immutable snapshot of the spawn metadata for a biome category. Consumers can reuse the pooled weighted list when
+     * Placement check selected for a biome category once the spawn tables are known.
+     */
+    public enum SpawnRule {
+        REJECT,
+        SOLID_GROUND,
+        ANIMAL
+    }
+
+    /**
+     * Point-in-time totals for one spawn category.
+     */
+    public record SpawnStats(long attempts, long accepts, long rejects) {
+    }
+
+    private static final class SpawnCounters {
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder accepts = new LongAdder();
+        private final LongAdder rejects = new LongAdder();
+    }
+
+    /**
+     * Immutable snapshot of the spawn metadata for a biome category. Consumers can reuse the pooled alias table when
      * assigning chicken breeds rather than recomputing tiers every time a chunk spawns creatures.
      */
     public record SpawnPlan(SpawnType spawnType,
                             MobSpawnSettings.SpawnerData spawnerData,
                             double spawnCharge,
                             double energyBudget,
-                            WeightedRandomList<WeightedEntry.Wrapper<ChickensRegistryItem>> chickens) {
+                            AliasTable<ChickensRegistryItem> chickens) {
         public Optional<ChickensRegistryItem> pick(RandomSource random) {
-            return chickens.getRandom(random).map(WeightedEntry.Wrapper::data);
+            return chickens.sample(random);
         }
 
         public MobCategory category() {